@@ -0,0 +1,105 @@
+package com.example.autotradebot.benchmark;
+
+import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.dto.BinanceAccountDto;
+import com.example.autotradebot.dto.BinanceOrderBookDto;
+import com.example.autotradebot.dto.BinanceOrderDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이낸스 응답 역직렬화 벤치마크
+ * <p>
+ * WebClient 디코더와 같은 바이낸스 전용 ObjectMapper로 호가(depth 100단계), 주문, 계정(자산 3개, 포지션 200개) 응답을 읽습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonDecodingBenchmark {
+
+    private ObjectReader orderBookReader;
+    private ObjectReader orderReader;
+    private ObjectReader accountReader;
+
+    private byte[] depthPayload;
+    private byte[] orderPayload;
+    private byte[] accountPayload;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new BinanceConfig(null, null, 0).getBinanceObjectMapper();
+        orderBookReader = objectMapper.readerFor(BinanceOrderBookDto.class);
+        orderReader = objectMapper.readerFor(BinanceOrderDto.class);
+        accountReader = objectMapper.readerFor(BinanceAccountDto.class);
+
+        depthPayload = depth(100).getBytes(StandardCharsets.UTF_8);
+        orderPayload = ("{\"orderId\":4051238921,\"symbol\":\"BTCUSDT\",\"status\":\"NEW\",\"clientOrderId\":\"x-7GbZlqkQ8a1b2c3d\","
+                + "\"price\":\"84211.40\",\"avgPrice\":\"0.00\",\"origQty\":\"0.013\",\"executedQty\":\"0\",\"cumQty\":\"0\","
+                + "\"cumQuote\":\"0\",\"timeInForce\":\"GTC\",\"type\":\"LIMIT\",\"reduceOnly\":false,\"closePosition\":false,"
+                + "\"side\":\"BUY\",\"positionSide\":\"BOTH\",\"stopPrice\":\"0\",\"workingType\":\"CONTRACT_PRICE\","
+                + "\"priceProtect\":false,\"origType\":\"LIMIT\",\"priceMatch\":\"NONE\",\"selfTradePreventionMode\":\"NONE\","
+                + "\"goodTillDate\":0,\"updateTime\":1742000000123}").getBytes(StandardCharsets.UTF_8);
+        accountPayload = account(200).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public BinanceOrderBookDto decodeDepth() throws IOException {
+        return orderBookReader.readValue(depthPayload);
+    }
+
+    @Benchmark
+    public BinanceOrderDto decodeOrder() throws IOException {
+        return orderReader.readValue(orderPayload);
+    }
+
+    @Benchmark
+    public BinanceAccountDto decodeAccount() throws IOException {
+        return accountReader.readValue(accountPayload);
+    }
+
+    private static String depth(int levels) {
+        StringBuilder json = new StringBuilder("{\"lastUpdateId\":6012354811234,\"E\":1742000000120,\"T\":1742000000115,\"bids\":[");
+        for (int i = 0; i < levels; i++) {
+            json.append(i == 0 ? "" : ",").append("[\"").append(String.format(Locale.ROOT, "%.1f", 84211.4 - i * 0.1))
+                    .append("\",\"").append(String.format(Locale.ROOT, "%.3f", 0.125 + i * 0.011)).append("\"]");
+        }
+        json.append("],\"asks\":[");
+        for (int i = 0; i < levels; i++) {
+            json.append(i == 0 ? "" : ",").append("[\"").append(String.format(Locale.ROOT, "%.1f", 84211.5 + i * 0.1))
+                    .append("\",\"").append(String.format(Locale.ROOT, "%.3f", 0.210 + i * 0.007)).append("\"]");
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String account(int positions) {
+        StringBuilder json = new StringBuilder("{\"feeTier\":0,\"canTrade\":true,\"canDeposit\":true,\"canWithdraw\":true,"
+                + "\"updateTime\":0,\"multiAssetsMargin\":false,\"totalWalletBalance\":\"10234.51230000\","
+                + "\"availableBalance\":\"9012.11230000\",\"assets\":[");
+        String[] assets = {"USDT", "USDC", "BNB"};
+        for (int i = 0; i < assets.length; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"asset\":\"").append(assets[i])
+                    .append("\",\"walletBalance\":\"10234.51230000\",\"unrealizedProfit\":\"0.00000000\","
+                            + "\"marginBalance\":\"10234.51230000\",\"maintMargin\":\"0.00000000\",\"initialMargin\":\"1222.40000000\","
+                            + "\"positionInitialMargin\":\"1222.40000000\",\"openOrderInitialMargin\":\"0.00000000\","
+                            + "\"crossWalletBalance\":\"10234.51230000\",\"crossUnPnl\":\"0.00000000\","
+                            + "\"availableBalance\":\"9012.11230000\",\"maxWithdrawAmount\":\"9012.11230000\","
+                            + "\"marginAvailable\":true,\"updateTime\":1742000000000}");
+        }
+        json.append("],\"positions\":[");
+        for (int i = 0; i < positions; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"symbol\":\"SYM").append(i)
+                    .append("USDT\",\"initialMargin\":\"0\",\"maintMargin\":\"0\",\"unrealizedProfit\":\"0.00000000\","
+                            + "\"positionInitialMargin\":\"0\",\"openOrderInitialMargin\":\"0\",\"leverage\":\"20\","
+                            + "\"isolated\":false,\"entryPrice\":\"0.0\",\"breakEvenPrice\":\"0.0\",\"maxNotional\":\"25000\","
+                            + "\"positionSide\":\"BOTH\",\"positionAmt\":\"0\",\"notional\":\"0\",\"isolatedWallet\":\"0\","
+                            + "\"updateTime\":0,\"bidNotional\":\"0\",\"askNotional\":\"0\"}");
+        }
+        return json.append("]}").toString();
+    }
+}
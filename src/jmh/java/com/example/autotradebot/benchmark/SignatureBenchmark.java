@@ -0,0 +1,95 @@
+package com.example.autotradebot.benchmark;
+
+import com.example.autotradebot.manager.BinanceSignerManager;
+import com.example.autotradebot.util.BinanceQueryBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Formatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 요청 서명 경로 벤치마크
+ * <p>
+ * legacy*: 기존 BinanceService 구현 (요청마다 Mac.getInstance + init, HashMap 스트림, Formatter hex 인코딩)
+ * cached*: BinanceSignerManager(Mac clone) + BinanceQueryBuilder(풀 재사용) + HexUtils
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SignatureBenchmark {
+
+    private static final String API_KEY = "vmPUZE6mv9SD5VNHk4HlWFsOr6aKE2zvsw0MuIgwCIPy6utIco14y7Ju91duEh8A";
+    private static final String SECRET_KEY = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+    private BinanceSignerManager signerManager;
+    private Map<String, Object> orderParams;
+    private long timestamp;
+
+    @Setup
+    public void setup() {
+        signerManager = new BinanceSignerManager();
+        orderParams = new LinkedHashMap<>();
+        orderParams.put("symbol", "BTCUSDT");
+        orderParams.put("side", "BUY");
+        orderParams.put("quantity", new BigDecimal("0.013"));
+        orderParams.put("price", new BigDecimal("84211.40"));
+        orderParams.put("reduceOnly", "false");
+        orderParams.put("type", "LIMIT");
+        orderParams.put("positionSide", "BOTH");
+        orderParams.put("timeInForce", "GTC");
+        timestamp = 1_742_000_000_000L;
+    }
+
+    @Benchmark
+    public String legacyQueryString() {
+        Map<String, Object> params = new HashMap<>(orderParams);
+        params.put("timestamp", timestamp);
+        return params.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining("&"));
+    }
+
+    @Benchmark
+    public String cachedQueryString() {
+        BinanceQueryBuilder query = BinanceQueryBuilder.acquire();
+        orderParams.forEach(query::add);
+        String queryString = query.add("timestamp", timestamp).toQueryString();
+        query.release();
+        return queryString;
+    }
+
+    @Benchmark
+    public String legacySignedRequest() throws Exception {
+        String queryString = legacyQueryString();
+        Mac sha256Hmac = Mac.getInstance("HmacSHA256");
+        sha256Hmac.init(new SecretKeySpec(SECRET_KEY.getBytes(), "HmacSHA256"));
+        byte[] hash = sha256Hmac.doFinal(queryString.getBytes(StandardCharsets.UTF_8));
+
+        Formatter formatter = new Formatter();
+        for (byte b : hash) {
+            formatter.format("%02x", b);
+        }
+        String signature = formatter.toString();
+        formatter.close();
+        return queryString + "&signature=" + signature;
+    }
+
+    @Benchmark
+    public String cachedSignedRequest() {
+        BinanceQueryBuilder query = BinanceQueryBuilder.acquire();
+        orderParams.forEach(query::add);
+        query.add("timestamp", timestamp);
+        String signature = signerManager.sign(query, API_KEY, SECRET_KEY);
+        String queryString = query.add("signature", signature).toQueryString();
+        query.release();
+        return queryString;
+    }
+}
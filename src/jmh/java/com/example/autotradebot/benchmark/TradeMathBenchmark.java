@@ -0,0 +1,75 @@
+package com.example.autotradebot.benchmark;
+
+import com.example.autotradebot.dto.BinanceSymbolFilterDto;
+import com.example.autotradebot.service.OrderTradeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 가격/수량 계산 벤치마크 (OrderTradeService.tradeAsync의 호가 → 주문 사이 구간)
+ * <p>
+ * tickSize 가격 보정, 진입 수량 계산(수수료, 레버리지, stepSize 내림), 사전 검증에 쓰이는 스케일 계산,
+ * 포지션 종료 금액 계산을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TradeMathBenchmark {
+
+    private BinanceSymbolFilterDto filter;
+    private BigDecimal amount;
+    private BigInteger leverage;
+    private BigDecimal signalPrice;
+    private BigDecimal quantity;
+    private int stepSize;
+
+    @Setup
+    public void setup() {
+        filter = BinanceSymbolFilterDto.builder()
+                .symbol("BTCUSDT")
+                .status("TRADING")
+                .pricePrecision(2)
+                .quantityPrecision(3)
+                .minPrice(new BigDecimal("261.10"))
+                .maxPrice(new BigDecimal("809484"))
+                .tickSize(new BigDecimal("0.10"))
+                .minQty(new BigDecimal("0.001"))
+                .maxQty(new BigDecimal("1000"))
+                .stepSize(new BigDecimal("0.001"))
+                .marketMinQty(new BigDecimal("0.001"))
+                .marketMaxQty(new BigDecimal("120"))
+                .marketStepSize(new BigDecimal("0.001"))
+                .minNotional(new BigDecimal("100"))
+                .build();
+        amount = new BigDecimal("250.75");
+        leverage = BigInteger.valueOf(20);
+        signalPrice = new BigDecimal("84211.437");
+        quantity = new BigDecimal("0.058");
+        stepSize = filter.getQuantityScale();
+    }
+
+    @Benchmark
+    public BigDecimal roundPrice() {
+        return filter.roundPrice(signalPrice, RoundingMode.FLOOR);
+    }
+
+    @Benchmark
+    public BigDecimal openQuantity() {
+        BigDecimal price = filter.roundPrice(signalPrice, RoundingMode.FLOOR);
+        return OrderTradeService.calculateOpenQuantity(amount, leverage, price, stepSize, filter);
+    }
+
+    @Benchmark
+    public int quantityScale() {
+        return filter.getQuantityScale();
+    }
+
+    @Benchmark
+    public BigDecimal exitBalance() {
+        return OrderTradeService.calculateExitBalance(quantity, signalPrice, leverage);
+    }
+}
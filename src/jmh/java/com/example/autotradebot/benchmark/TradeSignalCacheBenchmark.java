@@ -0,0 +1,82 @@
+package com.example.autotradebot.benchmark;
+
+import com.example.autotradebot.dto.TradeSignalDto;
+import com.example.autotradebot.enums.TradePosition;
+import com.example.autotradebot.manager.TradeSignalCacheManager;
+import com.example.autotradebot.manager.TradeSignalListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 트레이드 신호 캐시 경합 벤치마크
+ * <p>
+ * 신호 수신 스레드(put)와 트레이드 스케줄러(스냅샷 순회)가 같은 캐시를 동시에 사용하는 상황을 그룹 벤치마크로 측정합니다.
+ * (writer 2 스레드 : reader 2 스레드, 심볼 200개)
+ * <p>
+ * put은 심볼마다 내용이 다른 신호 두 개를 번갈아 저장하므로, 매번 새 버전을 부여하는 쓰기 경로(리스너 조회 포함, 등록된 리스너는 없음)를 측정합니다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TradeSignalCacheBenchmark {
+
+    private static final int SYMBOLS = 200;
+
+    private TradeSignalCacheManager cacheManager;
+    private String[] symbols;
+    private TradeSignalDto[] longSignals;
+    private TradeSignalDto[] shortSignals;
+
+    @Setup
+    public void setup() {
+        cacheManager = new TradeSignalCacheManager(new StaticListableBeanFactory().getBeanProvider(TradeSignalListener.class),
+                new SimpleMeterRegistry());
+        symbols = new String[SYMBOLS];
+        longSignals = new TradeSignalDto[SYMBOLS];
+        shortSignals = new TradeSignalDto[SYMBOLS];
+        for (int i = 0; i < SYMBOLS; i++) {
+            symbols[i] = "SYM" + i + "USDT";
+            longSignals[i] = signal(symbols[i], TradePosition.LONG);
+            shortSignals[i] = signal(symbols[i], TradePosition.SHORT);
+            cacheManager.putTradeSignal(symbols[i], longSignals[i]);
+        }
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void put() {
+        int index = ThreadLocalRandom.current().nextInt(SYMBOLS);
+        // 현재 저장된 신호와 다른 신호를 저장하여 버전 증가 경로를 측정합니다.
+        TradeSignalDto next = TradePosition.LONG.equals(cacheManager.getTradeSignal(symbols[index]).getPosition())
+                ? shortSignals[index]
+                : longSignals[index];
+        cacheManager.putTradeSignal(symbols[index], next);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(2)
+    public void iterate(Blackhole blackhole) {
+        for (Map.Entry<String, TradeSignalDto> entry : cacheManager.snapshot().entrySet()) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    private static TradeSignalDto signal(String symbol, TradePosition position) {
+        return TradeSignalDto.builder()
+                .symbol(symbol)
+                .entryPrice(new BigDecimal("1.2345"))
+                .position(position)
+                .leverage(BigInteger.TEN)
+                .build();
+    }
+}
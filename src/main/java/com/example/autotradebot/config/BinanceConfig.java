@@ -1,30 +1,73 @@
 package com.example.autotradebot.config;
 
+import com.example.autotradebot.manager.BinanceRateLimitManager;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 @Configuration
 public class BinanceConfig {
 
     private Logger logger = LoggerFactory.getLogger(BinanceConfig.class);
     private final EnvConfig envConfig;
+    private final BinanceRateLimitManager binanceRateLimitManager;
+    private final int warmupConnections;
+
+    private static final String PING_ENDPOINT = "/fapi/v1/ping";
 
     @Autowired
-    public BinanceConfig(EnvConfig envConfig) {
+    public BinanceConfig(EnvConfig envConfig,
+                         BinanceRateLimitManager binanceRateLimitManager,
+                         @Value("${exchange.http.warmup-connections:4}") int warmupConnections) {
         this.envConfig = envConfig;
+        this.binanceRateLimitManager = binanceRateLimitManager;
+        this.warmupConnections = warmupConnections;
     }
 
+    /**
+     * 바이낸스 응답 전용 ObjectMapper
+     * 응답 DTO에 없는 필드는 객체를 만들지 않고 건너뛰며, 숫자는 BigDecimal로 정밀도를 유지합니다.
+     * (애플리케이션 기본 ObjectMapper를 대체하지 않도록 Bean으로 등록하지 않습니다.)
+     */
+    private final ObjectMapper binanceObjectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
     public ExchangeStrategies strategies = ExchangeStrategies.builder()
-            .codecs(configurer ->
-                    configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024))
+            .codecs(configurer -> {
+                configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(binanceObjectMapper));
+                configurer.defaultCodecs().maxInMemorySize(16 * 1024 * 1024);
+            })
             .build();
 
+    public ObjectMapper getBinanceObjectMapper() {
+        return binanceObjectMapper;
+    }
+
 
-    public WebClient binanceApiClient() {
+    /**
+     * 바이낸스 REST 클라이언트 (BinanceService, BinanceTimeSyncManager 등이 공유)
+     * 커넥션 풀, 타임아웃 등 네트워크 설정은 ExchangeHttpClientConfig의 공용 커넥터를 따릅니다.
+     */
+    @Bean
+    public WebClient binanceApiClient(ReactorClientHttpConnector exchangeHttpConnector) {
         String endpoint = envConfig.getBinanceApiEndpoint();
 
         if (endpoint == null || endpoint.isEmpty()) {
@@ -34,8 +77,34 @@ public class BinanceConfig {
 
         return WebClient.builder()
                 .baseUrl(endpoint)
+                .clientConnector(exchangeHttpConnector)
                 .exchangeStrategies(strategies)
+                .filter(binanceRateLimitManager.filter()) // 모든 요청은 요청 한도 관리자를 거칩니다.
                 .build();
     }
-}
 
+    /**
+     * 애플리케이션 기동 후 바이낸스 커넥션을 미리 열어둡니다.
+     * 동시에 ping을 보내 첫 주문 요청이 TCP/TLS 핸드셰이크 비용을 부담하지 않도록 합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpBinanceConnections(ApplicationReadyEvent event) {
+        if (warmupConnections <= 0) {
+            return;
+        }
+        WebClient webClient = event.getApplicationContext().getBean("binanceApiClient", WebClient.class);
+
+        Flux.range(0, warmupConnections)
+                .flatMap(i -> webClient.get()
+                        .uri(PING_ENDPOINT)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .timeout(Duration.ofSeconds(5))
+                        .onErrorResume(e -> {
+                            logger.warn("⚠️ 바이낸스 커넥션 예열 실패: {}", e.getMessage());
+                            return Mono.empty();
+                        }), warmupConnections)
+                .count()
+                .subscribe(count -> logger.info("✅ 바이낸스 커넥션 예열 완료: {}/{}", count, warmupConnections));
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.autotradebot.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.sql.DataSource;
+import java.time.Duration;
 
 @Configuration
 public class DatabaseConfig {
@@ -26,10 +30,27 @@ public class DatabaseConfig {
         this.envConfig = envConfig;
     }
 
+    /**
+     * HikariCP 커넥션 풀
+     * <p>
+     * spring.datasource.hikari.* 설정(풀 크기, 타임아웃 등)이 그대로 적용되며, 접속 정보는 환경 변수에서 읽습니다.
+     * MySQL 드라이버의 서버 측 Prepared Statement와 Statement 캐시를 기본으로 켭니다.
+     * (spring.datasource.hikari.data-source-properties.* 로 덮어쓸 수 있습니다.)
+     */
     @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
         dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        dataSource.addDataSourceProperty("useServerPrepStmts", "true"); // 서버 측 Prepared Statement 사용
+        dataSource.addDataSourceProperty("cachePrepStmts", "true"); // 커넥션별 Prepared Statement 캐시
+        dataSource.addDataSourceProperty("prepStmtCacheSize", "250"); // 커넥션별 캐시할 Statement 수
+        dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048"); // 캐시할 SQL 최대 길이 (일괄 조회 쿼리 포함)
+        dataSource.addDataSourceProperty("cacheResultSetMetadata", "true");
+        dataSource.addDataSourceProperty("cacheServerConfiguration", "true");
+        dataSource.addDataSourceProperty("useLocalSessionState", "true");
+        dataSource.addDataSourceProperty("elideSetAutoCommits", "true");
+        dataSource.addDataSourceProperty("maintainTimeStats", "false");
 
         String dbUrl = envConfig.getDbUrl();
         String dbUsername = envConfig.getDbUsername();
@@ -53,7 +74,7 @@ public class DatabaseConfig {
             logger.info("✅ DB_URL 로드 성공: {}", dbUrl);
         }
 
-        dataSource.setUrl(dbUrl);
+        dataSource.setJdbcUrl(dbUrl);
         dataSource.setUsername(dbUsername);
         dataSource.setPassword(dbPassword);
 
@@ -61,10 +82,17 @@ public class DatabaseConfig {
     }
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) {
+    public MyBatisMetricsInterceptor myBatisMetricsInterceptor(MeterRegistry meterRegistry,
+                                                               @Value("${trade.latency.percentile-expiry-ms:120000}") long percentileExpiryMs) {
+        return new MyBatisMetricsInterceptor(meterRegistry, Duration.ofMillis(percentileExpiryMs));
+    }
+
+    @Bean
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource, MyBatisMetricsInterceptor myBatisMetricsInterceptor) {
         try {
             SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
             factoryBean.setDataSource(dataSource);
+            factoryBean.setPlugins(myBatisMetricsInterceptor); // 쿼리별 실행 시간/행 수 지표
 
             // MyBatis Mapper XML 파일 로드
             Resource[] resources = new PathMatchingResourcePatternResolver()
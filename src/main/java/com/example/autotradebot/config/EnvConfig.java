@@ -57,6 +57,11 @@ public class EnvConfig {
         return getEnvVariable("BINANCE_API_ENDPOINT");
     }
 
+    @Bean
+    public String getBinanceWsEndpoint() {
+        return getEnvVariable("BINANCE_WS_ENDPOINT");
+    }
+
 
     private String getEnvVariable(String key) {
         String value = dotenv.get(key);
@@ -0,0 +1,96 @@
+package com.example.autotradebot.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래소 REST 클라이언트가 공유하는 Reactor Netty HTTP 클라이언트 설정
+ * <p>
+ * WebClient마다 기본 커넥션 풀을 새로 만들지 않고, 크기와 유휴/수명 정책이 정해진
+ * "exchange" 커넥션 풀 하나를 모든 거래소 클라이언트(BinanceService 등)가 함께 사용합니다.
+ * 풀 메트릭은 Micrometer로 노출됩니다. (reactor.netty.connection.provider.*)
+ */
+@Configuration
+public class ExchangeHttpClientConfig {
+
+    private Logger logger = LoggerFactory.getLogger(ExchangeHttpClientConfig.class);
+
+    private static final String POOL_NAME = "exchange";
+
+    /**
+     * 거래소 요청용 커넥션 풀
+     * <p>
+     * 유휴 커넥션은 maxIdleTime 이후, 모든 커넥션은 maxLifeTime 이후 백그라운드에서 정리되므로
+     * 거래소 측에서 먼저 끊은 커넥션을 재사용하다 실패하는 경우를 줄입니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider exchangeConnectionProvider(
+            @Value("${exchange.http.max-connections:100}") int maxConnections,
+            @Value("${exchange.http.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${exchange.http.max-life-time-ms:300000}") long maxLifeTimeMs,
+            @Value("${exchange.http.evict-interval-ms:10000}") long evictIntervalMs,
+            @Value("${exchange.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${exchange.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount) {
+        logger.info("✅ 거래소 커넥션 풀 생성: maxConnections={}, maxIdleTime={}ms, maxLifeTime={}ms",
+                maxConnections, maxIdleTimeMs, maxLifeTimeMs);
+
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .lifo() // 최근 사용한 커넥션을 우선 재사용하여 나머지는 유휴 상태로 정리되도록 합니다.
+                .metrics(true) // active, idle, pending, 커넥션 획득 시간(pending.connections.time)
+                .build();
+    }
+
+    /**
+     * 거래소 요청용 HTTP 클라이언트
+     * <p>
+     * 응답 헤더까지는 responseTimeout, 이후 본문 수신과 요청 전송은 Read/WriteTimeoutHandler로 제한합니다.
+     * 타임아웃 핸들러는 요청마다 추가되고 커넥션 반납 시 제거되므로 풀에서 재사용되는 커넥션에도 적용됩니다.
+     */
+    @Bean
+    public HttpClient exchangeHttpClient(
+            ConnectionProvider exchangeConnectionProvider,
+            @Value("${exchange.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${exchange.http.response-timeout-ms:10000}") long responseTimeoutMs,
+            @Value("${exchange.http.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${exchange.http.write-timeout-ms:10000}") long writeTimeoutMs) {
+        return HttpClient.create(exchangeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.TCP_NODELAY, true)   // 작은 주문 요청이 Nagle 지연 없이 바로 전송되도록 합니다.
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnRequest((request, connection) ->
+                        connection.addHandlerLast(new WriteTimeoutHandler(writeTimeoutMs, TimeUnit.MILLISECONDS)))
+                .doOnResponse((response, connection) ->
+                        connection.addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)))
+                .compress(true);
+    }
+
+    /**
+     * 거래소 WebClient에 연결할 커넥터 (모든 거래소 WebClient가 동일한 풀을 공유합니다.)
+     */
+    @Bean
+    public ReactorClientHttpConnector exchangeHttpConnector(HttpClient exchangeHttpClient) {
+        // 이벤트 루프, DNS 리졸버 등을 첫 요청 전에 미리 초기화합니다.
+        exchangeHttpClient.warmup().block();
+        return new ReactorClientHttpConnector(exchangeHttpClient);
+    }
+}
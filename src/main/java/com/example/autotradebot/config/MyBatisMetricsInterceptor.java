@@ -0,0 +1,144 @@
+package com.example.autotradebot.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 쿼리 지표 수집 인터셉터
+ * <p>
+ * 매핑된 쿼리(statement id)별로 실행 시간(mybatis.statement), 조회/변경 행 수(mybatis.statement.rows),
+ * 실패 수(mybatis.statement.errors)를 기록합니다. (statement 태그: "UserSettingMapper.selectAllUserSettingsBySymbol" 형식)
+ * ResultHandler로 스트리밍하는 조회는 핸들러에 전달된 행 수를 셉니다.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class MyBatisMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration percentileExpiry;
+
+    /**
+     * statement id별 지표
+     */
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    public MyBatisMetricsInterceptor(MeterRegistry meterRegistry, Duration percentileExpiry) {
+        this.meterRegistry = meterRegistry;
+        this.percentileExpiry = percentileExpiry;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement mappedStatement = (MappedStatement) args[0];
+        StatementMeters statementMeters = meters(mappedStatement);
+
+        CountingResultHandler countingHandler = null;
+        if (args.length == 4 && args[3] != null) {
+            countingHandler = new CountingResultHandler((ResultHandler) args[3]);
+            args[3] = countingHandler;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            statementMeters.timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+            if (countingHandler != null) {
+                statementMeters.rows.record(countingHandler.count);
+            } else if (result instanceof Collection<?> rows) {
+                statementMeters.rows.record(rows.size());
+            } else if (result instanceof Integer affected) {
+                statementMeters.rows.record(affected);
+            }
+            return result;
+        } catch (Throwable e) {
+            statementMeters.timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            statementMeters.errors.increment();
+            throw e;
+        }
+    }
+
+    private StatementMeters meters(MappedStatement mappedStatement) {
+        String id = mappedStatement.getId();
+        StatementMeters statementMeters = meters.get(id);
+        if (statementMeters != null) {
+            return statementMeters;
+        }
+        return meters.computeIfAbsent(id, key -> new StatementMeters(shortId(key), mappedStatement.getSqlCommandType().name()));
+    }
+
+    /**
+     * "com.example.autotradebot.mapper.UserSettingMapper.selectAllUserSettingsBySymbol" → "UserSettingMapper.selectAllUserSettingsBySymbol"
+     */
+    private static String shortId(String id) {
+        int methodDot = id.lastIndexOf('.');
+        int mapperDot = methodDot > 0 ? id.lastIndexOf('.', methodDot - 1) : -1;
+        return mapperDot >= 0 ? id.substring(mapperDot + 1) : id;
+    }
+
+    private class StatementMeters {
+        private final Timer timer;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+        private StatementMeters(String statement, String command) {
+            this.timer = Timer.builder("mybatis.statement")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .description("MyBatis 쿼리 실행 시간")
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .publishPercentileHistogram()
+                    .distributionStatisticExpiry(percentileExpiry)
+                    .distributionStatisticBufferLength(3)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder("mybatis.statement.rows")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .description("MyBatis 쿼리 조회/변경 행 수")
+                    .register(meterRegistry);
+            this.errors = Counter.builder("mybatis.statement.errors")
+                    .tag("statement", statement)
+                    .tag("command", command)
+                    .description("MyBatis 쿼리 실패 수")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static class CountingResultHandler<T> implements ResultHandler<T> {
+        private final ResultHandler<T> delegate;
+        private long count;
+
+        private CountingResultHandler(ResultHandler<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends T> resultContext) {
+            count++;
+            delegate.handleResult(resultContext);
+        }
+    }
+}
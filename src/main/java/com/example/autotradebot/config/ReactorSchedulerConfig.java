@@ -0,0 +1,71 @@
+package com.example.autotradebot.config;
+
+import com.example.autotradebot.util.BoundedVirtualThreadExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactorSchedulerConfig {
+
+    private Logger logger = LoggerFactory.getLogger(ReactorSchedulerConfig.class);
+
+    private static final String EXECUTOR_MODE_VIRTUAL = "virtual";
+
+    /**
+     * 리액티브 파이프라인에서 블로킹 DB(MyBatis) 작업을 실행할 전용 스케줄러
+     * <p>
+     * Netty I/O 스레드나 ForkJoin 공용 풀에서 JDBC 호출이 실행되지 않도록 분리합니다.
+     * 사용자별 트레이드/주문 보정 작업(DB 조회 + 블로킹 바이낸스 호출)도 이 스케줄러에서 실행됩니다.
+     * <ul>
+     *     <li>platform (기본): 플랫폼 스레드 boundedElastic, 스레드 수는 커넥션 풀 크기에 맞춰 제한</li>
+     *     <li>virtual: 작업마다 가상 스레드를 사용하고 동시 실행 수만 trade.executor.max-concurrency로 제한합니다.
+     *     블로킹 대기 중에는 캐리어 스레드를 점유하지 않으므로 사용자별 작업이 CPU 수가 아닌 I/O 대기에 맞춰 확장됩니다.
+     *     (실행 중/대기 작업 수: trade.executor.active, trade.executor.queued)</li>
+     * </ul>
+     * virtual 모드 주의 사항
+     * <ul>
+     *     <li>JDBC 드라이버가 synchronized 블록 안에서 소켓 I/O를 하면 가상 스레드가 캐리어 스레드에 고정(pinning)됩니다.
+     *     mysql-connector-j 9.x는 내부 잠금이 ReentrantLock이라 고정되지 않으며, 8.0.x 드라이버에서는 virtual 모드를 사용하지 않습니다.</li>
+     *     <li>모든 작업이 DB 커넥션을 사용하므로 동시 실행 수는 기본값을 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size)로 두고,
+     *     풀보다 크게 설정하면 초과 작업은 커넥션 대기(connection-timeout)로 실패할 수 있어 경고합니다.</li>
+     *     <li>trade.max-concurrency는 심볼 하나를 처리할 때 동시에 진행하는 사용자 트레이드 수(flatMap)이고,
+     *     이 값은 모든 심볼/보정 작업을 합친 전역 실행 한도입니다. 실제 동시 실행 수는 두 값 중 작은 쪽을 넘지 않습니다.</li>
+     * </ul>
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler dbScheduler(MeterRegistry meterRegistry,
+                                 @Value("${trade.executor.mode:platform}") String executorMode,
+                                 @Value("${trade.executor.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+                                 @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                                 @Value("${trade.db-scheduler.thread-cap:50}") int threadCap,
+                                 @Value("${trade.db-scheduler.queued-task-cap:10000}") int queuedTaskCap) {
+        if (EXECUTOR_MODE_VIRTUAL.equals(executorMode)) {
+            if (maxConcurrency > connectionPoolSize) {
+                logger.warn("⚠ trade.executor.max-concurrency({})가 커넥션 풀 크기({})보다 큽니다. 초과 작업은 커넥션을 기다립니다.",
+                        maxConcurrency, connectionPoolSize);
+            }
+            logger.info("✅ DB 스케줄러 생성 (가상 스레드): maxConcurrency={}, queuedTaskCap={}", maxConcurrency, queuedTaskCap);
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("db-vt-", maxConcurrency, queuedTaskCap);
+
+            Gauge.builder("trade.executor.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                    .tag("scheduler", "db")
+                    .description("가상 스레드 실행기에서 실행 중인 작업 수")
+                    .register(meterRegistry);
+            Gauge.builder("trade.executor.queued", executor, BoundedVirtualThreadExecutor::getQueuedCount)
+                    .tag("scheduler", "db")
+                    .description("동시 실행 한도로 대기 중인 작업 수")
+                    .register(meterRegistry);
+            return Schedulers.fromExecutorService(executor, "db");
+        }
+
+        logger.info("✅ DB 스케줄러 생성: threadCap={}, queuedTaskCap={}", threadCap, queuedTaskCap);
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "db");
+    }
+}
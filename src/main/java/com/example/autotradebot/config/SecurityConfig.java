@@ -1,5 +1,8 @@
 package com.example.autotradebot.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +15,12 @@ import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Actuator 전용 포트 (management.server.address로 localhost에만 바인딩, 미설정 시 -1)
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -20,6 +29,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 미사용
                 .authorizeHttpRequests(authz -> authz
                         .requestMatchers(new AntPathRequestMatcher("/api/**")).permitAll() // 특정 경로 허용
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll() // 헬스 체크 허용
+                        .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                                && EndpointRequest.toAnyEndpoint().matches(request)).permitAll() // 메트릭 등은 localhost 전용 포트에서만 허용
                         .anyRequest().authenticated() // 나머지 요청은 인증 필요
                 )
                 .headers(headers -> headers.disable()); // 모든 보안 헤더 비활성화 (H2 콘솔 등 사용 시)
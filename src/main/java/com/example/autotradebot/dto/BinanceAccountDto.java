@@ -0,0 +1,48 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 바이낸스 선물 계정 정보 응답 (GET /fapi/v2/account)
+ * 사용하지 않는 필드는 역직렬화 시 건너뜁니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceAccountDto {
+    private List<Asset> assets;         // 자산별 잔고
+    private List<Position> positions;   // 심볼별 포지션
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Asset {
+        private String asset;                 // 자산 (예: "USDT")
+        private BigDecimal walletBalance;     // 지갑 잔고
+        private BigDecimal availableBalance;  // 주문 가능 잔고
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Position {
+        private String symbol;            // 거래 심볼
+        private BigDecimal positionAmt;   // 포지션 수량 (SHORT는 음수)
+        private BigDecimal entryPrice;    // 평균 진입 가격
+        private Integer leverage;         // 설정된 레버리지
+        private String positionSide;      // BOTH, LONG, SHORT
+    }
+}
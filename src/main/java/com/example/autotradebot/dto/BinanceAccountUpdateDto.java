@@ -0,0 +1,65 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 바이낸스 선물 User Data Stream 계정 이벤트 (ACCOUNT_UPDATE의 "a" 필드)
+ * 잔고 또는 포지션이 변경된 자산/심볼만 포함됩니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceAccountUpdateDto {
+    @JsonProperty("m")
+    private String reason;              // 변경 사유 (ORDER, FUNDING_FEE, DEPOSIT 등)
+    @JsonProperty("B")
+    private List<Balance> balances;     // 변경된 자산 잔고
+    @JsonProperty("P")
+    private List<Position> positions;   // 변경된 포지션
+
+    private Long eventTime;             // 이벤트 시각 (상위 이벤트의 "E")
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Balance {
+        @JsonProperty("a")
+        private String asset;               // 자산 (예: "USDT")
+        @JsonProperty("wb")
+        private BigDecimal walletBalance;   // 지갑 잔고
+        @JsonProperty("cw")
+        private BigDecimal crossWalletBalance;
+        @JsonProperty("bc")
+        private BigDecimal balanceChange;   // 펀딩비/손익을 제외한 잔고 변화량
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Position {
+        @JsonProperty("s")
+        private String symbol;              // 거래 심볼
+        @JsonProperty("pa")
+        private BigDecimal positionAmt;     // 포지션 수량 (SHORT는 음수)
+        @JsonProperty("ep")
+        private BigDecimal entryPrice;      // 진입 가격
+        @JsonProperty("up")
+        private BigDecimal unrealizedProfit;
+        @JsonProperty("ps")
+        private String positionSide;        // BOTH, LONG, SHORT
+    }
+}
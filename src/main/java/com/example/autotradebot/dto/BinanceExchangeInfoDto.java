@@ -0,0 +1,57 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 바이낸스 선물 거래소 정보 응답 (GET /fapi/v1/exchangeInfo)
+ * <p>
+ * rateLimits, assets, orderTypes 등 사용하지 않는 항목은 역직렬화 시 객체를 만들지 않고 건너뜁니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceExchangeInfoDto {
+    private Long serverTime;
+    private List<SymbolInfo> symbols;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SymbolInfo {
+        private String symbol;              // 거래 심볼
+        private String status;              // TRADING, SETTLING 등
+        private Integer pricePrecision;     // 가격 정밀도
+        private Integer quantityPrecision;  // 수량 정밀도
+        private List<Filter> filters;       // 심볼 필터 목록
+    }
+
+    /**
+     * PRICE_FILTER, LOT_SIZE, MARKET_LOT_SIZE, MIN_NOTIONAL 필터에서 사용하는 값만 매핑합니다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Filter {
+        private String filterType;
+        private BigDecimal minPrice;
+        private BigDecimal maxPrice;
+        private BigDecimal tickSize;
+        private BigDecimal minQty;
+        private BigDecimal maxQty;
+        private BigDecimal stepSize;
+        private BigDecimal notional;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 바이낸스 선물 레버리지 변경 응답 (POST /fapi/v1/leverage)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceLeverageDto {
+    private String symbol;      // 거래 심볼
+    private Integer leverage;   // 적용된 레버리지
+}
@@ -0,0 +1,19 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 바이낸스 선물 User Data Stream listenKey 응답 (POST/PUT /fapi/v1/listenKey)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceListenKeyDto {
+    private String listenKey;   // User Data Stream 접속 키 (60분간 유효, keepalive 시 연장)
+}
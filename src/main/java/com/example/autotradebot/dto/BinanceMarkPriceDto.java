@@ -0,0 +1,26 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 바이낸스 선물 마크 가격 (GET /fapi/v1/premiumIndex 응답, markPriceUpdate 스트림 이벤트)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceMarkPriceDto {
+    private String symbol;              // 거래 심볼
+    private BigDecimal markPrice;       // 마크 가격
+    private BigDecimal indexPrice;      // 인덱스 가격
+    private BigDecimal lastFundingRate; // 최근 펀딩비
+    private Long nextFundingTime;       // 다음 펀딩 시각
+    private Long time;                  // 기준 시각
+}
@@ -0,0 +1,150 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 바이낸스 선물 호가 응답 (GET /fapi/v1/depth)
+ * <p>
+ * 호가는 List&lt;List&lt;String&gt;&gt; 대신 가격/수량 배열로 바로 파싱합니다.
+ * 인덱스 0이 최우선 호가입니다. (bids: 가격 내림차순, asks: 가격 오름차순)
+ */
+@Getter
+@AllArgsConstructor
+@JsonDeserialize(using = BinanceOrderBookDto.Deserializer.class)
+public class BinanceOrderBookDto {
+
+    private static final BigDecimal[] EMPTY = new BigDecimal[0];
+
+    private final long lastUpdateId;        // 호가 스냅샷 업데이트 ID
+    private final long transactionTime;     // 매칭 엔진 기준 시각 (T)
+    private final BigDecimal[] bidPrices;   // 매수 호가 가격
+    private final BigDecimal[] bidQuantities;
+    private final BigDecimal[] askPrices;   // 매도 호가 가격
+    private final BigDecimal[] askQuantities;
+
+    public int bidCount() {
+        return bidPrices.length;
+    }
+
+    public int askCount() {
+        return askPrices.length;
+    }
+
+    /**
+     * @param level 0부터 시작하는 호가 단계
+     * @return 해당 단계의 매수 호가, 단계가 없으면 null
+     */
+    public BigDecimal bidPrice(int level) {
+        return level < bidPrices.length ? bidPrices[level] : null;
+    }
+
+    /**
+     * @param level 0부터 시작하는 호가 단계
+     * @return 해당 단계의 매도 호가, 단계가 없으면 null
+     */
+    public BigDecimal askPrice(int level) {
+        return level < askPrices.length ? askPrices[level] : null;
+    }
+
+    @Override
+    public String toString() {
+        return "BinanceOrderBookDto(lastUpdateId=" + lastUpdateId
+                + ", bestBid=" + bidPrice(0) + ", bestAsk=" + askPrice(0)
+                + ", bids=" + bidPrices.length + ", asks=" + askPrices.length + ")";
+    }
+
+    /**
+     * Jackson 스트리밍 파서로 호가를 직접 읽는 역직렬화기
+     * 가격/수량 문자열은 String 객체를 만들지 않고 파서의 문자 버퍼에서 바로 BigDecimal로 변환합니다.
+     */
+    public static class Deserializer extends JsonDeserializer<BinanceOrderBookDto> {
+
+        @Override
+        public BinanceOrderBookDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            long lastUpdateId = 0L;
+            long transactionTime = 0L;
+            Levels bids = new Levels();
+            Levels asks = new Levels();
+
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                parser.nextToken();
+            }
+            for (; parser.currentToken() == JsonToken.FIELD_NAME; parser.nextToken()) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "lastUpdateId" -> lastUpdateId = parser.getLongValue();
+                    case "T" -> transactionTime = parser.getLongValue();
+                    case "bids" -> readLevels(parser, bids);
+                    case "asks" -> readLevels(parser, asks);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new BinanceOrderBookDto(lastUpdateId, transactionTime,
+                    bids.prices(), bids.quantities(), asks.prices(), asks.quantities());
+        }
+
+        private void readLevels(JsonParser parser, Levels levels) throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                return;
+            }
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                parser.nextToken();
+                BigDecimal price = readDecimal(parser);
+                parser.nextToken();
+                BigDecimal quantity = readDecimal(parser);
+                // 레벨 배열의 나머지 값은 건너뜁니다.
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    parser.skipChildren();
+                }
+                levels.add(price, quantity);
+            }
+        }
+
+        private BigDecimal readDecimal(JsonParser parser) throws IOException {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                return new BigDecimal(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return parser.getDecimalValue();
+        }
+    }
+
+    /**
+     * 파싱 중 호가를 담는 가변 배열
+     */
+    private static final class Levels {
+        private BigDecimal[] prices = new BigDecimal[16];
+        private BigDecimal[] quantities = new BigDecimal[16];
+        private int size;
+
+        void add(BigDecimal price, BigDecimal quantity) {
+            if (size == prices.length) {
+                prices = Arrays.copyOf(prices, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+            }
+            prices[size] = price;
+            quantities[size] = quantity;
+            size++;
+        }
+
+        BigDecimal[] prices() {
+            return size == 0 ? EMPTY : Arrays.copyOf(prices, size);
+        }
+
+        BigDecimal[] quantities() {
+            return size == 0 ? EMPTY : Arrays.copyOf(quantities, size);
+        }
+    }
+}
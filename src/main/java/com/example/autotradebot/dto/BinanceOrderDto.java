@@ -0,0 +1,32 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 바이낸스 선물 주문 응답 (POST/GET/DELETE /fapi/v1/order)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceOrderDto {
+    private BigInteger orderId;         // 주문 고유 번호
+    private String symbol;              // 거래 심볼
+    private String status;              // NEW, PARTIALLY_FILLED, FILLED, CANCELED, EXPIRED, REJECTED
+    private String clientOrderId;       // 클라이언트 주문 ID
+    private String side;                // BUY, SELL
+    private BigDecimal price;           // 주문 가격
+    private BigDecimal avgPrice;        // 평균 체결 가격
+    private BigDecimal origQty;         // 주문 수량
+    private BigDecimal executedQty;     // 체결 수량
+    private Boolean reduceOnly;         // 포지션 감소 전용 여부
+    private Long updateTime;            // 마지막 변경 시각
+}
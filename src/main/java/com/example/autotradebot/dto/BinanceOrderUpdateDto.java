@@ -0,0 +1,50 @@
+package com.example.autotradebot.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 바이낸스 선물 User Data Stream 주문 이벤트 (ORDER_TRADE_UPDATE의 "o" 필드)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BinanceOrderUpdateDto {
+    @JsonProperty("s")
+    private String symbol;                  // 거래 심볼
+    @JsonProperty("c")
+    private String clientOrderId;           // 클라이언트 주문 ID
+    @JsonProperty("S")
+    private String side;                    // BUY, SELL
+    @JsonProperty("i")
+    private BigInteger orderId;             // 주문 번호
+    @JsonProperty("x")
+    private String executionType;           // 실행 유형 (NEW, TRADE, CANCELED, EXPIRED 등)
+    @JsonProperty("X")
+    private String orderStatus;             // 주문 상태 (NEW, PARTIALLY_FILLED, FILLED, CANCELED, EXPIRED)
+    @JsonProperty("p")
+    private BigDecimal price;               // 주문 가격
+    @JsonProperty("ap")
+    private BigDecimal averagePrice;        // 평균 체결 가격
+    @JsonProperty("q")
+    private BigDecimal originalQuantity;    // 주문 수량
+    @JsonProperty("z")
+    private BigDecimal filledQuantity;      // 누적 체결 수량
+    @JsonProperty("l")
+    private BigDecimal lastFilledQuantity;  // 이번 이벤트 체결 수량
+    @JsonProperty("R")
+    private Boolean reduceOnly;             // 포지션 감소 전용 여부
+    @JsonProperty("T")
+    private Long tradeTime;                 // 체결 시각
+
+    private Long eventTime;                 // 이벤트 시각 (상위 이벤트의 "E")
+}
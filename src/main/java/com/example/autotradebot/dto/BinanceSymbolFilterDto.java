@@ -0,0 +1,80 @@
+package com.example.autotradebot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 심볼별 주문 필터 (거래소 정보에서 주문 검증에 필요한 값만 추린 불변 객체)
+ * <p>
+ * 필터가 없는 항목은 null이며, null인 항목은 검증하지 않습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class BinanceSymbolFilterDto {
+    private final String symbol;
+    private final String status;                // TRADING, SETTLING 등
+    private final Integer pricePrecision;
+    private final Integer quantityPrecision;
+
+    // PRICE_FILTER
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final BigDecimal tickSize;
+
+    // LOT_SIZE (지정가 주문)
+    private final BigDecimal minQty;
+    private final BigDecimal maxQty;
+    private final BigDecimal stepSize;
+
+    // MARKET_LOT_SIZE (시장가 주문)
+    private final BigDecimal marketMinQty;
+    private final BigDecimal marketMaxQty;
+    private final BigDecimal marketStepSize;
+
+    // MIN_NOTIONAL
+    private final BigDecimal minNotional;
+
+    public boolean isTrading() {
+        return "TRADING".equals(status);
+    }
+
+    /**
+     * @return 수량 소수점 자릿수 (LOT_SIZE stepSize 기준)
+     */
+    public int getQuantityScale() {
+        return stepSize != null ? Math.max(stepSize.stripTrailingZeros().scale(), 0) : 0;
+    }
+
+    /**
+     * 가격을 tickSize 단위로 맞춥니다.
+     *
+     * @param roundingMode 매수는 FLOOR, 매도는 CEILING (불리한 방향으로 가격이 바뀌지 않도록)
+     */
+    public BigDecimal roundPrice(BigDecimal price, RoundingMode roundingMode) {
+        return roundToIncrement(price, tickSize, roundingMode);
+    }
+
+    /**
+     * 수량을 LOT_SIZE stepSize 단위로 내림합니다.
+     */
+    public BigDecimal roundQuantity(BigDecimal quantity) {
+        return roundToIncrement(quantity, stepSize, RoundingMode.FLOOR);
+    }
+
+    private static BigDecimal roundToIncrement(BigDecimal value, BigDecimal increment, RoundingMode roundingMode) {
+        if (value == null || increment == null || increment.signum() <= 0) {
+            return value;
+        }
+        int scale = Math.max(increment.stripTrailingZeros().scale(), 0);
+        return value.divide(increment, 0, roundingMode).multiply(increment).setScale(scale, RoundingMode.UNNECESSARY);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.autotradebot.dto;
 
 import com.example.autotradebot.enums.TradePosition;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,4 +20,15 @@ public class TradeSignalDto {
     private BigDecimal entryPrice;      // 포지션 진입 가격
     private TradePosition position;     // 현재 포지션
     private BigInteger leverage;        // 현재 레버리지
+
+    @JsonAlias("timestamp")
+    private Long sourceTimestamp;       // 신호 발생 시각 (신호 서버 기준, epoch ms)
+    private Long sequenceId;            // 수신 순번 (수신 시 부여)
+    private long receivedAt;            // 수신 시각 (epoch ms)
+
+    @JsonIgnore
+    private long version;               // 신호 저장소 버전 (내용이 바뀐 신호를 저장할 때 부여)
+
+    @JsonIgnore
+    private long receivedNanos;         // 수신 시점 System.nanoTime() (단계별 지연 측정용)
 }
@@ -19,4 +19,5 @@ public class UserSettingDto {
     private Integer isActive;
     private BigDecimal amount;
     private Date createdDate;
+    private Date updatedAt;
 }
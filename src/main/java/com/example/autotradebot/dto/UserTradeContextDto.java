@@ -0,0 +1,20 @@
+package com.example.autotradebot.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 심볼 트레이드에 필요한 사용자별 정보 (사용자 설정, API 키, 진행 중 주문 여부, 마지막 포지션)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserTradeContextDto {
+    private UserSettingDto userSetting;
+    private VendorApiKeyDto vendorApiKey;
+    private UserPositionHistoryDto lastPosition;
+    private boolean tradeInProgress;
+}
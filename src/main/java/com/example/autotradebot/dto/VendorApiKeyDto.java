@@ -19,4 +19,5 @@ public class VendorApiKeyDto {
     private String status;
     private String vendor;
     private Date createdDt;
+    private Date updatedAt;
 }
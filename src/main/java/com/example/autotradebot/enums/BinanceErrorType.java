@@ -0,0 +1,61 @@
+package com.example.autotradebot.enums;
+
+/**
+ * 바이낸스 REST 호출 오류 분류
+ * <p>
+ * retryable은 같은 요청을 다시 보내도 되는 오류인지,
+ * circuitFailure는 거래소 상태 이상으로 보고 서킷 브레이커의 실패로 집계할 오류인지를 나타냅니다.
+ * 주문 생성처럼 멱등하지 않은 요청은 요청이 거래소에 전달되지 않은 오류(sent=false)만 재시도합니다.
+ */
+public enum BinanceErrorType {
+    BAD_REQUEST(false, false, true),         // 4xx 업무 오류 (잔고 부족, 정밀도 초과 등)
+    UNAUTHORIZED(false, false, true),        // 401/403 (API Key, 권한)
+    RATE_LIMITED(true, true, false),         // 429 (요청이 처리되지 않음)
+    IP_BANNED(false, true, false),           // 418 (Retry-After 동안 차단)
+    SERVER_ERROR(true, true, true),          // 5xx (503은 실행 여부를 알 수 없음)
+    TIMEOUT(true, true, true),               // 응답 대기 시간 초과 (실행 여부를 알 수 없음)
+    NETWORK(true, true, true),               // 요청 전송 후 연결 끊김
+    CONNECTION_FAILED(true, true, false),    // 연결/커넥션 획득 실패 (요청이 전송되지 않음)
+    CIRCUIT_OPEN(false, false, false),       // 서킷 브레이커가 열려 호출하지 않음
+    LOCAL_REJECTED(false, false, false),     // 요청 한도 관리자 등 로컬에서 차단
+    UNKNOWN(false, false, true);
+
+    private final boolean retryable;
+    private final boolean circuitFailure;
+    private final boolean sent;
+
+    BinanceErrorType(boolean retryable, boolean circuitFailure, boolean sent) {
+        this.retryable = retryable;
+        this.circuitFailure = circuitFailure;
+        this.sent = sent;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    public boolean isCircuitFailure() {
+        return circuitFailure;
+    }
+
+    /**
+     * @return 요청이 거래소에 전달되었을 수 있으면 true
+     */
+    public boolean isSent() {
+        return sent;
+    }
+
+    /**
+     * @return 요청을 보내지 않고 로컬(서킷 브레이커, 요청 한도 관리자)에서 거절했으면 true
+     */
+    public boolean isLocal() {
+        return this == CIRCUIT_OPEN || this == LOCAL_REJECTED;
+    }
+
+    /**
+     * @return 요청이 거래소에 전달되었지만 처리 결과를 알 수 없으면 true (5xx, 타임아웃, 전송 후 연결 끊김 등)
+     */
+    public boolean isOutcomeUnknown() {
+        return sent && this != BAD_REQUEST && this != UNAUTHORIZED;
+    }
+}
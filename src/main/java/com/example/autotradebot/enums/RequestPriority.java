@@ -0,0 +1,23 @@
+package com.example.autotradebot.enums;
+
+/**
+ * 바이낸스 REST 요청 우선순위
+ * <p>
+ * limitShare는 해당 우선순위가 사용할 수 있는 요청 한도의 비율입니다.
+ * 낮은 우선순위 요청은 한도에 도달하기 전에 먼저 차단되어 주문 요청을 위한 여유분을 남깁니다.
+ */
+public enum RequestPriority {
+    HIGH(1.0),   // 주문 생성/취소
+    NORMAL(0.9), // 잔고, 레버리지, 호가 등 트레이드 경로 조회
+    LOW(0.7);    // 거래소 정보, 주문 상태 폴링 등 지연 가능한 조회
+
+    private final double limitShare;
+
+    RequestPriority(double limitShare) {
+        this.limitShare = limitShare;
+    }
+
+    public double getLimitShare() {
+        return limitShare;
+    }
+}
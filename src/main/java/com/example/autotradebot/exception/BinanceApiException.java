@@ -1,21 +1,65 @@
 package com.example.autotradebot.exception;
 
+import com.example.autotradebot.enums.BinanceErrorType;
+
 public class BinanceApiException extends RuntimeException {
 
+    private final BinanceErrorType errorType;
+    private final int httpStatus;       // HTTP 응답이 없으면 0
+    private final Integer code;         // 바이낸스 오류 코드 (예: -2019), 없으면 null
+    private final long retryAfterMs;    // Retry-After 헤더 값 (ms), 없으면 0
+
     public BinanceApiException() {
         super();
+        this.errorType = BinanceErrorType.UNKNOWN;
+        this.httpStatus = 0;
+        this.code = null;
+        this.retryAfterMs = 0L;
     }
 
     public BinanceApiException(String message) {
-        super(message);
+        this(BinanceErrorType.UNKNOWN, message);
     }
 
     public BinanceApiException(String message, Throwable cause) {
-        super(message, cause);
+        this(BinanceErrorType.UNKNOWN, 0, null, 0L, message, cause);
     }
 
     public BinanceApiException(Throwable cause) {
         super(cause);
+        this.errorType = BinanceErrorType.UNKNOWN;
+        this.httpStatus = 0;
+        this.code = null;
+        this.retryAfterMs = 0L;
+    }
+
+    public BinanceApiException(BinanceErrorType errorType, String message) {
+        this(errorType, 0, null, 0L, message, null);
+    }
+
+    public BinanceApiException(BinanceErrorType errorType, int httpStatus, Integer code, long retryAfterMs,
+                               String message, Throwable cause) {
+        super(message, cause);
+        this.errorType = errorType;
+        this.httpStatus = httpStatus;
+        this.code = code;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public BinanceErrorType getErrorType() {
+        return errorType;
+    }
+
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
     }
 
     @Override
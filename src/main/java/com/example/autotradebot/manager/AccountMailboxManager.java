@@ -0,0 +1,165 @@
+package com.example.autotradebot.manager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정별 작업 직렬화 매니저 (메일박스)
+ * <p>
+ * 같은 계정(emailPk)의 작업(트레이드, 주문 보정, 주문 이벤트 처리)은 제출 순서대로 하나씩 실행하고,
+ * 다른 계정의 작업은 전역 락 없이 동시에 실행합니다.
+ * 메일박스는 계정에 대기 작업이 있는 동안만 존재하며, 큐 조작은 ConcurrentHashMap.compute 안에서 계정 단위로 원자적으로 처리합니다.
+ * <p>
+ * 작업은 완료(성공, 오류, 취소)되어야 다음 작업이 시작되므로 subscribeOn 등으로 비동기 실행되는 Mono를 제출해야 합니다.
+ */
+@Component
+public class AccountMailboxManager {
+
+    private Logger logger = LoggerFactory.getLogger(AccountMailboxManager.class);
+
+    private final int maxQueued;
+    private final ConcurrentHashMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public AccountMailboxManager(MeterRegistry meterRegistry,
+                                 @Value("${trade.mailbox.max-queued:100}") int maxQueued) {
+        this.maxQueued = maxQueued;
+
+        Gauge.builder("trade.mailbox.active", mailboxes, ConcurrentHashMap::size)
+                .description("실행 중이거나 대기 작업이 있는 계정 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("trade.mailbox.wait")
+                .description("계정 메일박스 대기 시간 (제출 → 실행 시작)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("trade.mailbox.rejected")
+                .description("계정 대기 작업 한도 초과로 거절된 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계정 메일박스에 작업을 제출합니다.
+     *
+     * @param key  직렬화 기준 (emailPk)
+     * @param work 실행할 작업 (구독 시 실행)
+     * @return 작업 결과, 대기 작업이 trade.mailbox.max-queued를 넘으면 RejectedExecutionException
+     */
+    public <T> Mono<T> submit(String key, Mono<T> work) {
+        return Mono.create(sink -> {
+            Task<T> task = new Task<>(work, sink);
+            sink.onCancel(task::cancel);
+
+            boolean[] startNow = new boolean[1];
+            boolean[] rejected = new boolean[1];
+            mailboxes.compute(key, (ignored, mailbox) -> {
+                Mailbox target = mailbox != null ? mailbox : new Mailbox();
+                if (!target.running) {
+                    target.running = true;
+                    startNow[0] = true;
+                } else if (target.queue.size() >= maxQueued) {
+                    rejected[0] = true;
+                } else {
+                    target.queue.add(task);
+                }
+                return target;
+            });
+
+            if (rejected[0]) {
+                rejectedCounter.increment();
+                logger.warn("⚠ 계정 작업 대기열 초과로 작업을 거절합니다: {} (maxQueued={})", key, maxQueued);
+                sink.error(new RejectedExecutionException("계정 작업 대기열 초과: " + key));
+            } else if (startNow[0]) {
+                run(key, task);
+            }
+        });
+    }
+
+    /**
+     * @return 계정에 실행 중이거나 대기 중인 작업이 있는지 여부
+     */
+    public boolean isBusy(String key) {
+        return mailboxes.containsKey(key);
+    }
+
+    private void run(String key, Task<?> task) {
+        waitTimer.record(System.nanoTime() - task.submittedNanos, TimeUnit.NANOSECONDS);
+        if (!task.start(() -> runNext(key))) {
+            runNext(key);
+        }
+    }
+
+    /**
+     * 다음 대기 작업을 실행합니다. 대기 작업이 없으면 메일박스를 제거합니다.
+     */
+    private void runNext(String key) {
+        Task<?>[] next = new Task<?>[1];
+        mailboxes.computeIfPresent(key, (ignored, mailbox) -> {
+            next[0] = mailbox.queue.poll();
+            return next[0] != null ? mailbox : null;
+        });
+        if (next[0] != null) {
+            run(key, next[0]);
+        }
+    }
+
+    /**
+     * 계정 메일박스 (running, queue는 mailboxes.compute 안에서만 변경)
+     */
+    private static final class Mailbox {
+        private final ArrayDeque<Task<?>> queue = new ArrayDeque<>();
+        private boolean running;
+    }
+
+    private static final class Task<T> {
+        private final Mono<T> work;
+        private final MonoSink<T> sink;
+        private final long submittedNanos = System.nanoTime();
+        private volatile boolean cancelled;
+        private volatile Disposable subscription;
+
+        private Task(Mono<T> work, MonoSink<T> sink) {
+            this.work = work;
+            this.sink = sink;
+        }
+
+        /**
+         * @param onFinally 작업 종료 후 실행 (다음 작업 시작)
+         * @return 실행 여부 (대기 중 취소된 작업은 실행하지 않음)
+         */
+        private boolean start(Runnable onFinally) {
+            if (cancelled) {
+                return false;
+            }
+            subscription = Mono.defer(() -> work)
+                    .doFinally(signal -> onFinally.run())
+                    .subscribe(sink::success, sink::error, sink::success);
+            return true;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceAccountDto;
+import com.example.autotradebot.dto.BinanceAccountUpdateDto;
+import com.example.autotradebot.dto.BinanceOrderUpdateDto;
+import com.example.autotradebot.dto.VendorApiKeyDto;
+import com.example.autotradebot.service.BinanceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 계정 잔고/포지션 캐시 매니저
+ * <p>
+ * "/fapi/v2/account"(weight 5) 응답을 API Key별로 캐시하여 트레이드마다 계정 정보를 조회하지 않도록 합니다.
+ * <p>
+ * User Data Stream의 ACCOUNT_UPDATE / ORDER_TRADE_UPDATE 이벤트나 스트림 연결 끊김이 발생하면 해당 계정의 캐시를 무효화하고,
+ * 다음 조회 시 한 번만 다시 조회합니다. (동시에 들어온 조회는 같은 요청을 공유합니다.)
+ * 이벤트를 받지 못하는 경우를 대비해 max-age가 지난 값은 사용하지 않으며,
+ * 주기적인 sweep에서 최근 사용된 계정의 오래된 값을 미리 갱신합니다.
+ */
+@Component
+public class BinanceAccountCacheManager implements BinanceUserDataListener {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceAccountCacheManager.class);
+
+    private final BinanceService binanceService;
+    private final MeterRegistry meterRegistry;
+    private final long maxAgeMs;
+    private final long sweepIntervalMs;
+    private final long idleEvictMs;
+
+    /**
+     * 계정별 캐시 (key: accessKey)
+     */
+    private final Map<String, AccountEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 → accessKey (User Data Stream 이벤트는 사용자 기준으로 전달됩니다.)
+     */
+    private final Map<String, String> accessKeysByEmailPk = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter invalidateCounter;
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    public BinanceAccountCacheManager(BinanceService binanceService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${binance.account-cache.max-age-ms:60000}") long maxAgeMs,
+                                      @Value("${binance.account-cache.sweep-interval-ms:30000}") long sweepIntervalMs,
+                                      @Value("${binance.account-cache.idle-evict-ms:1800000}") long idleEvictMs) {
+        this.binanceService = binanceService;
+        this.meterRegistry = meterRegistry;
+        this.maxAgeMs = maxAgeMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.idleEvictMs = idleEvictMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("binance.account.cache")
+                .tag("result", "hit")
+                .description("계정 정보 캐시 조회 수")
+                .register(meterRegistry);
+        missCounter = Counter.builder("binance.account.cache")
+                .tag("result", "miss")
+                .description("계정 정보 캐시 조회 수")
+                .register(meterRegistry);
+        invalidateCounter = Counter.builder("binance.account.cache.invalidate")
+                .description("계정 정보 캐시 무효화 수 (User Data Stream 이벤트)")
+                .register(meterRegistry);
+        Gauge.builder("binance.account.cache.hit.ratio", this, BinanceAccountCacheManager::getHitRatio)
+                .description("계정 정보 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("binance.account.cache.age.max", this, BinanceAccountCacheManager::getMaxAgeMs)
+                .description("캐시된 계정 정보 중 가장 오래된 값의 경과 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("binance.account.cache.size", entries, Map::size)
+                .description("캐시된 계정 수")
+                .register(meterRegistry);
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("binance-account-cache-");
+        taskScheduler.initialize();
+        taskScheduler.scheduleWithFixedDelay(this::sweep, Duration.ofMillis(sweepIntervalMs));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 계정 정보를 조회합니다. 유효한 캐시가 있으면 메모리에서 반환합니다.
+     */
+    public Mono<BinanceAccountDto> getAccount(VendorApiKeyDto vendorApiKeyDto) {
+        String accessKey = vendorApiKeyDto.getAccessKey();
+        AccountEntry entry = entries.computeIfAbsent(accessKey, AccountEntry::new);
+        entry.secretKey = vendorApiKeyDto.getSecretKey();
+        entry.lastReadAt = System.currentTimeMillis();
+        if (vendorApiKeyDto.getEmailPk() != null) {
+            accessKeysByEmailPk.put(vendorApiKeyDto.getEmailPk(), accessKey);
+        }
+
+        BinanceAccountDto account = entry.freshAccount();
+        if (account != null) {
+            hits.incrementAndGet();
+            hitCounter.increment();
+            return Mono.just(account);
+        }
+        misses.incrementAndGet();
+        missCounter.increment();
+        return entry.load();
+    }
+
+    /**
+     * 사용 가능한 잔고를 조회합니다. (캐시 우선)
+     *
+     * @param asset 조회할 자산 (예: "USDT")
+     * @return 사용 가능한 잔고, 자산이 없으면 오류
+     */
+    public Mono<BigDecimal> getAvailableBalance(VendorApiKeyDto vendorApiKeyDto, String asset) {
+        return getAccount(vendorApiKeyDto)
+                .flatMap(account -> Mono.justOrEmpty(account.getAssets())
+                        .flatMapIterable(assets -> assets)
+                        .filter(item -> asset.equals(item.getAsset()))
+                        .next()
+                        .map(BinanceAccountDto.Asset::getAvailableBalance))
+                .switchIfEmpty(Mono.error(new RuntimeException("잔고 정보를 찾을 수 없습니다.")));
+    }
+
+    /**
+     * 계정 캐시를 무효화합니다. (다음 조회 시 다시 조회)
+     */
+    public void invalidate(String accessKey) {
+        AccountEntry entry = entries.get(accessKey);
+        if (entry != null) {
+            entry.invalidate();
+            invalidateCounter.increment();
+        }
+    }
+
+    @Override
+    public void onAccountUpdate(String emailPk, BinanceAccountUpdateDto update) {
+        invalidateByEmailPk(emailPk);
+    }
+
+    @Override
+    public void onOrderTradeUpdate(String emailPk, BinanceOrderUpdateDto update) {
+        // 주문 생성/체결/취소 시 주문 가능 잔고(증거금)가 바뀝니다.
+        invalidateByEmailPk(emailPk);
+    }
+
+    @Override
+    public void onUserStreamDisconnect(String emailPk) {
+        // 재연결 전까지 이벤트를 받지 못하므로 캐시를 신뢰할 수 없습니다.
+        invalidateByEmailPk(emailPk);
+    }
+
+    private void invalidateByEmailPk(String emailPk) {
+        String accessKey = accessKeysByEmailPk.get(emailPk);
+        if (accessKey != null) {
+            invalidate(accessKey);
+        }
+    }
+
+    /**
+     * 최근 사용된 계정 중 무효화되었거나 오래된 값을 미리 갱신하고, 오래 사용되지 않은 계정은 캐시에서 제거합니다.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> now - entry.lastReadAt > idleEvictMs);
+        for (AccountEntry entry : entries.values()) {
+            if (entry.freshAccount() == null && entry.secretKey != null) {
+                entry.load().subscribe(null, error ->
+                        logger.warn("⚠ 계정 정보 갱신 실패: {}", error.getMessage()));
+            }
+        }
+    }
+
+    private double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    private double getMaxAgeMs() {
+        long now = System.currentTimeMillis();
+        long max = 0L;
+        for (AccountEntry entry : entries.values()) {
+            if (entry.loadedAt > 0) {
+                max = Math.max(max, now - entry.loadedAt);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 계정 하나의 캐시 항목
+     * 조회 중에 무효화되면 version이 바뀌므로, 그 조회 결과는 유효한 값으로 표시하지 않습니다.
+     */
+    private final class AccountEntry {
+
+        private final String accessKey;
+        private final AtomicReference<Mono<BinanceAccountDto>> inflight = new AtomicReference<>();
+        private final AtomicLong version = new AtomicLong();
+
+        private volatile String secretKey;
+        private volatile BinanceAccountDto account;
+        private volatile long loadedAt;
+        private volatile long validVersion = -1L;
+        private volatile long lastReadAt;
+
+        AccountEntry(String accessKey) {
+            this.accessKey = accessKey;
+        }
+
+        BinanceAccountDto freshAccount() {
+            if (account == null || validVersion != version.get()) {
+                return null;
+            }
+            return System.currentTimeMillis() - loadedAt <= maxAgeMs ? account : null;
+        }
+
+        void invalidate() {
+            version.incrementAndGet();
+        }
+
+        Mono<BinanceAccountDto> load() {
+            Mono<BinanceAccountDto> existing = inflight.get();
+            if (existing != null) {
+                return existing;
+            }
+            long startVersion = version.get();
+            Mono<BinanceAccountDto> request = binanceService.getAccount(accessKey, secretKey)
+                    .doOnNext(result -> {
+                        account = result;
+                        loadedAt = System.currentTimeMillis();
+                        validVersion = startVersion;
+                    })
+                    .doFinally(signal -> inflight.set(null))
+                    .cache();
+            if (inflight.compareAndSet(null, request)) {
+                return request;
+            }
+            Mono<BinanceAccountDto> current = inflight.get();
+            return current != null ? current : request;
+        }
+    }
+}
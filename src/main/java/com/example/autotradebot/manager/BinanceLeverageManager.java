@@ -0,0 +1,149 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceAccountDto;
+import com.example.autotradebot.dto.BinanceLeverageDto;
+import com.example.autotradebot.dto.VendorApiKeyDto;
+import com.example.autotradebot.service.BinanceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레버리지 상태 매니저
+ * <p>
+ * 계정(API Key)/심볼별 현재 레버리지를 기억하여, 요청한 값이 이미 적용되어 있으면 "/fapi/v1/leverage"를 호출하지 않습니다.
+ * 계정의 초기 레버리지는 계정 정보(positions[].leverage, 계정 캐시 사용)에서 가져오며,
+ * 이후에는 레버리지 설정 응답과 User Data Stream의 ACCOUNT_CONFIG_UPDATE 이벤트로 갱신합니다.
+ */
+@Component
+public class BinanceLeverageManager implements BinanceUserDataListener {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceLeverageManager.class);
+
+    private final BinanceService binanceService;
+    private final BinanceAccountCacheManager binanceAccountCacheManager;
+
+    /**
+     * 계정별 심볼 레버리지 (key: accessKey → symbol → leverage)
+     * 계정 정보로 초기화되지 않은 계정은 키가 없습니다.
+     */
+    private final Map<String, Map<String, Integer>> leverages = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 → accessKey (User Data Stream 이벤트는 사용자 기준으로 전달됩니다.)
+     */
+    private final Map<String, String> accessKeysByEmailPk = new ConcurrentHashMap<>();
+
+    private final Counter savedCounter;
+    private final Counter issuedCounter;
+    private final Timer setLeverageTimer;
+
+    @Autowired
+    public BinanceLeverageManager(BinanceService binanceService,
+                                  BinanceAccountCacheManager binanceAccountCacheManager,
+                                  MeterRegistry meterRegistry) {
+        this.binanceService = binanceService;
+        this.binanceAccountCacheManager = binanceAccountCacheManager;
+
+        this.savedCounter = Counter.builder("binance.leverage.calls")
+                .tag("result", "saved")
+                .description("레버리지 설정 요청 수 (saved: 이미 적용되어 호출 생략, issued: API 호출)")
+                .register(meterRegistry);
+        this.issuedCounter = Counter.builder("binance.leverage.calls")
+                .tag("result", "issued")
+                .description("레버리지 설정 요청 수 (saved: 이미 적용되어 호출 생략, issued: API 호출)")
+                .register(meterRegistry);
+        this.setLeverageTimer = Timer.builder("binance.leverage.set")
+                .description("레버리지 설정 API 응답 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 심볼의 레버리지가 요청한 값이 되도록 합니다. 이미 같은 값이면 API를 호출하지 않습니다.
+     *
+     * @param leverage 설정할 레버리지
+     * @return 적용된 레버리지
+     */
+    public Mono<BigInteger> ensureLeverage(VendorApiKeyDto vendorApiKeyDto, String symbol, BigInteger leverage) {
+        String accessKey = vendorApiKeyDto.getAccessKey();
+        if (vendorApiKeyDto.getEmailPk() != null) {
+            accessKeysByEmailPk.put(vendorApiKeyDto.getEmailPk(), accessKey);
+        }
+
+        Map<String, Integer> accountLeverages = leverages.get(accessKey);
+        Mono<Map<String, Integer>> seeded = accountLeverages != null
+                ? Mono.just(accountLeverages)
+                : seed(vendorApiKeyDto);
+
+        return seeded.flatMap(symbolLeverages -> {
+            Integer current = symbolLeverages.get(symbol);
+            if (current != null && current == leverage.intValue()) {
+                savedCounter.increment();
+                logger.info("레버리지 변경 없음 (호출 생략): {} {} 배", symbol, leverage);
+                return Mono.just(leverage);
+            }
+
+            issuedCounter.increment();
+            long startNanos = System.nanoTime();
+            return binanceService.setLeverage(symbol, leverage, accessKey, vendorApiKeyDto.getSecretKey())
+                    .doOnNext(response -> symbolLeverages.put(symbol,
+                            response.getLeverage() != null ? response.getLeverage() : leverage.intValue()))
+                    .doOnError(error -> symbolLeverages.remove(symbol))
+                    .doFinally(signal -> setLeverageTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS))
+                    .map(BinanceLeverageDto::getLeverage)
+                    .map(BigInteger::valueOf)
+                    .defaultIfEmpty(leverage);
+        });
+    }
+
+    /**
+     * 계정 정보의 포지션 목록에서 심볼별 레버리지를 가져옵니다.
+     */
+    private Mono<Map<String, Integer>> seed(VendorApiKeyDto vendorApiKeyDto) {
+        return binanceAccountCacheManager.getAccount(vendorApiKeyDto)
+                .map(account -> {
+                    Map<String, Integer> symbolLeverages = new ConcurrentHashMap<>();
+                    if (account.getPositions() != null) {
+                        for (BinanceAccountDto.Position position : account.getPositions()) {
+                            if (position.getSymbol() != null && position.getLeverage() != null) {
+                                symbolLeverages.put(position.getSymbol(), position.getLeverage());
+                            }
+                        }
+                    }
+                    Map<String, Integer> existing = leverages.putIfAbsent(vendorApiKeyDto.getAccessKey(), symbolLeverages);
+                    return existing != null ? existing : symbolLeverages;
+                });
+    }
+
+    @Override
+    public void onLeverageUpdate(String emailPk, String symbol, Integer leverage) {
+        String accessKey = accessKeysByEmailPk.get(emailPk);
+        if (accessKey == null) {
+            return;
+        }
+        Map<String, Integer> symbolLeverages = leverages.get(accessKey);
+        if (symbolLeverages != null) {
+            symbolLeverages.put(symbol, leverage);
+        }
+    }
+
+    @Override
+    public void onUserStreamDisconnect(String emailPk) {
+        // 연결이 끊긴 동안 외부에서 레버리지가 바뀌었을 수 있으므로 다음 요청 시 계정 정보로 다시 초기화합니다.
+        String accessKey = accessKeysByEmailPk.get(emailPk);
+        if (accessKey != null) {
+            leverages.remove(accessKey);
+        }
+    }
+}
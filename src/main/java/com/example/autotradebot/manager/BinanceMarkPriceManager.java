@@ -0,0 +1,134 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceMarkPriceDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마크 가격 매니저
+ * <p>
+ * "!markPrice@arr@1s" 스트림(전체 심볼 마크 가격, 1초 주기)을 구독하여 심볼별 최신 마크 가격과 펀딩비를 메모리에 유지합니다.
+ * 조회는 REST를 호출하지 않으며, 심볼마다 마지막 수신 시각을 기록하여 오래된 값(stale)을 구분합니다.
+ */
+@Component
+public class BinanceMarkPriceManager implements BinanceStreamListener {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceMarkPriceManager.class);
+
+    private static final String MARK_PRICE_STREAM = "!markPrice@arr@1s";
+
+    private final BinanceMarketStreamManager binanceMarketStreamManager;
+    private final MeterRegistry meterRegistry;
+    private final long maxStalenessMs;
+
+    /**
+     * 심볼별 최신 마크 가격 (값은 수신할 때마다 새 객체로 교체되므로 읽는 쪽에서 락이 필요 없습니다.)
+     */
+    private final ConcurrentHashMap<String, MarkPrice> markPrices = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BinanceMarkPriceManager(BinanceMarketStreamManager binanceMarketStreamManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${binance.mark-price.max-staleness-ms:5000}") long maxStalenessMs) {
+        this.binanceMarketStreamManager = binanceMarketStreamManager;
+        this.meterRegistry = meterRegistry;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("binance.markprice.symbols", markPrices, Map::size)
+                .description("마크 가격을 수신한 심볼 수")
+                .register(meterRegistry);
+        Gauge.builder("binance.markprice.staleness.max", this, BinanceMarkPriceManager::getMaxStalenessMs)
+                .description("심볼별 마지막 마크 가격 수신 후 경과 시간 중 최댓값 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        binanceMarketStreamManager.subscribe(MARK_PRICE_STREAM, this);
+        logger.info("✅ 마크 가격 스트림 구독 시작: {}", MARK_PRICE_STREAM);
+    }
+
+    @Override
+    public void onMessage(String stream, JsonNode data) {
+        long receivedAt = System.currentTimeMillis();
+        for (JsonNode event : data) {
+            String symbol = event.path("s").asText();
+            BinanceMarkPriceDto markPrice = BinanceMarkPriceDto.builder()
+                    .symbol(symbol)
+                    .markPrice(decimal(event.get("p")))
+                    .indexPrice(decimal(event.get("i")))
+                    .lastFundingRate(decimal(event.get("r")))
+                    .nextFundingTime(event.path("T").asLong())
+                    .time(event.path("E").asLong())
+                    .build();
+            markPrices.put(symbol, new MarkPrice(markPrice, receivedAt));
+        }
+    }
+
+    @Override
+    public void onDisconnect(String stream) {
+        logger.warn("⚠ 마크 가격 스트림 연결 끊김, 재연결 전까지 마크 가격이 갱신되지 않습니다.");
+    }
+
+    /**
+     * @param symbol 거래 심볼 (예: "BTCUSDT")
+     * @return 최신 마크 가격, 수신 전이거나 허용 경과 시간을 넘었으면 null
+     */
+    public BigDecimal getMarkPrice(String symbol) {
+        BinanceMarkPriceDto markPrice = getMarkPriceInfo(symbol);
+        return markPrice != null ? markPrice.getMarkPrice() : null;
+    }
+
+    /**
+     * @param symbol 거래 심볼 (예: "BTCUSDT")
+     * @return 최신 마크 가격/인덱스 가격/펀딩비, 수신 전이거나 허용 경과 시간을 넘었으면 null
+     */
+    public BinanceMarkPriceDto getMarkPriceInfo(String symbol) {
+        MarkPrice markPrice = markPrices.get(symbol);
+        if (markPrice == null || System.currentTimeMillis() - markPrice.receivedAt() > maxStalenessMs) {
+            return null;
+        }
+        return markPrice.value();
+    }
+
+    /**
+     * @return 마지막 수신 후 경과 시간 (ms), 수신한 적이 없으면 -1
+     */
+    public long getStalenessMs(String symbol) {
+        MarkPrice markPrice = markPrices.get(symbol);
+        return markPrice != null ? System.currentTimeMillis() - markPrice.receivedAt() : -1L;
+    }
+
+    public boolean isStale(String symbol) {
+        long staleness = getStalenessMs(symbol);
+        return staleness < 0 || staleness > maxStalenessMs;
+    }
+
+    private double getMaxStalenessMs() {
+        long now = System.currentTimeMillis();
+        long max = 0L;
+        for (MarkPrice markPrice : markPrices.values()) {
+            max = Math.max(max, now - markPrice.receivedAt());
+        }
+        return max;
+    }
+
+    private BigDecimal decimal(JsonNode node) {
+        return node == null || node.isNull() ? null : new BigDecimal(node.asText());
+    }
+
+    private record MarkPrice(BinanceMarkPriceDto value, long receivedAt) {
+    }
+}
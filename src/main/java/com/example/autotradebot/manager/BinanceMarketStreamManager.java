@@ -0,0 +1,325 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.config.EnvConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 바이낸스 선물 마켓 스트림 매니저
+ * <p>
+ * 여러 심볼의 스트림을 combined 스트림 연결("/stream?streams=a/b/c") 하나로 묶어 수신하고,
+ * 스트림 이름별로 등록된 리스너에 메시지를 전달합니다.
+ * 새 스트림은 연결을 새로 열지 않고 SUBSCRIBE 메시지로 추가하며,
+ * 연결당 스트림 수가 한도(200)에 도달한 경우에만 연결을 추가합니다.
+ */
+@Component
+public class BinanceMarketStreamManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceMarketStreamManager.class);
+
+    private static final int MAX_STREAMS_PER_CONNECTION = 200; // 바이낸스 연결당 최대 스트림 수
+    private static final long INITIAL_RECONNECT_DELAY_MS = 1000L;
+    private static final long MAX_RECONNECT_DELAY_MS = 30000L;
+
+    private final EnvConfig envConfig;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, BinanceStreamListener> listeners = new ConcurrentHashMap<>();
+    private final List<StreamConnection> connections = new ArrayList<>();
+    private final AtomicLong requestId = new AtomicLong();
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private Counter messageCounter;
+    private Counter reconnectCounter;
+    private volatile boolean shutdown;
+
+    @Autowired
+    public BinanceMarketStreamManager(EnvConfig envConfig, BinanceConfig binanceConfig, MeterRegistry meterRegistry) {
+        this.envConfig = envConfig;
+        this.objectMapper = binanceConfig.getBinanceObjectMapper();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("binance-stream-");
+        taskScheduler.initialize();
+
+        messageCounter = Counter.builder("binance.stream.messages")
+                .description("바이낸스 마켓 스트림 수신 메시지 수")
+                .register(meterRegistry);
+        reconnectCounter = Counter.builder("binance.stream.reconnect")
+                .description("바이낸스 마켓 스트림 재연결 횟수")
+                .register(meterRegistry);
+        Gauge.builder("binance.stream.subscriptions", listeners, Map::size)
+                .description("구독 중인 바이낸스 마켓 스트림 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        shutdown = true;
+        synchronized (connections) {
+            connections.forEach(StreamConnection::close);
+        }
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 스트림을 구독합니다. 이미 구독 중인 스트림이면 리스너만 교체합니다.
+     *
+     * @param stream   스트림 이름 (예: "btcusdt@depth@100ms", "!markPrice@arr@1s")
+     * @param listener 메시지 리스너
+     */
+    public void subscribe(String stream, BinanceStreamListener listener) {
+        if (listeners.put(stream, listener) != null) {
+            return;
+        }
+        synchronized (connections) {
+            StreamConnection target = null;
+            for (StreamConnection connection : connections) {
+                if (connection.streams.size() < MAX_STREAMS_PER_CONNECTION) {
+                    target = connection;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new StreamConnection(connections.size());
+                connections.add(target);
+            }
+            target.add(stream);
+        }
+    }
+
+    /**
+     * 스트림 구독을 해제합니다.
+     */
+    public void unsubscribe(String stream) {
+        if (listeners.remove(stream) == null) {
+            return;
+        }
+        synchronized (connections) {
+            for (StreamConnection connection : connections) {
+                if (connection.streams.contains(stream)) {
+                    connection.remove(stream);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 스트림이 연결되어 메시지를 수신할 수 있는 상태이면 true
+     */
+    public boolean isConnected(String stream) {
+        synchronized (connections) {
+            for (StreamConnection connection : connections) {
+                if (connection.streams.contains(stream)) {
+                    return connection.isOpen();
+                }
+            }
+        }
+        return false;
+    }
+
+    private void dispatch(String message) {
+        messageCounter.increment();
+        try {
+            JsonNode root = objectMapper.readTree(message);
+            JsonNode stream = root.get("stream");
+            if (stream == null) {
+                // SUBSCRIBE/UNSUBSCRIBE 응답 ({"result":null,"id":1}) 또는 오류
+                if (root.has("error")) {
+                    logger.error("❌ 바이낸스 스트림 요청 오류: {}", root.get("error"));
+                }
+                return;
+            }
+            BinanceStreamListener listener = listeners.get(stream.asText());
+            if (listener != null) {
+                listener.onMessage(stream.asText(), root.get("data"));
+            }
+        } catch (Exception e) {
+            logger.error("❌ 바이낸스 스트림 메시지 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private String command(String method, String stream) {
+        return command(method, List.of(stream));
+    }
+
+    private String command(String method, Collection<String> streams) {
+        return "{\"method\":\"" + method + "\",\"params\":[\"" + String.join("\",\"", streams) + "\"],\"id\":" + requestId.incrementAndGet() + "}";
+    }
+
+    /**
+     * combined 스트림 연결 하나 (최대 200개 스트림)
+     * 연결이 끊기면 지수 백오프로 재연결하며, 재연결 시 현재 구독 목록으로 URL을 다시 구성합니다.
+     * 연결 중(URL 구성 이후, 연결 완료 전)에 추가/해제된 스트림은 연결이 열리면 SUBSCRIBE/UNSUBSCRIBE로 맞춥니다.
+     */
+    private final class StreamConnection {
+
+        private final int index;
+        private final Set<String> streams = ConcurrentHashMap.newKeySet();
+        private Set<String> requestedStreams = Set.of(); // 현재 연결에 요청한 스트림 (연결 URL + SUBSCRIBE - UNSUBSCRIBE)
+        private WebSocketClient client;
+        private int reconnectAttempts;
+        private boolean reconnectScheduled;
+
+        StreamConnection(int index) {
+            this.index = index;
+        }
+
+        synchronized void add(String stream) {
+            streams.add(stream);
+            if (client == null) {
+                connect();
+            } else if (client.isOpen()) {
+                client.send(command("SUBSCRIBE", stream));
+                requestedStreams.add(stream);
+            }
+            // 연결 중이면 연결이 열릴 때(onOpen) 구독하고, 재연결 대기 중이면 다음 연결 URL에 포함됩니다.
+        }
+
+        synchronized void remove(String stream) {
+            streams.remove(stream);
+            if (client != null && client.isOpen()) {
+                client.send(command("UNSUBSCRIBE", stream));
+                requestedStreams.remove(stream);
+            }
+        }
+
+        /**
+         * 연결 URL을 만든 뒤 바뀐 구독 목록을 새로 열린 연결에 반영합니다.
+         */
+        private synchronized void syncRequestedStreams() {
+            List<String> added = new ArrayList<>();
+            for (String stream : streams) {
+                if (!requestedStreams.contains(stream)) {
+                    added.add(stream);
+                }
+            }
+            List<String> removed = new ArrayList<>();
+            for (String stream : requestedStreams) {
+                if (!streams.contains(stream)) {
+                    removed.add(stream);
+                }
+            }
+            if (!added.isEmpty()) {
+                logger.info("연결 중 추가된 스트림 구독 [{}]: {}개", index, added.size());
+                client.send(command("SUBSCRIBE", added));
+                requestedStreams.addAll(added);
+            }
+            if (!removed.isEmpty()) {
+                client.send(command("UNSUBSCRIBE", removed));
+                requestedStreams.removeAll(removed);
+            }
+        }
+
+        synchronized boolean isOpen() {
+            return client != null && client.isOpen();
+        }
+
+        synchronized void close() {
+            if (client != null) {
+                client.close();
+            }
+        }
+
+        private synchronized void connect() {
+            String endpoint = envConfig.getBinanceWsEndpoint();
+            if (endpoint == null || endpoint.isEmpty()) {
+                logger.error("❌ BINANCE_WS_ENDPOINT가 설정되지 않았습니다!");
+                return;
+            }
+            if (shutdown || streams.isEmpty()) {
+                return;
+            }
+
+            requestedStreams = new HashSet<>(streams);
+            URI uri = URI.create(endpoint + "/stream?streams=" + String.join("/", requestedStreams));
+            logger.info("바이낸스 스트림 연결 시도 [{}]: 스트림 {}개", index, streams.size());
+
+            client = new WebSocketClient(uri) {
+                @Override
+                public void onOpen(ServerHandshake handshake) {
+                    logger.info("✅ 바이낸스 스트림 연결 성공 [{}]", index);
+                    synchronized (StreamConnection.this) {
+                        reconnectAttempts = 0;
+                        if (client == this) {
+                            syncRequestedStreams();
+                        }
+                    }
+                }
+
+                @Override
+                public void onMessage(String message) {
+                    dispatch(message);
+                }
+
+                @Override
+                public void onClose(int code, String reason, boolean remote) {
+                    logger.warn("⚠ 바이낸스 스트림 연결 종료 [{}]: code={}, reason={}, remote={}", index, code, reason, remote);
+                    for (String stream : streams) {
+                        BinanceStreamListener listener = listeners.get(stream);
+                        if (listener != null) {
+                            listener.onDisconnect(stream);
+                        }
+                    }
+                    scheduleReconnect();
+                }
+
+                @Override
+                public void onError(Exception ex) {
+                    logger.error("❌ 바이낸스 스트림 오류 [{}]: {}", index, ex.getMessage());
+                }
+            };
+            client.connect();
+        }
+
+        private synchronized void scheduleReconnect() {
+            if (shutdown || reconnectScheduled) {
+                return;
+            }
+            reconnectScheduled = true;
+            reconnectCounter.increment();
+            long delay = Math.min(INITIAL_RECONNECT_DELAY_MS << Math.min(reconnectAttempts, 5), MAX_RECONNECT_DELAY_MS);
+            reconnectAttempts++;
+            logger.info("⚠️ 바이낸스 스트림 재연결 예약 [{}] ({}ms 후)", index, delay);
+            taskScheduler.schedule(() -> {
+                synchronized (StreamConnection.this) {
+                    reconnectScheduled = false;
+                    connect();
+                }
+            }, Instant.now().plusMillis(delay));
+        }
+    }
+}
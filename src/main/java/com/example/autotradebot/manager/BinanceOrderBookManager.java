@@ -0,0 +1,295 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceOrderBookDto;
+import com.example.autotradebot.service.BinanceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 호가 관리 매니저
+ * <p>
+ * 심볼별 depth diff 스트림("&lt;symbol&gt;@depth@100ms")과 REST 스냅샷을 lastUpdateId 기준으로 동기화하여
+ * 호가를 메모리에 유지합니다. 트레이드마다 호가 API를 호출하지 않고 상위 호가를 바로 읽을 수 있습니다.
+ * <p>
+ * 동기화 절차 (바이낸스 선물 로컬 호가 관리 가이드)
+ * 1. 스트림 이벤트를 버퍼링하면서 REST 스냅샷을 조회합니다.
+ * 2. u &lt; lastUpdateId 인 이벤트는 버리고, 첫 이벤트는 U &lt;= lastUpdateId &lt;= u 를 만족해야 합니다.
+ * 3. 이후 이벤트의 pu가 직전 이벤트의 u와 다르면 유실(gap)로 보고 스냅샷부터 다시 동기화합니다.
+ */
+@Component
+public class BinanceOrderBookManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceOrderBookManager.class);
+
+    private static final String DEPTH_STREAM_SUFFIX = "@depth@100ms";
+    private static final int MAX_BUFFERED_EVENTS = 10000;
+    private static final long RESYNC_RETRY_MS = 1000L;  // 스냅샷 조회 실패 후 재시도 간격
+
+    private final BinanceService binanceService;
+    private final BinanceMarketStreamManager binanceMarketStreamManager;
+    private final MeterRegistry meterRegistry;
+    private final int snapshotLimit;
+    private final int topLevels;
+
+    private final Map<String, LocalOrderBook> books = new ConcurrentHashMap<>();
+
+    private final Counter localReadCounter;
+    private final Counter restReadCounter;
+
+    @Autowired
+    public BinanceOrderBookManager(BinanceService binanceService,
+                                   BinanceMarketStreamManager binanceMarketStreamManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${binance.order-book.snapshot-limit:1000}") int snapshotLimit,
+                                   @Value("${binance.order-book.top-levels:20}") int topLevels) {
+        this.binanceService = binanceService;
+        this.binanceMarketStreamManager = binanceMarketStreamManager;
+        this.meterRegistry = meterRegistry;
+        this.snapshotLimit = snapshotLimit;
+        this.topLevels = topLevels;
+
+        this.localReadCounter = Counter.builder("binance.orderbook.read")
+                .tag("source", "local")
+                .description("호가 조회 횟수 (로컬 호가 / REST 조회)")
+                .register(meterRegistry);
+        this.restReadCounter = Counter.builder("binance.orderbook.read")
+                .tag("source", "rest")
+                .description("호가 조회 횟수 (로컬 호가 / REST 조회)")
+                .register(meterRegistry);
+        Gauge.builder("binance.orderbook.symbols", books, Map::size)
+                .description("로컬 호가를 유지 중인 심볼 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호가를 조회합니다.
+     * <p>
+     * 동기화된 로컬 호가가 있으면 메모리에서 바로 반환하고, 아직 동기화 전이면
+     * 스트림 구독을 시작한 뒤 이번 요청만 REST로 조회합니다.
+     *
+     * @param symbol 거래 심볼 (예: "BTCUSDT")
+     * @param limit  필요한 호가 단계 수
+     * @return 호가 (상위 limit 단계 이상)
+     */
+    public Mono<BinanceOrderBookDto> getOrderBook(String symbol, int limit) {
+        BinanceOrderBookDto snapshot = getLocalOrderBook(symbol);
+        if (snapshot != null && limit <= topLevels) {
+            localReadCounter.increment();
+            return Mono.just(snapshot);
+        }
+        restReadCounter.increment();
+        return binanceService.getOrderBookAsync(symbol, limit);
+    }
+
+    /**
+     * @return 동기화된 로컬 호가의 상위 호가 스냅샷, 동기화 전이거나 스트림이 끊겼으면 null
+     */
+    public BinanceOrderBookDto getLocalOrderBook(String symbol) {
+        LocalOrderBook book = track(symbol);
+        return book.synced ? book.snapshot : null;
+    }
+
+    /**
+     * 심볼의 depth 스트림 구독을 시작합니다. (이미 구독 중이면 기존 호가를 반환)
+     */
+    public LocalOrderBook track(String symbol) {
+        LocalOrderBook book = books.get(symbol);
+        if (book != null) {
+            return book;
+        }
+        return books.computeIfAbsent(symbol, key -> {
+            LocalOrderBook created = new LocalOrderBook(key);
+            logger.info("로컬 호가 구독 시작: {}", key);
+            binanceMarketStreamManager.subscribe(key.toLowerCase() + DEPTH_STREAM_SUFFIX, created);
+            return created;
+        });
+    }
+
+    /**
+     * 심볼별 로컬 호가
+     * <p>
+     * 스트림 수신 스레드와 REST 스냅샷 응답 스레드가 함께 수정하므로 모든 변경은 객체 모니터로 직렬화하고,
+     * 읽기 쪽은 변경마다 새로 만드는 상위 호가 스냅샷(volatile)만 참조합니다.
+     * 동기화는 스트림 이벤트를 받은 뒤에 시작하여, 스냅샷 이후의 이벤트가 항상 버퍼에 남아 있도록 합니다.
+     */
+    public final class LocalOrderBook implements BinanceStreamListener {
+
+        private final String symbol;
+        private final TreeMap<BigDecimal, BigDecimal> bids = new TreeMap<>(Comparator.reverseOrder());
+        private final TreeMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+        private final List<JsonNode> buffer = new ArrayList<>();
+
+        private long lastUpdateId;
+        private boolean syncing;
+        private boolean firstEventPending;  // 스냅샷 이후 첫 이벤트 검증 대기 (U <= lastUpdateId <= u)
+        private long lastResyncAt;
+        private String pendingReason = "start";
+        private volatile boolean synced;
+        private volatile BinanceOrderBookDto snapshot;
+
+        LocalOrderBook(String symbol) {
+            this.symbol = symbol;
+        }
+
+        @Override
+        public synchronized void onMessage(String stream, JsonNode data) {
+            if (syncing) {
+                if (buffer.size() >= MAX_BUFFERED_EVENTS) {
+                    logger.warn("⚠ 호가 이벤트 버퍼 초과 [{}], 스냅샷 응답을 기다리는 이벤트를 비웁니다.", symbol);
+                    buffer.clear();
+                }
+                buffer.add(data);
+                return;
+            }
+            if (!synced) {
+                // 스냅샷 조회가 실패한 경우 잠시 후 다음 이벤트에서 다시 시도합니다.
+                if (System.currentTimeMillis() - lastResyncAt >= RESYNC_RETRY_MS) {
+                    resync(pendingReason, data);
+                }
+                return;
+            }
+
+            long finalId = data.path("u").asLong();
+            if (firstEventPending) {
+                if (finalId < lastUpdateId) {
+                    return;
+                }
+                if (data.path("U").asLong() > lastUpdateId) {
+                    resync("stale-snapshot", data);
+                    return;
+                }
+                firstEventPending = false;
+            } else if (data.path("pu").asLong() != lastUpdateId) {
+                logger.warn("⚠ 호가 이벤트 유실 감지 [{}]: pu={}, lastUpdateId={}", symbol, data.path("pu").asLong(), lastUpdateId);
+                resync("gap", data);
+                return;
+            }
+            apply(data);
+            publish(data.path("T").asLong());
+        }
+
+        @Override
+        public synchronized void onDisconnect(String stream) {
+            // 재연결 전까지 이벤트가 유실되므로 오래된 호가를 읽지 않도록 무효화하고, 재연결 후 첫 이벤트에서 다시 동기화합니다.
+            synced = false;
+            syncing = false;
+            buffer.clear();
+            pendingReason = "disconnect";
+            lastResyncAt = 0L;
+        }
+
+        /**
+         * 스냅샷부터 다시 동기화합니다. 재동기화를 일으킨 이벤트는 스냅샷 요청 전에 버퍼에 넣어,
+         * 스냅샷 응답이 즉시 도착하더라도 그 이벤트부터 적용되도록 합니다.
+         */
+        private void resync(String reason, JsonNode triggeringEvent) {
+            synced = false;
+            syncing = true;
+            firstEventPending = false;
+            lastResyncAt = System.currentTimeMillis();
+            buffer.clear();
+            buffer.add(triggeringEvent);
+            Counter.builder("binance.orderbook.resync")
+                    .tag("reason", reason)
+                    .description("로컬 호가 재동기화 횟수")
+                    .register(meterRegistry)
+                    .increment();
+            logger.info("로컬 호가 동기화 시작 [{}]: reason={}", symbol, reason);
+
+            binanceService.getOrderBookAsync(symbol, snapshotLimit)
+                    .subscribe(this::onSnapshot, error -> {
+                        logger.error("❌ 호가 스냅샷 조회 실패 [{}]: {}", symbol, error.getMessage());
+                        synchronized (this) {
+                            syncing = false;
+                            buffer.clear();
+                            pendingReason = "retry";
+                        }
+                    });
+        }
+
+        private synchronized void onSnapshot(BinanceOrderBookDto rest) {
+            if (!syncing) {
+                return; // 응답 대기 중 연결이 끊긴 경우
+            }
+            bids.clear();
+            asks.clear();
+            for (int i = 0; i < rest.bidCount(); i++) {
+                bids.put(rest.getBidPrices()[i], rest.getBidQuantities()[i]);
+            }
+            for (int i = 0; i < rest.askCount(); i++) {
+                asks.put(rest.getAskPrices()[i], rest.getAskQuantities()[i]);
+            }
+            lastUpdateId = rest.getLastUpdateId();
+            syncing = false;
+            synced = true;
+            firstEventPending = true;
+
+            List<JsonNode> events = new ArrayList<>(buffer);
+            buffer.clear();
+            publish(rest.getTransactionTime());
+            for (JsonNode event : events) {
+                onMessage(null, event);
+                if (!synced || syncing) {
+                    return; // 버퍼 처리 중 재동기화가 시작됨
+                }
+            }
+            logger.info("✅ 로컬 호가 동기화 완료 [{}]: lastUpdateId={}", symbol, lastUpdateId);
+        }
+
+        private void apply(JsonNode event) {
+            applyLevels(bids, event.path("b"));
+            applyLevels(asks, event.path("a"));
+            lastUpdateId = event.path("u").asLong();
+        }
+
+        private void applyLevels(TreeMap<BigDecimal, BigDecimal> side, JsonNode levels) {
+            for (JsonNode level : levels) {
+                BigDecimal price = new BigDecimal(level.get(0).asText());
+                BigDecimal quantity = new BigDecimal(level.get(1).asText());
+                if (quantity.signum() == 0) {
+                    side.remove(price);
+                } else {
+                    side.put(price, quantity);
+                }
+            }
+        }
+
+        private void publish(long transactionTime) {
+            int bidCount = Math.min(topLevels, bids.size());
+            int askCount = Math.min(topLevels, asks.size());
+            BigDecimal[] bidPrices = new BigDecimal[bidCount];
+            BigDecimal[] bidQuantities = new BigDecimal[bidCount];
+            BigDecimal[] askPrices = new BigDecimal[askCount];
+            BigDecimal[] askQuantities = new BigDecimal[askCount];
+            copyTop(bids, bidPrices, bidQuantities);
+            copyTop(asks, askPrices, askQuantities);
+            snapshot = new BinanceOrderBookDto(lastUpdateId, transactionTime, bidPrices, bidQuantities, askPrices, askQuantities);
+        }
+
+        private void copyTop(TreeMap<BigDecimal, BigDecimal> side, BigDecimal[] prices, BigDecimal[] quantities) {
+            Iterator<Map.Entry<BigDecimal, BigDecimal>> iterator = side.entrySet().iterator();
+            for (int i = 0; i < prices.length; i++) {
+                Map.Entry<BigDecimal, BigDecimal> entry = iterator.next();
+                prices[i] = entry.getKey();
+                quantities[i] = entry.getValue();
+            }
+        }
+    }
+}
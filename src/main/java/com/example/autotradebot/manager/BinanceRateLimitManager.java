@@ -0,0 +1,393 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.enums.BinanceErrorType;
+import com.example.autotradebot.enums.RequestPriority;
+import com.example.autotradebot.exception.BinanceApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 바이낸스 REST 요청 한도 관리 매니저
+ * <p>
+ * 모든 바이낸스 REST 요청은 {@link #filter()}를 통과하며, 엔드포인트별 weight를 기준으로
+ * IP 단위 요청 한도(1분)와 계정 단위 주문 한도(10초, 1분)를 로컬에서 미리 계산합니다.
+ * 응답 헤더(X-MBX-USED-WEIGHT-1M, X-MBX-ORDER-COUNT-*)로 실제 사용량을 보정하고,
+ * 한도에 가까워지면 요청을 다음 구간까지 대기시키거나 우선순위가 낮은 요청을 차단합니다.
+ * 429/418 응답을 받으면 Retry-After 동안 모든 요청을 보류합니다.
+ */
+@Component
+public class BinanceRateLimitManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceRateLimitManager.class);
+
+    private static final String API_KEY_HEADER = "X-MBX-APIKEY";
+    private static final String USED_WEIGHT_HEADER = "X-MBX-USED-WEIGHT-1M";
+    private static final String ORDER_COUNT_10S_HEADER = "X-MBX-ORDER-COUNT-10S";
+    private static final String ORDER_COUNT_1M_HEADER = "X-MBX-ORDER-COUNT-1M";
+    private static final long ONE_MINUTE_MS = 60_000L;
+    private static final long TEN_SECONDS_MS = 10_000L;
+    private static final long DEFAULT_BAN_MS = 120_000L;
+
+    private final int weightPerMinute;
+    private final int ordersPer10s;
+    private final int ordersPerMinute;
+    private final int maxQueue;
+    private final long maxWaitMs;
+
+    private final UsageWindow weightWindow = new UsageWindow(ONE_MINUTE_MS);
+    private final ConcurrentHashMap<String, OrderWindows> orderWindowsByApiKey = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private volatile long bannedUntilMs = 0L;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+
+    @Autowired
+    public BinanceRateLimitManager(MeterRegistry meterRegistry,
+                                   @Value("${binance.rate-limit.weight-per-minute:2400}") int weightPerMinute,
+                                   @Value("${binance.rate-limit.orders-per-10s:300}") int ordersPer10s,
+                                   @Value("${binance.rate-limit.orders-per-minute:1200}") int ordersPerMinute,
+                                   @Value("${binance.rate-limit.max-queue:500}") int maxQueue,
+                                   @Value("${binance.rate-limit.max-wait-ms:15000}") long maxWaitMs) {
+        this.meterRegistry = meterRegistry;
+        this.weightPerMinute = weightPerMinute;
+        this.ordersPer10s = ordersPer10s;
+        this.ordersPerMinute = ordersPerMinute;
+        this.maxQueue = maxQueue;
+        this.maxWaitMs = maxWaitMs;
+
+        this.waitTimer = Timer.builder("binance.ratelimit.wait")
+                .description("요청 한도 대기 시간")
+                .register(meterRegistry);
+        Gauge.builder("binance.ratelimit.queue", waiting, AtomicInteger::get)
+                .description("요청 한도로 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("binance.ratelimit.weight.used", this, manager -> manager.weightWindow.used(System.currentTimeMillis()))
+                .description("현재 1분 구간에서 사용한 IP weight (추정치)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * WebClient에 등록할 요청 한도 필터를 반환합니다.
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> {
+            RequestCost cost = resolveCost(request);
+            return acquire(cost)
+                    .then(Mono.defer(() -> {
+                        long sentAtMs = System.currentTimeMillis();
+                        return next.exchange(request)
+                                .doOnNext(response -> observe(response, cost, sentAtMs));
+                    }));
+        };
+    }
+
+    /**
+     * 요청 한도를 확보합니다. 확보할 수 없으면 다음 구간까지 논블로킹으로 대기하거나 요청을 차단합니다.
+     */
+    private Mono<Void> acquire(RequestCost cost) {
+        long startNanos = System.nanoTime();
+        AtomicBoolean queued = new AtomicBoolean(false);
+        return attempt(cost, startNanos, queued)
+                .doFinally(signal -> {
+                    if (queued.get()) {
+                        waiting.decrementAndGet();
+                        waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private Mono<Void> attempt(RequestCost cost, long startNanos, AtomicBoolean queued) {
+        return Mono.defer(() -> {
+            long waitMs = tryReserve(cost, System.currentTimeMillis());
+            if (waitMs <= 0) {
+                return Mono.empty();
+            }
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            boolean queueFull = !queued.get() && waiting.get() >= maxQueue;
+            if (cost.priority() == RequestPriority.LOW || queueFull || elapsedMs + waitMs > maxWaitMs) {
+                Counter.builder("binance.ratelimit.shed")
+                        .tag("priority", cost.priority().name())
+                        .register(meterRegistry)
+                        .increment();
+                logger.warn("⚠ 요청 한도 초과로 요청 차단: {} {} (priority={}, 대기 예상 {}ms)",
+                        cost.method(), cost.path(), cost.priority(), waitMs);
+                return Mono.error(new BinanceApiException(BinanceErrorType.LOCAL_REJECTED,
+                        "Binance 요청 한도 초과로 요청이 차단되었습니다: " + cost.path()));
+            }
+
+            if (queued.compareAndSet(false, true)) {
+                waiting.incrementAndGet();
+            }
+            return Mono.delay(Duration.ofMillis(waitMs)).then(attempt(cost, startNanos, queued));
+        });
+    }
+
+    /**
+     * 요청 한도를 예약합니다.
+     *
+     * @return 0이면 예약 성공, 양수이면 다시 시도하기까지 기다려야 하는 시간 (ms)
+     */
+    private long tryReserve(RequestCost cost, long nowMs) {
+        long banWaitMs = bannedUntilMs - nowMs;
+        if (banWaitMs > 0) {
+            return banWaitMs;
+        }
+
+        OrderWindows orderWindows = null;
+        if (cost.countsOrder() && cost.apiKey() != null) {
+            orderWindows = orderWindowsByApiKey.computeIfAbsent(cost.apiKey(), key -> new OrderWindows());
+            long orderWaitMs = orderWindows.tryReserve(nowMs, ordersPer10s, ordersPerMinute);
+            if (orderWaitMs > 0) {
+                return orderWaitMs;
+            }
+        }
+
+        int weightCap = (int) (weightPerMinute * cost.priority().getLimitShare());
+        if (cost.weight() > 0 && !weightWindow.tryReserve(nowMs, cost.weight(), weightCap)) {
+            if (orderWindows != null) {
+                orderWindows.release(nowMs);
+            }
+            return Math.max(1L, weightWindow.millisUntilReset(nowMs));
+        }
+        return 0L;
+    }
+
+    /**
+     * 응답 헤더로 실제 사용량을 보정하고, 429/418 응답이면 Retry-After 동안 요청을 보류합니다.
+     */
+    private void observe(ClientResponse response, RequestCost cost, long sentAtMs) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+
+        Integer usedWeight = parseInt(headers.getFirst(USED_WEIGHT_HEADER));
+        if (usedWeight != null) {
+            weightWindow.observe(sentAtMs, usedWeight);
+        }
+
+        if (cost.apiKey() != null) {
+            Integer orderCount10s = parseInt(headers.getFirst(ORDER_COUNT_10S_HEADER));
+            Integer orderCount1m = parseInt(headers.getFirst(ORDER_COUNT_1M_HEADER));
+            if (orderCount10s != null || orderCount1m != null) {
+                orderWindowsByApiKey.computeIfAbsent(cost.apiKey(), key -> new OrderWindows())
+                        .observe(sentAtMs, orderCount10s, orderCount1m);
+            }
+        }
+
+        int status = response.statusCode().value();
+        if (status == 429 || status == 418) {
+            Integer retryAfterSeconds = parseInt(headers.getFirst(HttpHeaders.RETRY_AFTER));
+            long banMs = retryAfterSeconds != null ? retryAfterSeconds * 1000L
+                    : status == 418 ? DEFAULT_BAN_MS : weightWindow.millisUntilReset(System.currentTimeMillis());
+            bannedUntilMs = Math.max(bannedUntilMs, System.currentTimeMillis() + banMs);
+            Counter.builder("binance.ratelimit.ban")
+                    .tag("status", String.valueOf(status))
+                    .register(meterRegistry)
+                    .increment();
+            logger.error("❌ 바이낸스 요청 한도 초과 응답({}), {}ms 동안 요청을 보류합니다.", status, banMs);
+        }
+    }
+
+    /**
+     * 엔드포인트별 weight와 우선순위를 계산합니다. (USDⓈ-M 선물 기준)
+     */
+    private RequestCost resolveCost(ClientRequest request) {
+        HttpMethod method = request.method();
+        String path = request.url().getPath();
+        String query = request.url().getRawQuery();
+        String apiKey = request.headers().getFirst(API_KEY_HEADER);
+
+        int weight = 1;
+        boolean countsOrder = false;
+        RequestPriority priority = RequestPriority.NORMAL;
+
+        switch (path) {
+            case "/fapi/v1/order" -> {
+                if (HttpMethod.POST.equals(method)) {
+                    weight = 0; // 신규 주문은 IP weight 0, 주문 한도에만 집계
+                    countsOrder = true;
+                    priority = RequestPriority.HIGH;
+                } else if (HttpMethod.DELETE.equals(method)) {
+                    priority = RequestPriority.HIGH;
+                } else {
+                    priority = RequestPriority.LOW;
+                }
+            }
+            case "/fapi/v1/depth" -> weight = depthWeight(queryParam(query, "limit"));
+            case "/fapi/v2/account", "/fapi/v2/positionRisk" -> weight = 5;
+            case "/fapi/v1/allOrders" -> {
+                weight = 5;
+                priority = RequestPriority.LOW;
+            }
+            case "/fapi/v1/openOrders" -> {
+                weight = queryParam(query, "symbol") != null ? 1 : 40;
+                priority = RequestPriority.LOW;
+            }
+            case "/fapi/v1/premiumIndex" -> {
+                weight = queryParam(query, "symbol") != null ? 1 : 10;
+                priority = RequestPriority.LOW;
+            }
+            case "/fapi/v1/exchangeInfo" -> priority = RequestPriority.LOW;
+            default -> {
+                // time, leverage, listenKey 등은 weight 1
+            }
+        }
+
+        return new RequestCost(method, path, weight, countsOrder, priority, apiKey);
+    }
+
+    private int depthWeight(String limit) {
+        int value = 500;
+        if (limit != null) {
+            try {
+                value = Integer.parseInt(limit);
+            } catch (NumberFormatException ignored) {
+                // 기본값 사용
+            }
+        }
+        if (value <= 50) {
+            return 2;
+        } else if (value <= 100) {
+            return 5;
+        } else if (value <= 500) {
+            return 10;
+        }
+        return 20;
+    }
+
+    private String queryParam(String query, String name) {
+        if (query == null) {
+            return null;
+        }
+        String prefix = name + "=";
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(prefix)) {
+                return pair.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    private Integer parseInt(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record RequestCost(HttpMethod method, String path, int weight, boolean countsOrder,
+                               RequestPriority priority, String apiKey) {
+    }
+
+    /**
+     * 고정 구간(1분, 10초) 사용량 카운터
+     */
+    private static final class UsageWindow {
+        private final long windowMs;
+        private long windowStartMs;
+        private int used;
+
+        UsageWindow(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        synchronized boolean tryReserve(long nowMs, int amount, int cap) {
+            roll(nowMs);
+            if (used + amount > cap) {
+                return false;
+            }
+            used += amount;
+            return true;
+        }
+
+        synchronized void release(long nowMs, int amount) {
+            roll(nowMs);
+            used = Math.max(0, used - amount);
+        }
+
+        /**
+         * 응답 헤더로 받은 실제 사용량이 로컬 추정치보다 크면 반영합니다.
+         * 요청을 보낸 구간이 이미 지났다면 이전 구간의 값이므로 무시합니다.
+         */
+        synchronized void observe(long sentAtMs, int reported) {
+            roll(System.currentTimeMillis());
+            if (sentAtMs - (sentAtMs % windowMs) == windowStartMs && reported > used) {
+                used = reported;
+            }
+        }
+
+        synchronized int used(long nowMs) {
+            roll(nowMs);
+            return used;
+        }
+
+        synchronized long millisUntilReset(long nowMs) {
+            roll(nowMs);
+            return windowStartMs + windowMs - nowMs;
+        }
+
+        private void roll(long nowMs) {
+            long start = nowMs - (nowMs % windowMs);
+            if (start != windowStartMs) {
+                windowStartMs = start;
+                used = 0;
+            }
+        }
+    }
+
+    /**
+     * 계정(API Key)별 주문 한도 카운터 (10초, 1분)
+     */
+    private static final class OrderWindows {
+        private final UsageWindow tenSeconds = new UsageWindow(TEN_SECONDS_MS);
+        private final UsageWindow oneMinute = new UsageWindow(ONE_MINUTE_MS);
+
+        synchronized long tryReserve(long nowMs, int limit10s, int limit1m) {
+            if (!tenSeconds.tryReserve(nowMs, 1, limit10s)) {
+                return Math.max(1L, tenSeconds.millisUntilReset(nowMs));
+            }
+            if (!oneMinute.tryReserve(nowMs, 1, limit1m)) {
+                tenSeconds.release(nowMs, 1);
+                return Math.max(1L, oneMinute.millisUntilReset(nowMs));
+            }
+            return 0L;
+        }
+
+        synchronized void release(long nowMs) {
+            tenSeconds.release(nowMs, 1);
+            oneMinute.release(nowMs, 1);
+        }
+
+        synchronized void observe(long sentAtMs, Integer count10s, Integer count1m) {
+            if (count10s != null) {
+                tenSeconds.observe(sentAtMs, count10s);
+            }
+            if (count1m != null) {
+                oneMinute.observe(sentAtMs, count1m);
+            }
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.enums.BinanceErrorType;
+import com.example.autotradebot.exception.BinanceApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 바이낸스 REST 호출 복원력(재시도, 서킷 브레이커) 매니저
+ * <p>
+ * 모든 오류를 {@link BinanceErrorType}으로 분류한 {@link BinanceApiException}으로 변환하고,
+ * 재시도 가능한 오류는 지수 백오프(지터 포함)로 다시 요청합니다. Retry-After 헤더가 있으면 그 시간 이후에 재시도합니다.
+ * 신규 주문(POST /fapi/v1/order)은 멱등하지 않으므로 요청이 거래소에 전달되지 않은 오류(429, 연결 실패)만 재시도하며,
+ * 실행 여부를 알 수 없는 오류(5xx, 타임아웃)는 그대로 전달하며, 호출한 쪽(OrderTradeService)이 주문에 지정한
+ * 클라이언트 주문 ID(newClientOrderId)로 접수 여부를 조회한 뒤에만 다시 주문합니다.
+ * <p>
+ * 엔드포인트(메서드 + 경로)마다 서킷 브레이커를 두어 최근 호출의 실패율이 임계치를 넘으면 일정 시간 동안 호출하지 않고 즉시 실패시킵니다.
+ * 대기 후에는 일부 호출만 시험적으로 허용(HALF_OPEN)하여 모두 성공하면 다시 닫습니다.
+ * 거래소의 응답(4xx 업무 오류 포함)만 성공으로 집계하며, 거래소에 보내지 않고 로컬에서 거절된 요청(요청 한도 관리자의 차단 등)은
+ * 성공/실패 어느 쪽으로도 집계하지 않고 HALF_OPEN 시험 호출로도 세지 않습니다.
+ * 재시도 대기는 Reactor 타이머로 처리되므로 대기 중에 스레드를 점유하지 않습니다.
+ */
+@Component
+public class BinanceResilienceManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceResilienceManager.class);
+
+    private static final String ORDER_ENDPOINT = "/fapi/v1/order";
+    private static final Pattern ERROR_CODE_PATTERN = Pattern.compile("\"code\"\\s*:\\s*(-?\\d+)");
+
+    public enum CircuitState {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRetries;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenCalls;
+
+    /**
+     * 엔드포인트별 서킷 브레이커 (key: "METHOD path")
+     */
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BinanceResilienceManager(MeterRegistry meterRegistry,
+                                    @Value("${binance.resilience.max-retries:3}") int maxRetries,
+                                    @Value("${binance.resilience.base-backoff-ms:200}") long baseBackoffMs,
+                                    @Value("${binance.resilience.max-backoff-ms:5000}") long maxBackoffMs,
+                                    @Value("${binance.resilience.circuit.window-size:20}") int windowSize,
+                                    @Value("${binance.resilience.circuit.minimum-calls:10}") int minimumCalls,
+                                    @Value("${binance.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                                    @Value("${binance.resilience.circuit.open-duration-ms:30000}") long openDurationMs,
+                                    @Value("${binance.resilience.circuit.half-open-calls:3}") int halfOpenCalls) {
+        this.meterRegistry = meterRegistry;
+        this.maxRetries = maxRetries;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * 요청에 서킷 브레이커와 재시도를 적용합니다.
+     *
+     * @param method   HTTP 메서드
+     * @param endpoint 엔드포인트 경로 (서킷 브레이커 단위)
+     * @param request  요청 (재시도 시 다시 구독되므로 구독할 때마다 새 요청을 보내야 합니다.)
+     * @return 분류된 {@link BinanceApiException}으로만 실패하는 요청
+     */
+    public <T> Mono<T> execute(HttpMethod method, String endpoint, Mono<T> request) {
+        String key = method.name() + " " + endpoint;
+        CircuitBreaker breaker = breakers.computeIfAbsent(key, CircuitBreaker::new);
+        boolean idempotent = !(HttpMethod.POST.equals(method) && ORDER_ENDPOINT.equals(endpoint));
+
+        Mono<T> attempt = Mono.defer(() -> {
+            long permit = breaker.tryAcquire();
+            if (permit < 0) {
+                Counter.builder("binance.circuit.rejected")
+                        .tag("endpoint", key)
+                        .description("서킷 브레이커가 열려 호출하지 않은 요청 수")
+                        .register(meterRegistry)
+                        .increment();
+                return Mono.error(new BinanceApiException(BinanceErrorType.CIRCUIT_OPEN,
+                        "Binance API 서킷 브레이커 열림 (일시적으로 호출 중단): " + key));
+            }
+            return request
+                    .onErrorMap(this::classify)
+                    .doOnSuccess(ignored -> breaker.onResult(permit, false))
+                    .doOnError(error -> {
+                        BinanceErrorType type = ((BinanceApiException) error).getErrorType();
+                        countError(key, type);
+                        if (type.isLocal()) {
+                            // 거래소에 보내지 않은 요청은 성공/실패로 집계하지 않고, HALF_OPEN 시험 호출 자리도 돌려줍니다.
+                            breaker.release(permit);
+                        } else {
+                            breaker.onResult(permit, type.isCircuitFailure());
+                        }
+                    })
+                    .doOnCancel(() -> breaker.release(permit));
+        });
+
+        return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+            BinanceApiException error = (BinanceApiException) signal.failure();
+            long retries = signal.totalRetries();
+            long delayMs = backoffMs(retries, error.getRetryAfterMs());
+            if (retries >= maxRetries || !shouldRetry(error, idempotent) || delayMs > maxBackoffMs) {
+                return Mono.error(error);
+            }
+            Counter.builder("binance.api.retry")
+                    .tag("endpoint", key)
+                    .tag("type", error.getErrorType().name())
+                    .description("바이낸스 API 재시도 수")
+                    .register(meterRegistry)
+                    .increment();
+            logger.warn("⚠ 바이낸스 API 재시도 ({}/{}) {} ({}ms 후): {}", retries + 1, maxRetries, key, delayMs, error.getMessage());
+            return Mono.delay(Duration.ofMillis(delayMs));
+        })));
+    }
+
+    /**
+     * 오류 응답(4xx, 5xx)을 분류된 예외로 변환합니다. (WebClient onStatus 용)
+     */
+    public Mono<BinanceApiException> toException(ClientResponse response) {
+        int status = response.statusCode().value();
+        long retryAfterMs = parseRetryAfterMs(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(errorBody -> {
+                    logger.error("Binance API {} 에러 발생: {}", status, errorBody);
+                    return fromStatus(status, errorBody, retryAfterMs, null);
+                });
+    }
+
+    /**
+     * 예외를 분류된 {@link BinanceApiException}으로 변환합니다.
+     */
+    public BinanceApiException classify(Throwable error) {
+        if (error instanceof BinanceApiException binanceApiException) {
+            return binanceApiException;
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return fromStatus(responseException.getStatusCode().value(), responseException.getResponseBodyAsString(),
+                    parseRetryAfterMs(responseException.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)), error);
+        }
+
+        BinanceErrorType type = BinanceErrorType.UNKNOWN;
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            String name = cause.getClass().getSimpleName();
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException
+                    || name.startsWith("PoolAcquire")) {
+                type = BinanceErrorType.CONNECTION_FAILED;
+                break;
+            }
+            if (cause instanceof io.netty.handler.timeout.TimeoutException
+                    || cause instanceof java.util.concurrent.TimeoutException) {
+                type = BinanceErrorType.TIMEOUT;
+                break;
+            }
+            if (cause instanceof IOException) {
+                type = BinanceErrorType.NETWORK;
+                break;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return new BinanceApiException(type, 0, null, 0L,
+                "Binance API 호출 실패 (" + type + "): " + error.getMessage(), error);
+    }
+
+    public CircuitState getCircuitState(String method, String endpoint) {
+        CircuitBreaker breaker = breakers.get(method + " " + endpoint);
+        return breaker != null ? breaker.state : CircuitState.CLOSED;
+    }
+
+    private BinanceApiException fromStatus(int status, String errorBody, long retryAfterMs, Throwable cause) {
+        Integer code = parseCode(errorBody);
+        BinanceErrorType type;
+        if (status == 429 || (code != null && code == -1003)) {
+            type = BinanceErrorType.RATE_LIMITED;
+        } else if (status == 418) {
+            type = BinanceErrorType.IP_BANNED;
+        } else if (status == 401 || status == 403) {
+            type = BinanceErrorType.UNAUTHORIZED;
+        } else if (status == 408 || (code != null && code == -1007)) {
+            type = BinanceErrorType.TIMEOUT; // -1007: 백엔드 응답 대기 초과 (실행 여부 알 수 없음)
+        } else if (status >= 500) {
+            type = BinanceErrorType.SERVER_ERROR;
+        } else {
+            type = BinanceErrorType.BAD_REQUEST;
+        }
+        // 400 메시지 형식은 오류 코드 판별(-1021 등)에 사용되므로 유지합니다.
+        String message = status == 400
+                ? "Binance API Bad Request (400): " + errorBody
+                : "Binance API 오류 (" + status + "): " + errorBody;
+        return new BinanceApiException(type, status, code, retryAfterMs, message, cause);
+    }
+
+    private boolean shouldRetry(BinanceApiException error, boolean idempotent) {
+        BinanceErrorType type = error.getErrorType();
+        return type.isRetryable() && (idempotent || !type.isSent());
+    }
+
+    /**
+     * 지수 백오프 + 지터 (대기 시간의 절반은 고정, 나머지 절반은 무작위)
+     * Retry-After가 더 길면 Retry-After를 따릅니다.
+     */
+    private long backoffMs(long retries, long retryAfterMs) {
+        long cap = Math.min(maxBackoffMs, baseBackoffMs << Math.min(retries, 16));
+        long delay = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        return Math.max(delay, retryAfterMs);
+    }
+
+    private void countError(String key, BinanceErrorType type) {
+        Counter.builder("binance.api.errors")
+                .tag("endpoint", key)
+                .tag("type", type.name())
+                .description("바이낸스 API 오류 수 (분류별)")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Integer parseCode(String errorBody) {
+        if (errorBody == null) {
+            return null;
+        }
+        Matcher matcher = ERROR_CODE_PATTERN.matcher(errorBody);
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private long parseRetryAfterMs(String retryAfter) {
+        if (retryAfter == null || retryAfter.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000L;
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 엔드포인트 하나의 서킷 브레이커 (최근 windowSize개 호출의 실패율 기준)
+     * <p>
+     * 상태가 바뀔 때마다 generation이 증가하며, 이전 상태에서 시작된 호출의 결과는 새 상태에 반영하지 않습니다.
+     */
+    private final class CircuitBreaker {
+
+        private final String key;
+        private final boolean[] outcomes = new boolean[windowSize]; // true: 실패
+        private int index;
+        private int count;
+        private int failures;
+
+        private volatile CircuitState state = CircuitState.CLOSED;
+        private long generation;
+        private long openedAt;
+        private int halfOpenInFlight;
+        private int halfOpenSuccesses;
+
+        CircuitBreaker(String key) {
+            this.key = key;
+            Gauge.builder("binance.circuit.state", this, breaker -> breaker.state.ordinal())
+                    .tag("endpoint", key)
+                    .description("서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)")
+                    .register(meterRegistry);
+        }
+
+        /**
+         * @return 호출 허가 (상태 generation), 호출할 수 없으면 -1
+         */
+        synchronized long tryAcquire() {
+            if (state == CircuitState.OPEN) {
+                if (System.currentTimeMillis() - openedAt < openDurationMs) {
+                    return -1L;
+                }
+                transition(CircuitState.HALF_OPEN);
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                if (halfOpenInFlight >= halfOpenCalls) {
+                    return -1L;
+                }
+                halfOpenInFlight++;
+            }
+            return generation;
+        }
+
+        synchronized void onResult(long permit, boolean failure) {
+            if (permit != generation) {
+                return;
+            }
+            if (state == CircuitState.HALF_OPEN) {
+                halfOpenInFlight--;
+                if (failure) {
+                    transition(CircuitState.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transition(CircuitState.CLOSED);
+                }
+                return;
+            }
+
+            if (count == outcomes.length) {
+                if (outcomes[index]) {
+                    failures--;
+                }
+            } else {
+                count++;
+            }
+            outcomes[index] = failure;
+            if (failure) {
+                failures++;
+            }
+            index = (index + 1) % outcomes.length;
+
+            if (count >= minimumCalls && failures * 100 >= failureRateThreshold * count) {
+                transition(CircuitState.OPEN);
+            }
+        }
+
+        synchronized void release(long permit) {
+            if (permit == generation && state == CircuitState.HALF_OPEN) {
+                halfOpenInFlight--;
+            }
+        }
+
+        private void transition(CircuitState next) {
+            state = next;
+            generation++;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+            if (next == CircuitState.OPEN) {
+                openedAt = System.currentTimeMillis();
+                logger.error("❌ 바이낸스 API 서킷 브레이커 열림: {} ({}ms 동안 호출 중단, 최근 {}건 중 실패 {}건)",
+                        key, openDurationMs, count, failures);
+            } else if (next == CircuitState.CLOSED) {
+                index = 0;
+                count = 0;
+                failures = 0;
+                logger.info("✅ 바이낸스 API 서킷 브레이커 닫힘: {}", key);
+            } else {
+                logger.info("바이낸스 API 서킷 브레이커 시험 호출 허용 (HALF_OPEN): {}", key);
+            }
+            Counter.builder("binance.circuit.transition")
+                    .tag("endpoint", key)
+                    .tag("state", next.name())
+                    .description("서킷 브레이커 상태 전환 수")
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.util.BinanceQueryBuilder;
+import com.example.autotradebot.util.HexUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * API Key별 HMAC SHA256 서명기 레지스트리
+ * <p>
+ * API Key마다 초기화가 끝난 Mac을 원본(prototype)으로 보관하고, 서명할 때는 원본을 clone()하여 사용합니다.
+ * 원본은 초기화 이후 상태가 바뀌지 않으므로 여러 스레드에서 동시에 clone해도 안전하며,
+ * Mac.getInstance()의 Provider 조회와 init()의 키 패딩/해시 과정을 요청마다 반복하지 않습니다.
+ * (가상 스레드 환경에서도 쓸 수 있도록 ThreadLocal은 사용하지 않습니다.)
+ * <p>
+ * 보관 개수(MAX_SIGNERS)를 넘거나 오래 사용하지 않은 서명기는 캐시에서 제거되며,
+ * 같은 API Key의 Secret Key가 바뀌면(키 교체) 서명할 때 새 Secret Key로 다시 만듭니다.
+ */
+@Component
+public class BinanceSignerManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceSignerManager.class);
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int MAX_SIGNERS = 10_000;
+    private static final Duration IDLE_EVICT = Duration.ofHours(1);
+
+    /**
+     * API Key별 서명기 (key: accessKey)
+     */
+    private final Cache<String, Signer> signers = Caffeine.newBuilder()
+            .maximumSize(MAX_SIGNERS)
+            .expireAfterAccess(IDLE_EVICT)
+            .build();
+
+    /**
+     * 쿼리 빌더에 담긴 파라미터 전체를 서명합니다.
+     *
+     * @param query     서명할 쿼리 파라미터
+     * @param accessKey API Key (서명기 캐시 키)
+     * @param secretKey API Secret Key
+     * @return 서명 (hex 문자열)
+     */
+    public String sign(BinanceQueryBuilder query, String accessKey, String secretKey) {
+        Mac mac = acquireMac(accessKey, secretKey);
+        query.updateMac(mac);
+        return HexUtils.toHex(mac.doFinal());
+    }
+
+    /**
+     * 문자열을 서명합니다.
+     *
+     * @param payload   서명할 문자열
+     * @param accessKey API Key (서명기 캐시 키)
+     * @param secretKey API Secret Key
+     * @return 서명 (hex 문자열)
+     */
+    public String sign(String payload, String accessKey, String secretKey) {
+        Mac mac = acquireMac(accessKey, secretKey);
+        return HexUtils.toHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 키가 교체되었거나 계정이 삭제된 경우 보관 중인 서명기를 제거합니다.
+     */
+    public void evict(String accessKey) {
+        if (accessKey != null) {
+            signers.invalidate(accessKey);
+        }
+    }
+
+    private Mac acquireMac(String accessKey, String secretKey) {
+        Signer signer = signers.get(accessKey, key -> new Signer(secretKey, createMac(secretKey)));
+        if (!signer.secretKey().equals(secretKey)) {
+            logger.info("API Key의 Secret Key가 변경되어 서명기를 다시 만듭니다.");
+            signer = new Signer(secretKey, createMac(secretKey));
+            signers.put(accessKey, signer);
+        }
+        try {
+            return (Mac) signer.prototype().clone();
+        } catch (CloneNotSupportedException e) {
+            // clone을 지원하지 않는 Provider라면 매번 새로 초기화합니다.
+            return createMac(secretKey);
+        }
+    }
+
+    private Mac createMac(String secretKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), HMAC_SHA256));
+            return mac;
+        } catch (Exception e) {
+            throw new RuntimeException("서명 생성 오류", e);
+        }
+    }
+
+    /**
+     * 초기화된 Mac 원본과 생성에 사용한 Secret Key (키 교체 확인용)
+     */
+    private record Signer(String secretKey, Mac prototype) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.autotradebot.manager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 바이낸스 웹소켓 스트림 수신 리스너
+ * <p>
+ * 메시지는 스트림 연결의 수신 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 합니다.
+ */
+public interface BinanceStreamListener {
+
+    /**
+     * @param stream 스트림 이름 (예: "btcusdt@depth@100ms")
+     * @param data   combined 스트림 메시지의 data 필드
+     */
+    void onMessage(String stream, JsonNode data);
+
+    /**
+     * 스트림 연결이 끊겼을 때 호출됩니다. (재연결 전까지 수신된 이벤트가 없으므로 로컬 상태를 무효화해야 합니다.)
+     */
+    default void onDisconnect(String stream) {
+    }
+}
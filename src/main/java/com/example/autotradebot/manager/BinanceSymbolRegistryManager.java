@@ -0,0 +1,233 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceExchangeInfoDto;
+import com.example.autotradebot.dto.BinanceSymbolFilterDto;
+import com.example.autotradebot.service.BinanceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 심볼 필터 레지스트리 매니저
+ * <p>
+ * "/fapi/v1/exchangeInfo"의 심볼별 필터(PRICE_FILTER, LOT_SIZE, MARKET_LOT_SIZE, MIN_NOTIONAL)를
+ * 불변 객체({@link BinanceSymbolFilterDto})로 변환해 메모리에 유지하고, 주문 전에 가격/수량을 로컬에서 보정·검증합니다.
+ * 거래소에서 거절될 주문(-1111 정밀도 초과, -4164 최소 주문 금액 미달 등)을 미리 걸러 불필요한 API 호출을 줄입니다.
+ * <p>
+ * 조회 쪽은 volatile 참조 하나만 읽으며, 갱신 시에는 새 Map을 만들어 참조를 교체합니다.
+ * 백그라운드 갱신은 ETag / Last-Modified가 있으면 조건부 요청(304)을 보내고,
+ * 응답을 받은 경우에도 필터 내용이 같으면 교체하지 않습니다. 신규 상장 심볼은 다음 갱신부터 사용할 수 있습니다.
+ */
+@Component
+public class BinanceSymbolRegistryManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceSymbolRegistryManager.class);
+
+    private final BinanceService binanceService;
+    private final MeterRegistry meterRegistry;
+    private final long refreshIntervalMs;
+
+    /**
+     * 심볼별 필터 (key: symbol), 갱신 시 통째로 교체됩니다.
+     */
+    private volatile Map<String, BinanceSymbolFilterDto> filters = Map.of();
+
+    private volatile String eTag;
+    private volatile String lastModified;
+    private volatile long refreshedAt;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    public BinanceSymbolRegistryManager(BinanceService binanceService,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${binance.symbol-registry.refresh-interval-ms:300000}") long refreshIntervalMs) {
+        this.binanceService = binanceService;
+        this.meterRegistry = meterRegistry;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("binance.symbols.count", this, manager -> manager.filters.size())
+                .description("필터 정보를 보유한 심볼 수")
+                .register(meterRegistry);
+        Gauge.builder("binance.symbols.age", this, manager -> manager.refreshedAt == 0
+                        ? -1 : System.currentTimeMillis() - manager.refreshedAt)
+                .description("마지막 거래소 정보 확인 후 경과 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+
+        // 트레이드 스케줄러가 시작되기 전에 한 번 적재합니다.
+        refresh();
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("binance-symbol-registry-");
+        taskScheduler.initialize();
+        taskScheduler.scheduleWithFixedDelay(this::refresh,
+                Instant.now().plusMillis(refreshIntervalMs), Duration.ofMillis(refreshIntervalMs));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * @param symbol 거래 심볼 (예: "BTCUSDT")
+     * @return 심볼 필터, 거래소에 없는 심볼이면 null
+     */
+    public BinanceSymbolFilterDto getFilter(String symbol) {
+        return filters.get(symbol);
+    }
+
+    /**
+     * 지정가 주문을 거래소 필터 기준으로 검증합니다. (가격/수량은 미리 {@link BinanceSymbolFilterDto}로 보정되어 있어야 합니다.)
+     *
+     * @param reduceOnly 포지션 종료 주문 여부 (reduceOnly 주문은 최소 주문 금액을 검사하지 않습니다.)
+     * @return 거절 사유, 주문 가능하면 null
+     */
+    public String validateOrder(String symbol, BigDecimal price, BigDecimal quantity, boolean reduceOnly) {
+        BinanceSymbolFilterDto filter = filters.get(symbol);
+        String reason = null;
+        if (filter == null) {
+            reason = "unknown-symbol";
+        } else if (!filter.isTrading()) {
+            reason = "not-trading";
+        } else if (!isWithin(price, filter.getMinPrice(), filter.getMaxPrice()) || !isMultiple(price, filter.getTickSize())) {
+            reason = "price";
+        } else if (!isWithin(quantity, filter.getMinQty(), filter.getMaxQty()) || !isMultiple(quantity, filter.getStepSize())) {
+            reason = "quantity";
+        } else if (!reduceOnly && filter.getMinNotional() != null
+                && price.multiply(quantity).compareTo(filter.getMinNotional()) < 0) {
+            reason = "notional";
+        }
+
+        if (reason != null) {
+            Counter.builder("binance.symbols.preflight.rejected")
+                    .tag("reason", reason)
+                    .description("주문 전 로컬 검증에서 거절된 주문 수")
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return reason;
+    }
+
+    /**
+     * 거래소 정보를 다시 조회하여 변경된 경우에만 필터를 교체합니다.
+     */
+    public void refresh() {
+        try {
+            ResponseEntity<BinanceExchangeInfoDto> response = binanceService.getExchangeInfoIfModified(eTag, lastModified)
+                    .block(Duration.ofSeconds(30));
+            refreshedAt = System.currentTimeMillis();
+
+            if (response == null || response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                countRefresh("not-modified");
+                return;
+            }
+            HttpHeaders headers = response.getHeaders();
+            eTag = headers.getETag();
+            lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+            BinanceExchangeInfoDto exchangeInfo = response.getBody();
+            if (exchangeInfo == null || exchangeInfo.getSymbols() == null) {
+                countRefresh("failed");
+                logger.warn("⚠ 거래소 정보 응답에 심볼 목록이 없습니다.");
+                return;
+            }
+
+            Map<String, BinanceSymbolFilterDto> updated = new HashMap<>();
+            for (BinanceExchangeInfoDto.SymbolInfo symbolInfo : exchangeInfo.getSymbols()) {
+                updated.put(symbolInfo.getSymbol(), toFilter(symbolInfo));
+            }
+            if (updated.equals(filters)) {
+                countRefresh("unchanged");
+                return;
+            }
+
+            int previousSize = filters.size();
+            filters = Map.copyOf(updated);
+            countRefresh("updated");
+            logger.info("✅ 심볼 필터 갱신: {}개 (이전 {}개)", updated.size(), previousSize);
+        } catch (Exception e) {
+            countRefresh("failed");
+            logger.error("❌ 거래소 정보 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private BinanceSymbolFilterDto toFilter(BinanceExchangeInfoDto.SymbolInfo symbolInfo) {
+        BinanceSymbolFilterDto.BinanceSymbolFilterDtoBuilder builder = BinanceSymbolFilterDto.builder()
+                .symbol(symbolInfo.getSymbol())
+                .status(symbolInfo.getStatus())
+                .pricePrecision(symbolInfo.getPricePrecision())
+                .quantityPrecision(symbolInfo.getQuantityPrecision());
+
+        if (symbolInfo.getFilters() != null) {
+            for (BinanceExchangeInfoDto.Filter filter : symbolInfo.getFilters()) {
+                switch (String.valueOf(filter.getFilterType())) {
+                    case "PRICE_FILTER" -> builder.minPrice(positive(filter.getMinPrice()))
+                            .maxPrice(positive(filter.getMaxPrice()))
+                            .tickSize(positive(filter.getTickSize()));
+                    case "LOT_SIZE" -> builder.minQty(positive(filter.getMinQty()))
+                            .maxQty(positive(filter.getMaxQty()))
+                            .stepSize(positive(filter.getStepSize()));
+                    case "MARKET_LOT_SIZE" -> builder.marketMinQty(positive(filter.getMinQty()))
+                            .marketMaxQty(positive(filter.getMaxQty()))
+                            .marketStepSize(positive(filter.getStepSize()));
+                    case "MIN_NOTIONAL" -> builder.minNotional(positive(filter.getNotional()));
+                    default -> {
+                        // PERCENT_PRICE, MAX_NUM_ORDERS 등은 사용하지 않습니다.
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 거래소는 제한이 없는 항목을 0으로 내려주므로 0은 null(검사 안 함)로 저장합니다.
+     */
+    private BigDecimal positive(BigDecimal value) {
+        return value != null && value.signum() > 0 ? value.stripTrailingZeros() : null;
+    }
+
+    private boolean isWithin(BigDecimal value, BigDecimal min, BigDecimal max) {
+        if (value == null || value.signum() <= 0) {
+            return false;
+        }
+        return (min == null || value.compareTo(min) >= 0) && (max == null || value.compareTo(max) <= 0);
+    }
+
+    private boolean isMultiple(BigDecimal value, BigDecimal increment) {
+        return increment == null || value.remainder(increment).signum() == 0;
+    }
+
+    private void countRefresh(String result) {
+        Counter.builder("binance.symbols.refresh")
+                .tag("result", result)
+                .description("거래소 정보 갱신 결과 (updated / unchanged / not-modified / failed)")
+                .register(meterRegistry)
+                .increment();
+    }
+}
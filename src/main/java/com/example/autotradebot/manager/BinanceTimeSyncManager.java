@@ -0,0 +1,318 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.exception.BinanceApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 바이낸스 서버 시간 동기화 매니저
+ * <p>
+ * 백그라운드에서 주기적으로 "/fapi/v1/time"을 샘플링하여 로컬 시계와의 오프셋(offset)과
+ * 드리프트(drift)를 추적하고, 서명 요청에 필요한 timestamp를 네트워크 왕복 없이 메모리에서 계산합니다.
+ * <p>
+ * 오프셋은 최근 샘플 중 RTT가 가장 짧은 샘플을 기준으로 하며 (RTT가 짧을수록 오차가 작음),
+ * 드리프트는 샘플 구간 전체의 (로컬 시각, 오프셋)에 최소제곱 직선을 맞춰 구하며,
+ * 기울기가 RTT 잡음보다 통계적으로 유의할 때만 적용합니다. (그렇지 않으면 0)
+ */
+@Component
+public class BinanceTimeSyncManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceTimeSyncManager.class);
+
+    private static final String TIME_ENDPOINT = "/fapi/v1/time";
+    private static final int SAMPLE_WINDOW = 8;              // 오프셋 계산에 사용할 최근 샘플 개수
+    private static final int MIN_DRIFT_SAMPLES = 4;          // 드리프트 계산에 필요한 최소 샘플 개수
+    private static final long MIN_DRIFT_SPAN_MS = 60000L;    // 드리프트 계산에 필요한 최소 샘플 구간 길이
+    private static final double DRIFT_SIGNIFICANCE = 3.0;    // 기울기가 표준오차의 이 배수 이상일 때만 드리프트 적용
+    private static final double MAX_DRIFT_PER_MS = 0.0005;   // 드리프트 상한 (500ppm)
+    private static final Duration SAMPLE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+    private final long syncIntervalMs;
+    private final long maxStalenessMs;
+
+    private final Deque<ClockSample> samples = new ArrayDeque<>();
+    private final AtomicReference<Mono<Void>> inflightSync = new AtomicReference<>();
+    private volatile ClockState state;
+
+    private final MeterRegistry meterRegistry;
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    public BinanceTimeSyncManager(@Qualifier("binanceApiClient") WebClient webClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${binance.time-sync.interval-ms:30000}") long syncIntervalMs,
+                                  @Value("${binance.time-sync.max-staleness-ms:120000}") long maxStalenessMs) {
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.syncIntervalMs = syncIntervalMs;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    /**
+     * 메트릭 등록 후 주기적인 서버 시간 샘플링을 시작합니다.
+     */
+    @PostConstruct
+    public void init() {
+        Gauge.builder("binance.clock.offset", this, BinanceTimeSyncManager::getOffsetMs)
+                .description("바이낸스 서버 시간 - 로컬 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("binance.clock.rtt", this, BinanceTimeSyncManager::getLastRttMs)
+                .description("마지막 서버 시간 샘플의 왕복 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("binance.clock.staleness", this, BinanceTimeSyncManager::getStalenessMs)
+                .description("마지막 동기화 이후 경과 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("binance.clock.drift", this, manager -> manager.getDriftPerMs() * 1_000_000d)
+                .description("로컬 시계 드리프트 (ppm)")
+                .register(meterRegistry);
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("binance-clock-");
+        taskScheduler.initialize();
+        taskScheduler.scheduleWithFixedDelay(this::scheduledSync, Duration.ofMillis(syncIntervalMs));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 서명 요청에 사용할 바이낸스 서버 기준 timestamp를 반환합니다.
+     * <p>
+     * 동기화 값이 유효하면 메모리에서 즉시 계산하고,
+     * 아직 동기화되지 않았거나 허용 경과 시간을 넘긴 경우에만 재동기화 후 계산합니다.
+     *
+     * @return 서버 기준 현재 시간 (밀리초)
+     */
+    public Mono<Long> timestamp() {
+        ClockState current = state;
+        long localNow = System.currentTimeMillis();
+        if (current != null && localNow - current.syncedLocalMs() <= maxStalenessMs) {
+            return Mono.just(current.serverTimeAt(localNow));
+        }
+        return resync("stale")
+                .then(Mono.fromSupplier(() -> state.serverTimeAt(System.currentTimeMillis())))
+                .onErrorResume(error -> {
+                    if (current == null) {
+                        return Mono.error(error);
+                    }
+                    // 재동기화에 실패하면 마지막 보정값으로 계속 진행합니다.
+                    logger.warn("⚠ 서버 시간 재동기화 실패, 기존 보정값 사용: {}", error.getMessage());
+                    return Mono.fromSupplier(() -> current.serverTimeAt(System.currentTimeMillis()));
+                });
+    }
+
+    /**
+     * 즉시 서버 시간을 다시 샘플링합니다.
+     * <p>
+     * 동시에 여러 요청이 재동기화를 요구하더라도 실제 "/fapi/v1/time" 호출은 한 번만 진행됩니다.
+     *
+     * @param reason 재동기화 사유 (메트릭 태그로 사용)
+     */
+    public Mono<Void> resync(String reason) {
+        return Mono.defer(() -> {
+            Mono<Void> running = inflightSync.get();
+            if (running != null) {
+                return running;
+            }
+            Mono<Void> created = fetchSample()
+                    .doOnNext(this::applySample)
+                    .doOnSubscribe(subscription -> Counter.builder("binance.clock.resync")
+                            .tag("reason", reason)
+                            .register(meterRegistry)
+                            .increment())
+                    .then()
+                    .cache();
+            if (!inflightSync.compareAndSet(null, created)) {
+                Mono<Void> existing = inflightSync.get();
+                return existing != null ? existing : created;
+            }
+            return created.doFinally(signal -> inflightSync.compareAndSet(created, null));
+        });
+    }
+
+    /**
+     * 주어진 예외가 바이낸스 -1021 (timestamp 범위 초과) 오류인지 확인합니다.
+     */
+    public boolean isTimestampError(Throwable throwable) {
+        return throwable instanceof BinanceApiException binanceApiException
+                && binanceApiException.getCode() != null
+                && binanceApiException.getCode() == -1021;
+    }
+
+    public long getOffsetMs() {
+        ClockState current = state;
+        return current == null ? 0L : current.serverTimeAt(System.currentTimeMillis()) - System.currentTimeMillis();
+    }
+
+    public long getLastRttMs() {
+        ClockState current = state;
+        return current == null ? 0L : current.lastRttMs();
+    }
+
+    public long getStalenessMs() {
+        ClockState current = state;
+        return current == null ? -1L : System.currentTimeMillis() - current.syncedLocalMs();
+    }
+
+    public double getDriftPerMs() {
+        ClockState current = state;
+        return current == null ? 0d : current.driftPerMs();
+    }
+
+    private void scheduledSync() {
+        try {
+            resync("scheduled").block(SAMPLE_TIMEOUT);
+        } catch (Exception e) {
+            logger.warn("⚠ 바이낸스 서버 시간 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 서버 시간을 한 번 조회하여 샘플을 생성합니다.
+     * 오프셋은 요청 송신 시각과 RTT의 절반을 더한 시점을 서버 응답 시점으로 가정하여 계산합니다.
+     */
+    private Mono<ClockSample> fetchSample() {
+        return Mono.defer(() -> {
+            long sentAtMs = System.currentTimeMillis();
+            long sentAtNanos = System.nanoTime();
+            return webClient.get()
+                    .uri(TIME_ENDPOINT)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .timeout(SAMPLE_TIMEOUT)
+                    .map(result -> {
+                        Object serverTime = result.get("serverTime");
+                        if (!(serverTime instanceof Number)) {
+                            throw new RuntimeException("Binance 서버 시간을 가져올 수 없습니다.");
+                        }
+                        long rttMs = (System.nanoTime() - sentAtNanos) / 1_000_000L;
+                        long localMidMs = sentAtMs + rttMs / 2;
+                        return new ClockSample(localMidMs, ((Number) serverTime).longValue() - localMidMs, rttMs);
+                    });
+        });
+    }
+
+    private synchronized void applySample(ClockSample sample) {
+        samples.addLast(sample);
+        if (samples.size() > SAMPLE_WINDOW) {
+            samples.removeFirst();
+        }
+
+        ClockState previous = state;
+        double driftPerMs = estimateDrift();
+
+        ClockSample best = sample;
+        for (ClockSample candidate : samples) {
+            if (candidate.rttMs() < best.rttMs()) {
+                best = candidate;
+            }
+        }
+
+        state = new ClockState(best.localTimeMs(), best.offsetMs(), driftPerMs, sample.rttMs(), sample.localTimeMs());
+
+        if (previous == null) {
+            logger.info("✅ 바이낸스 서버 시간 동기화 완료: offset={}ms, rtt={}ms", sample.offsetMs(), sample.rttMs());
+        } else {
+            logger.debug("바이낸스 서버 시간 재동기화: offset={}ms, rtt={}ms, drift={}ppm",
+                    sample.offsetMs(), sample.rttMs(), driftPerMs * 1_000_000d);
+        }
+    }
+
+    /**
+     * 샘플 구간 전체의 오프셋 변화에 최소제곱 직선을 맞춰 드리프트(ms당 오프셋 변화량)를 추정합니다.
+     * <p>
+     * 샘플 하나의 오프셋에는 RTT 수준의 오차가 있으므로, 샘플이 충분하지 않거나 구간이 짧거나
+     * 기울기가 표준오차의 DRIFT_SIGNIFICANCE배보다 작으면 잡음으로 보고 0을 반환합니다.
+     */
+    private double estimateDrift() {
+        int n = samples.size();
+        if (n < MIN_DRIFT_SAMPLES || samples.peekLast().localTimeMs() - samples.peekFirst().localTimeMs() < MIN_DRIFT_SPAN_MS) {
+            return 0d;
+        }
+
+        // 정밀도를 위해 첫 샘플 기준 상대값으로 계산합니다.
+        long originMs = samples.peekFirst().localTimeMs();
+        double meanX = 0d;
+        double meanY = 0d;
+        for (ClockSample s : samples) {
+            meanX += s.localTimeMs() - originMs;
+            meanY += s.offsetMs();
+        }
+        meanX /= n;
+        meanY /= n;
+
+        double sxx = 0d;
+        double sxy = 0d;
+        for (ClockSample s : samples) {
+            double dx = s.localTimeMs() - originMs - meanX;
+            sxx += dx * dx;
+            sxy += dx * (s.offsetMs() - meanY);
+        }
+        if (sxx <= 0d) {
+            return 0d;
+        }
+        double slope = sxy / sxx;
+        double intercept = meanY - slope * meanX;
+
+        double sse = 0d;
+        for (ClockSample s : samples) {
+            double residual = s.offsetMs() - (intercept + slope * (s.localTimeMs() - originMs));
+            sse += residual * residual;
+        }
+        // 오프셋은 ms 단위로 잘리므로 잔차 분산의 하한을 둡니다. (반올림 오차 1/12 ms²)
+        double residualVariance = Math.max(sse / (n - 2), 1d / 12d);
+        double standardError = Math.sqrt(residualVariance / sxx);
+        if (Math.abs(slope) < DRIFT_SIGNIFICANCE * standardError) {
+            return 0d;
+        }
+        return Math.max(-MAX_DRIFT_PER_MS, Math.min(MAX_DRIFT_PER_MS, slope));
+    }
+
+    /**
+     * 단일 서버 시간 샘플
+     *
+     * @param localTimeMs 서버가 응답했다고 추정되는 로컬 시각
+     * @param offsetMs    서버 시간 - 로컬 시간
+     * @param rttMs       왕복 시간
+     */
+    private record ClockSample(long localTimeMs, long offsetMs, long rttMs) {
+    }
+
+    /**
+     * 현재 사용 중인 시계 보정값 (불변 객체로 교체하여 락 없이 읽습니다.)
+     */
+    private record ClockState(long baseLocalMs, long baseOffsetMs, double driftPerMs,
+                              long lastRttMs, long syncedLocalMs) {
+
+        long serverTimeAt(long localNowMs) {
+            return localNowMs + baseOffsetMs + (long) (driftPerMs * (localNowMs - baseLocalMs));
+        }
+    }
+}
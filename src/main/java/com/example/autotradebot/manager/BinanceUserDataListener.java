@@ -0,0 +1,44 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceAccountUpdateDto;
+import com.example.autotradebot.dto.BinanceOrderUpdateDto;
+
+/**
+ * 바이낸스 User Data Stream 이벤트 리스너
+ * <p>
+ * 이벤트는 계정별 스트림 수신 스레드에서 호출되므로 DB 작업 등 블로킹 작업은 다른 스레드로 넘겨야 합니다.
+ */
+public interface BinanceUserDataListener {
+
+    /**
+     * ORDER_TRADE_UPDATE (주문 생성, 체결, 취소, 만료)
+     *
+     * @param emailPk 이벤트가 발생한 계정의 사용자
+     */
+    default void onOrderTradeUpdate(String emailPk, BinanceOrderUpdateDto update) {
+    }
+
+    /**
+     * ACCOUNT_UPDATE (잔고, 포지션 변경)
+     *
+     * @param emailPk 이벤트가 발생한 계정의 사용자
+     */
+    default void onAccountUpdate(String emailPk, BinanceAccountUpdateDto update) {
+    }
+
+    /**
+     * ACCOUNT_CONFIG_UPDATE 중 레버리지 변경 (거래소 화면 등 외부에서 변경된 경우 포함)
+     *
+     * @param emailPk  이벤트가 발생한 계정의 사용자
+     * @param symbol   거래 심볼
+     * @param leverage 변경된 레버리지
+     */
+    default void onLeverageUpdate(String emailPk, String symbol, Integer leverage) {
+    }
+
+    /**
+     * 계정 스트림이 끊겼을 때 호출됩니다. (재연결 전까지 이벤트가 유실될 수 있습니다.)
+     */
+    default void onUserStreamDisconnect(String emailPk) {
+    }
+}
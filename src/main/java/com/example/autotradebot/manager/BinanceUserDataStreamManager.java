@@ -0,0 +1,312 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.config.EnvConfig;
+import com.example.autotradebot.dto.BinanceAccountUpdateDto;
+import com.example.autotradebot.dto.BinanceOrderUpdateDto;
+import com.example.autotradebot.dto.VendorApiKeyDto;
+import com.example.autotradebot.mapper.VendorApiKeysMapper;
+import com.example.autotradebot.service.BinanceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 바이낸스 User Data Stream 매니저
+ * <p>
+ * 계정(API Key)마다 listenKey를 발급받아 User Data Stream에 연결하고,
+ * ORDER_TRADE_UPDATE / ACCOUNT_UPDATE 이벤트를 {@link BinanceUserDataListener}에 전달합니다.
+ * <p>
+ * listenKey는 60분 후 만료되므로 30분마다 keepalive를 보내며,
+ * 연결이 끊기거나 listenKeyExpired 이벤트를 받으면 listenKey를 다시 발급받아 재연결합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduling.trade", havingValue = "true", matchIfMissing = false)
+public class BinanceUserDataStreamManager {
+
+    private Logger logger = LoggerFactory.getLogger(BinanceUserDataStreamManager.class);
+
+    private static final long INITIAL_RECONNECT_DELAY_MS = 1000L;
+    private static final long MAX_RECONNECT_DELAY_MS = 60000L;
+
+    private final BinanceService binanceService;
+    private final EnvConfig envConfig;
+    private final ObjectMapper objectMapper;
+    private final VendorApiKeysMapper vendorApiKeysMapper;
+    private final ObjectProvider<BinanceUserDataListener> listeners;
+    private final MeterRegistry meterRegistry;
+    private final long keepAliveIntervalMs;
+
+    /**
+     * 계정별 스트림 (key: accessKey)
+     */
+    private final Map<String, UserStream> streams = new ConcurrentHashMap<>();
+
+    private ThreadPoolTaskScheduler taskScheduler;
+    private Counter reconnectCounter;
+    private volatile boolean shutdown;
+
+    @Autowired
+    public BinanceUserDataStreamManager(BinanceService binanceService,
+                                        EnvConfig envConfig,
+                                        BinanceConfig binanceConfig,
+                                        VendorApiKeysMapper vendorApiKeysMapper,
+                                        ObjectProvider<BinanceUserDataListener> listeners,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${binance.user-stream.keepalive-interval-ms:1800000}") long keepAliveIntervalMs) {
+        this.binanceService = binanceService;
+        this.envConfig = envConfig;
+        this.objectMapper = binanceConfig.getBinanceObjectMapper();
+        this.vendorApiKeysMapper = vendorApiKeysMapper;
+        this.listeners = listeners;
+        this.meterRegistry = meterRegistry;
+        this.keepAliveIntervalMs = keepAliveIntervalMs;
+    }
+
+    @PostConstruct
+    public void init() {
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("binance-user-stream-");
+        taskScheduler.initialize();
+
+        reconnectCounter = Counter.builder("binance.userstream.reconnect")
+                .description("User Data Stream 재연결 횟수")
+                .register(meterRegistry);
+        Gauge.builder("binance.userstream.connected", streams,
+                        map -> map.values().stream().filter(UserStream::isOpen).count())
+                .description("연결된 User Data Stream 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 후 등록된 모든 계정의 User Data Stream을 연결합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<VendorApiKeyDto> apiKeys = vendorApiKeysMapper.selectAllVendorApiKeys();
+        logger.info("User Data Stream 연결 시작: 계정 {}개", apiKeys.size());
+        apiKeys.forEach(this::ensureStream);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        shutdown = true;
+        streams.values().forEach(UserStream::close);
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 계정의 User Data Stream이 없으면 연결합니다. (이후 등록된 계정도 트레이드 시점에 연결됩니다.)
+     */
+    public void ensureStream(VendorApiKeyDto vendorApiKeyDto) {
+        if (vendorApiKeyDto == null || vendorApiKeyDto.getAccessKey() == null) {
+            return;
+        }
+        streams.computeIfAbsent(vendorApiKeyDto.getAccessKey(), accessKey -> {
+            UserStream stream = new UserStream(vendorApiKeyDto.getEmailPk(), accessKey);
+            stream.start();
+            return stream;
+        });
+    }
+
+    /**
+     * @return 계정의 User Data Stream이 연결되어 이벤트를 받을 수 있으면 true
+     */
+    public boolean isConnected(String accessKey) {
+        UserStream stream = streams.get(accessKey);
+        return stream != null && stream.isOpen();
+    }
+
+    private void dispatch(String emailPk, String message) {
+        try {
+            JsonNode root = objectMapper.readTree(message);
+            String eventType = root.path("e").asText();
+            long eventTime = root.path("E").asLong();
+
+            Counter.builder("binance.userstream.events")
+                    .tag("type", eventType)
+                    .description("User Data Stream 수신 이벤트 수")
+                    .register(meterRegistry)
+                    .increment();
+
+            switch (eventType) {
+                case "ORDER_TRADE_UPDATE" -> {
+                    BinanceOrderUpdateDto update = objectMapper.treeToValue(root.get("o"), BinanceOrderUpdateDto.class);
+                    update.setEventTime(eventTime);
+                    logger.info("📩 주문 이벤트 [{}]: symbol={}, orderId={}, status={}", emailPk, update.getSymbol(), update.getOrderId(), update.getOrderStatus());
+                    listeners.orderedStream().forEach(listener -> listener.onOrderTradeUpdate(emailPk, update));
+                }
+                case "ACCOUNT_UPDATE" -> {
+                    BinanceAccountUpdateDto update = objectMapper.treeToValue(root.get("a"), BinanceAccountUpdateDto.class);
+                    update.setEventTime(eventTime);
+                    listeners.orderedStream().forEach(listener -> listener.onAccountUpdate(emailPk, update));
+                }
+                case "ACCOUNT_CONFIG_UPDATE" -> {
+                    JsonNode config = root.get("ac");
+                    if (config != null && config.hasNonNull("l")) {
+                        String symbol = config.path("s").asText();
+                        int leverage = config.path("l").asInt();
+                        listeners.orderedStream().forEach(listener -> listener.onLeverageUpdate(emailPk, symbol, leverage));
+                    }
+                }
+                default -> {
+                    // MARGIN_CALL 등은 사용하지 않습니다.
+                }
+            }
+        } catch (Exception e) {
+            logger.error("❌ User Data Stream 이벤트 처리 실패 [{}]: {}", emailPk, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 계정 하나의 User Data Stream
+     */
+    private final class UserStream {
+
+        private final String emailPk;
+        private final String accessKey;
+        private WebSocketClient client;
+        private ScheduledFuture<?> keepAliveTask;
+        private int reconnectAttempts;
+        private boolean reconnectScheduled;
+
+        UserStream(String emailPk, String accessKey) {
+            this.emailPk = emailPk;
+            this.accessKey = accessKey;
+        }
+
+        synchronized boolean isOpen() {
+            return client != null && client.isOpen();
+        }
+
+        synchronized void close() {
+            if (keepAliveTask != null) {
+                keepAliveTask.cancel(false);
+            }
+            if (client != null) {
+                client.close();
+            }
+        }
+
+        /**
+         * listenKey를 발급받아 스트림에 연결합니다.
+         */
+        void start() {
+            String endpoint = envConfig.getBinanceWsEndpoint();
+            if (endpoint == null || endpoint.isEmpty()) {
+                logger.error("❌ BINANCE_WS_ENDPOINT가 설정되지 않았습니다!");
+                return;
+            }
+
+            binanceService.createListenKey(accessKey)
+                    .subscribe(listenKey -> connect(endpoint, listenKey), error -> {
+                        logger.error("❌ listenKey 발급 실패 [{}]: {}", emailPk, error.getMessage());
+                        scheduleReconnect();
+                    });
+        }
+
+        private synchronized void connect(String endpoint, String listenKey) {
+            if (shutdown) {
+                return;
+            }
+            client = new WebSocketClient(URI.create(endpoint + "/ws/" + listenKey)) {
+                @Override
+                public void onOpen(ServerHandshake handshake) {
+                    logger.info("✅ User Data Stream 연결 성공 [{}]", emailPk);
+                    synchronized (UserStream.this) {
+                        reconnectAttempts = 0;
+                        scheduleKeepAlive();
+                    }
+                }
+
+                @Override
+                public void onMessage(String message) {
+                    if (message.contains("\"listenKeyExpired\"")) {
+                        logger.warn("⚠ listenKey 만료 [{}], 재발급 후 재연결합니다.", emailPk);
+                        close();
+                        return;
+                    }
+                    dispatch(emailPk, message);
+                }
+
+                @Override
+                public void onClose(int code, String reason, boolean remote) {
+                    logger.warn("⚠ User Data Stream 연결 종료 [{}]: code={}, reason={}", emailPk, code, reason);
+                    listeners.orderedStream().forEach(listener -> listener.onUserStreamDisconnect(emailPk));
+                    scheduleReconnect();
+                }
+
+                @Override
+                public void onError(Exception ex) {
+                    logger.error("❌ User Data Stream 오류 [{}]: {}", emailPk, ex.getMessage());
+                }
+            };
+            client.connect();
+        }
+
+        private void scheduleKeepAlive() {
+            if (keepAliveTask != null) {
+                keepAliveTask.cancel(false);
+            }
+            keepAliveTask = taskScheduler.scheduleAtFixedRate(() -> binanceService.keepAliveListenKey(accessKey)
+                            .subscribe(ignored -> { }, error -> {
+                                // -1125: listenKey가 존재하지 않음 → 연결을 닫아 재발급/재연결
+                                logger.error("❌ listenKey keepalive 실패 [{}]: {}", emailPk, error.getMessage());
+                                synchronized (UserStream.this) {
+                                    if (client != null) {
+                                        client.close();
+                                    }
+                                }
+                            }),
+                    Instant.now().plusMillis(keepAliveIntervalMs), Duration.ofMillis(keepAliveIntervalMs));
+        }
+
+        private synchronized void scheduleReconnect() {
+            if (shutdown || reconnectScheduled) {
+                return;
+            }
+            if (keepAliveTask != null) {
+                keepAliveTask.cancel(false);
+                keepAliveTask = null;
+            }
+            reconnectScheduled = true;
+            reconnectCounter.increment();
+            long delay = Math.min(INITIAL_RECONNECT_DELAY_MS << Math.min(reconnectAttempts, 6), MAX_RECONNECT_DELAY_MS);
+            reconnectAttempts++;
+            logger.info("⚠️ User Data Stream 재연결 예약 [{}] ({}ms 후)", emailPk, delay);
+            taskScheduler.schedule(() -> {
+                synchronized (UserStream.this) {
+                    reconnectScheduled = false;
+                }
+                start();
+            }, Instant.now().plusMillis(delay));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.autotradebot.manager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 미체결 주문 마감 시간 스케줄러 (해시 타이머 휠)
+ * <p>
+ * 주문마다 마감 시각을 등록하고, 마감된 주문의 처리 작업(상태 확인 후 미체결이면 취소)을 호출합니다.
+ * 등록/취소는 O(1)이며 대기 중인 주문은 스레드를 점유하지 않습니다. (타이머 스레드 1개가 tick 단위로 휠을 순회)
+ * 마감 작업은 타이머 스레드에서 호출되므로 블로킹 작업 없이 다른 실행기(계정 메일박스 → dbScheduler)로 넘겨야 합니다.
+ * <p>
+ * 재시작 등으로 등록되지 않은 주문은 TradeScheduler의 주기적인 주문 보정이 처리합니다.
+ */
+@Component
+public class OrderDeadlineManager {
+
+    private Logger logger = LoggerFactory.getLogger(OrderDeadlineManager.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long tickMs;
+    private final int ticksPerWheel;
+    private final long maxPending;
+
+    /**
+     * 등록된 마감 작업 (key: orderId)
+     */
+    private final Map<BigInteger, Deadline> deadlines = new ConcurrentHashMap<>();
+
+    private final Counter expiredCounter;
+    private final Counter cancelledCounter;
+
+    private HashedWheelTimer timer;
+
+    @Autowired
+    public OrderDeadlineManager(MeterRegistry meterRegistry,
+                                @Value("${trade.order-deadline.tick-ms:100}") long tickMs,
+                                @Value("${trade.order-deadline.ticks-per-wheel:512}") int ticksPerWheel,
+                                @Value("${trade.order-deadline.max-pending:100000}") long maxPending) {
+        this.meterRegistry = meterRegistry;
+        this.tickMs = tickMs;
+        this.ticksPerWheel = ticksPerWheel;
+        this.maxPending = maxPending;
+
+        this.expiredCounter = Counter.builder("trade.order.deadline")
+                .tag("result", "expired")
+                .description("주문 마감 처리 수 (expired: 마감 시간 도달, cancelled: 마감 전 종료되어 해제)")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("trade.order.deadline")
+                .tag("result", "cancelled")
+                .description("주문 마감 처리 수 (expired: 마감 시간 도달, cancelled: 마감 전 종료되어 해제)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "order-deadline-timer");
+            thread.setDaemon(true);
+            return thread;
+        };
+        timer = new HashedWheelTimer(threadFactory, tickMs, TimeUnit.MILLISECONDS, ticksPerWheel, false, maxPending);
+
+        Gauge.builder("trade.order.deadline.pending", deadlines, Map::size)
+                .description("마감 대기 중인 주문 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * 주문의 마감 작업을 등록합니다. 같은 주문에 이미 등록된 작업이 있으면 교체합니다.
+     *
+     * @param orderId 주문 번호
+     * @param delayMs 등록 시점부터 마감까지의 시간
+     * @param task    마감 시 실행할 작업 (타이머 스레드에서 호출되므로 블로킹 금지)
+     */
+    public void schedule(BigInteger orderId, long delayMs, Runnable task) {
+        Deadline deadline = new Deadline();
+        Deadline previous = deadlines.put(orderId, deadline);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        try {
+            deadline.timeout = timer.newTimeout(timeout -> {
+                // 마감 전에 해제/교체된 작업이면 실행하지 않습니다.
+                if (!deadlines.remove(orderId, deadline)) {
+                    return;
+                }
+                expiredCounter.increment();
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("❌ 주문 마감 작업 실패: orderId={}, {}", orderId, e.getMessage(), e);
+                }
+            }, Math.max(0L, delayMs), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 대기 주문 수 초과(RejectedExecutionException) 시 주기적인 주문 보정에 맡깁니다.
+            deadlines.remove(orderId, deadline);
+            logger.warn("⚠ 주문 마감 등록 실패 (주기 보정으로 처리): orderId={}, {}", orderId, e.getMessage());
+        }
+    }
+
+    /**
+     * 마감 전에 종료된 주문의 마감 작업을 해제합니다.
+     */
+    public void cancel(BigInteger orderId) {
+        Deadline deadline = deadlines.remove(orderId);
+        if (deadline != null && deadline.cancel()) {
+            cancelledCounter.increment();
+        }
+    }
+
+    public boolean isScheduled(BigInteger orderId) {
+        return deadlines.containsKey(orderId);
+    }
+
+    private static final class Deadline {
+        private volatile Timeout timeout;
+
+        private boolean cancel() {
+            Timeout current = timeout;
+            return current != null && current.cancel();
+        }
+    }
+}
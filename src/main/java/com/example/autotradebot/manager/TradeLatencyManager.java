@@ -0,0 +1,143 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.TradeSignalDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 신호 → 주문 지연 측정 매니저
+ * <p>
+ * 신호를 수신하면 순번(sequenceId)과 수신 시각을 기록하고, 이후 단계별 소요 시간을
+ * "trade.latency" 타이머(tag: stage, symbol)에 p50/p99/p999로 기록합니다. (Actuator /actuator/metrics/trade.latency)
+ * <ul>
+ *     <li>transport: 신호 발생(sourceTimestamp) → 수신</li>
+ *     <li>queue: 수신 → 트레이드 스케줄러가 신호를 가져감 (신호당 1회)</li>
+ *     <li>schedule: 스케줄러 처리 시작 → 사용자 트레이드 시작 (사용자/주문 상태 조회, 동시성 대기 포함)</li>
+ *     <li>balance, leverage, orderbook, order: 트레이드 중 바이낸스 호출 (order는 주문 응답까지)</li>
+ *     <li>persist: 주문 결과 DB 저장</li>
+ *     <li>signal_to_ack: 신호 수신 → 주문 응답</li>
+ * </ul>
+ */
+@Component
+public class TradeLatencyManager {
+
+    private Logger logger = LoggerFactory.getLogger(TradeLatencyManager.class);
+
+    public static final String STAGE_TRANSPORT = "transport";
+    public static final String STAGE_QUEUE = "queue";
+    public static final String STAGE_SCHEDULE = "schedule";
+    public static final String STAGE_BALANCE = "balance";
+    public static final String STAGE_LEVERAGE = "leverage";
+    public static final String STAGE_ORDER_BOOK = "orderbook";
+    public static final String STAGE_ORDER = "order";
+    public static final String STAGE_PERSIST = "persist";
+    public static final String STAGE_SIGNAL_TO_ACK = "signal_to_ack";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration percentileExpiry;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 단계/심볼별 타이머 (key: stage + ":" + symbol)
+     */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * 심볼별로 스케줄러가 마지막으로 가져간 신호 순번 (queue 단계는 신호당 한 번만 기록)
+     */
+    private final Map<String, Long> dispatchedSequences = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TradeLatencyManager(MeterRegistry meterRegistry,
+                               @Value("${trade.latency.percentile-expiry-ms:120000}") long percentileExpiryMs) {
+        this.meterRegistry = meterRegistry;
+        this.percentileExpiry = Duration.ofMillis(percentileExpiryMs);
+    }
+
+    /**
+     * 수신한 신호에 순번과 수신 시각을 기록합니다.
+     * 신호에 발생 시각(sourceTimestamp)이 있으면 전송 지연(transport)을 기록합니다.
+     */
+    public void stamp(TradeSignalDto tradeSignal) {
+        long receivedAt = System.currentTimeMillis();
+        tradeSignal.setSequenceId(sequence.incrementAndGet());
+        tradeSignal.setReceivedAt(receivedAt);
+        tradeSignal.setReceivedNanos(System.nanoTime());
+
+        Long sourceTimestamp = tradeSignal.getSourceTimestamp();
+        if (sourceTimestamp != null && sourceTimestamp > 0) {
+            // 서버 간 시계 차이로 음수가 나오면 0으로 기록합니다.
+            record(STAGE_TRANSPORT, tradeSignal.getSymbol(), TimeUnit.MILLISECONDS.toNanos(Math.max(0L, receivedAt - sourceTimestamp)));
+        }
+    }
+
+    /**
+     * 스케줄러가 신호를 처리하기 시작했음을 기록합니다. 같은 신호가 다시 처리될 때는 기록하지 않습니다.
+     */
+    public void markDispatched(TradeSignalDto tradeSignal) {
+        Long sequenceId = tradeSignal.getSequenceId();
+        if (sequenceId == null) {
+            return;
+        }
+        Long previous = dispatchedSequences.put(tradeSignal.getSymbol(), sequenceId);
+        if (previous == null || previous < sequenceId) {
+            recordSince(STAGE_QUEUE, tradeSignal.getSymbol(), tradeSignal.getReceivedNanos());
+        }
+    }
+
+    /**
+     * 신호 수신 시점부터 지금까지의 시간을 기록합니다. (수신 시각이 없는 신호는 기록하지 않음)
+     */
+    public void recordSinceReceived(String stage, TradeSignalDto tradeSignal) {
+        if (tradeSignal.getReceivedNanos() > 0) {
+            recordSince(stage, tradeSignal.getSymbol(), tradeSignal.getReceivedNanos());
+        }
+    }
+
+    public void recordSince(String stage, String symbol, long startNanos) {
+        record(stage, symbol, System.nanoTime() - startNanos);
+    }
+
+    public void record(String stage, String symbol, long nanos) {
+        timer(stage, symbol).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 구독 시점부터 완료(성공, 오류, 취소)까지의 시간을 기록합니다.
+     */
+    public <T> Mono<T> time(String stage, String symbol, Mono<T> mono) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return mono.doFinally(signal -> recordSince(stage, symbol, startNanos));
+        });
+    }
+
+    private Timer timer(String stage, String symbol) {
+        String key = stage + ":" + symbol;
+        Timer timer = timers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        return timers.computeIfAbsent(key, ignored -> Timer.builder("trade.latency")
+                .tag("stage", stage)
+                .tag("symbol", symbol != null ? symbol : "none")
+                .description("신호 → 주문 단계별 소요 시간")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .distributionStatisticExpiry(percentileExpiry)
+                .distributionStatisticBufferLength(3)
+                .register(meterRegistry));
+    }
+}
@@ -2,41 +2,221 @@ package com.example.autotradebot.manager;
 
 
 import com.example.autotradebot.dto.TradeSignalDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 버전 기반 트레이드 신호 저장소
+ * <p>
+ * 심볼별 최신 신호를 보관하며, 내용(포지션, 진입 가격, 레버리지)이 바뀐 신호가 저장될 때마다
+ * 단조 증가하는 버전을 부여합니다. (버전은 저장소 전체에서 증가하므로 심볼 안에서도 단조 증가합니다.)
+ * 저장할 때 받은 신호의 복사본을 보관하고 조회할 때도 복사본을 반환하므로, 호출한 쪽이 신호 객체를 바꿔도 저장된 신호는 바뀌지 않습니다.
+ * <ul>
+ *     <li>{@link #changesSince(long)}: 특정 버전 이후 바뀐 신호</li>
+ *     <li>{@link #snapshot()}: 현재 신호 스냅샷 (신호별 복사본)</li>
+ *     <li>{@link #claim(String, String, long)}: 소비자(사용자)별 커서로 신호 버전을 한 번만 처리</li>
+ *     <li>{@link #pruneCursors()}: 심볼 신호가 바뀌어 의미가 없어진 커서 정리</li>
+ * </ul>
+ */
 @Component
 public class TradeSignalCacheManager {
 
     private Logger logger = LoggerFactory.getLogger(TradeSignalCacheManager.class);
 
     private final ConcurrentHashMap<String, TradeSignalDto> tradeSignalCache = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
+    /**
+     * 소비자별 처리한 신호 버전 (key: consumer + ":" + symbol)
+     */
+    private final ConcurrentHashMap<String, Long> cursors = new ConcurrentHashMap<>();
+
+    private final ObjectProvider<TradeSignalListener> listeners;
+
+    @Autowired
+    public TradeSignalCacheManager(ObjectProvider<TradeSignalListener> listeners, MeterRegistry meterRegistry) {
+        this.listeners = listeners;
+
+        Gauge.builder("trade.signal.version", version, AtomicLong::get)
+                .description("트레이드 신호 저장소 현재 버전")
+                .register(meterRegistry);
+        Gauge.builder("trade.signal.cursors", cursors, ConcurrentHashMap::size)
+                .description("소비자(사용자)/심볼별 신호 처리 커서 수")
+                .register(meterRegistry);
+    }
 
     /**
-     * 주어진 심볼에 대한 포지션 정보를 캐시에 저장합니다.
+     * 주어진 심볼에 대한 포지션 정보를 저장합니다.
+     * 새 신호이거나 내용이 바뀐 신호이면 복사본에 새 버전을 부여하여 저장하고 리스너(트레이드 디스패처)에 바로 알립니다.
+     * 내용이 같은 신호는 기존 버전을 유지합니다. (전달받은 객체는 변경하지 않습니다.)
      *
      * @param symbol      트레이딩 심볼 (예: "BTCUSDT")
      * @param tradeSignal 포지션 정보
      */
     public void putTradeSignal(String symbol, TradeSignalDto tradeSignal) {
-        Map<String, TradeSignalDto> map = new HashMap<>();
-        map.put(symbol, tradeSignal);
-        tradeSignalCache.put(symbol, tradeSignal);
+        TradeSignalDto stored = copy(tradeSignal);
+        boolean[] changed = new boolean[1];
+        tradeSignalCache.compute(symbol, (key, previous) -> {
+            if (previous != null && isSameSignal(previous, stored)) {
+                return previous;
+            }
+            stored.setVersion(version.incrementAndGet());
+            changed[0] = true;
+            return stored;
+        });
+        if (!changed[0]) {
+            return;
+        }
+
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onTradeSignal(symbol, copy(stored));
+            } catch (RuntimeException e) {
+                logger.error("❌ 트레이드 신호 전달 실패: symbol={}, {}", symbol, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * @return 심볼의 최신 신호 (복사본), 없으면 null
+     */
+    public TradeSignalDto getTradeSignal(String symbol) {
+        TradeSignalDto tradeSignal = tradeSignalCache.get(symbol);
+        return tradeSignal != null ? copy(tradeSignal) : null;
+    }
+
+    /**
+     * @return 저장소 현재 버전 (마지막으로 부여한 버전)
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     /**
-     * 모든 포지션을 반환합니다.
+     * @param sinceVersion 이미 확인한 버전
+     * @return sinceVersion 이후 바뀐 심볼의 최신 신호 복사본 (버전 오름차순)
+     */
+    public List<TradeSignalDto> changesSince(long sinceVersion) {
+        List<TradeSignalDto> changes = new ArrayList<>();
+        for (TradeSignalDto signal : tradeSignalCache.values()) {
+            if (signal.getVersion() > sinceVersion) {
+                changes.add(copy(signal));
+            }
+        }
+        changes.sort(Comparator.comparingLong(TradeSignalDto::getVersion));
+        return changes;
+    }
+
+    /**
+     * @return 심볼별 최신 신호 스냅샷 (맵은 변경할 수 없고, 값은 저장된 신호와 분리된 복사본)
+     */
+    public Map<String, TradeSignalDto> snapshot() {
+        Map<String, TradeSignalDto> snapshot = new HashMap<>();
+        tradeSignalCache.forEach((symbol, signal) -> snapshot.put(symbol, copy(signal)));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * 소비자가 심볼 신호의 해당 버전을 처리하도록 선점합니다.
+     * 소비자별 커서가 이 버전보다 작을 때만 성공하므로, 같은 버전은 소비자당 한 번만 처리됩니다.
      *
-     * @return 모든 포지션 리스트
+     * @param consumer 소비자 (예: 사용자 emailPk)
+     * @return 선점 여부 (이미 처리했거나 더 최신 버전을 처리했으면 false)
+     */
+    public boolean claim(String consumer, String symbol, long signalVersion) {
+        boolean[] claimed = new boolean[1];
+        cursors.compute(consumer + ":" + symbol, (key, processed) -> {
+            if (processed != null && processed >= signalVersion) {
+                return processed;
+            }
+            claimed[0] = true;
+            return signalVersion;
+        });
+        return claimed[0];
+    }
+
+    /**
+     * 처리하지 못한 버전의 선점을 해제하여 다시 처리할 수 있도록 합니다. (그 사이 더 최신 버전을 선점했으면 유지)
      */
-    public ConcurrentHashMap<String, TradeSignalDto> getAllTradeSignals() {
-        return tradeSignalCache;
+    public void release(String consumer, String symbol, long signalVersion) {
+        cursors.remove(consumer + ":" + symbol, signalVersion);
     }
 
+    /**
+     * 소비자의 심볼 커서를 지워 현재 신호를 다시 처리하도록 하고 리스너에 알립니다.
+     * 처리한 신호의 결과가 신호와 다를 때(반대 신호로 기존 포지션만 종료된 경우, 주문이 체결 없이 끝난 경우) 사용합니다.
+     */
+    public void reopen(String consumer, String symbol) {
+        cursors.remove(consumer + ":" + symbol);
+        TradeSignalDto tradeSignal = tradeSignalCache.get(symbol);
+        if (tradeSignal == null) {
+            return;
+        }
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onTradeSignalReopened(symbol, copy(tradeSignal));
+            } catch (RuntimeException e) {
+                logger.error("❌ 트레이드 신호 재처리 전달 실패: symbol={}, {}", symbol, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 의미가 없어진 커서를 정리합니다.
+     * 커서 버전이 심볼의 현재 신호 버전보다 작으면 커서가 없는 것과 같으므로(다음 선점이 성공) 제거합니다.
+     * 비활성화되었거나 삭제된 사용자의 커서도 심볼 신호가 바뀐 뒤 첫 정리에서 제거되므로,
+     * 커서 수는 (심볼별 마지막 신호를 처리한 사용자 수)를 넘지 않습니다.
+     * 정리 중 같은 커서를 새로 선점한 경우에는 제거하지 않습니다.
+     *
+     * @return 제거한 커서 수
+     */
+    public int pruneCursors() {
+        int removed = 0;
+        for (Map.Entry<String, Long> entry : cursors.entrySet()) {
+            String key = entry.getKey();
+            Long processed = entry.getValue();
+            TradeSignalDto tradeSignal = tradeSignalCache.get(key.substring(key.lastIndexOf(':') + 1));
+            if ((tradeSignal == null || processed < tradeSignal.getVersion()) && cursors.remove(key, processed)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static TradeSignalDto copy(TradeSignalDto signal) {
+        return TradeSignalDto.builder()
+                .symbol(signal.getSymbol())
+                .entryPrice(signal.getEntryPrice())
+                .position(signal.getPosition())
+                .leverage(signal.getLeverage())
+                .sourceTimestamp(signal.getSourceTimestamp())
+                .sequenceId(signal.getSequenceId())
+                .receivedAt(signal.getReceivedAt())
+                .version(signal.getVersion())
+                .receivedNanos(signal.getReceivedNanos())
+                .build();
+    }
+
+    private boolean isSameSignal(TradeSignalDto previous, TradeSignalDto current) {
+        return Objects.equals(previous.getPosition(), current.getPosition())
+                && Objects.equals(previous.getLeverage(), current.getLeverage())
+                && (previous.getEntryPrice() == null
+                ? current.getEntryPrice() == null
+                : current.getEntryPrice() != null && previous.getEntryPrice().compareTo(current.getEntryPrice()) == 0);
+    }
 }
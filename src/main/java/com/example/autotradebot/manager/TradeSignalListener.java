@@ -0,0 +1,22 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.TradeSignalDto;
+
+/**
+ * 트레이드 신호 리스너
+ * <p>
+ * 신호 수신 스레드(STOMP)에서 호출되므로 블로킹 작업은 다른 스레드로 넘겨야 합니다.
+ */
+public interface TradeSignalListener {
+
+    /**
+     * 새 신호 또는 기존 신호와 내용(포지션, 진입 가격, 레버리지)이 다른 신호가 캐시에 저장되었을 때 호출됩니다.
+     */
+    void onTradeSignal(String symbol, TradeSignalDto tradeSignal);
+
+    /**
+     * 소비자(사용자)가 이미 처리한 신호를 다시 처리해야 할 때 호출됩니다. (신호 내용은 바뀌지 않음)
+     */
+    default void onTradeSignalReopened(String symbol, TradeSignalDto tradeSignal) {
+    }
+}
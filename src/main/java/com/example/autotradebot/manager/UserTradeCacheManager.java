@@ -0,0 +1,303 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.UserPositionHistoryDto;
+import com.example.autotradebot.dto.UserSettingDto;
+import com.example.autotradebot.dto.UserTradeContextDto;
+import com.example.autotradebot.dto.VendorApiKeyDto;
+import com.example.autotradebot.mapper.UserPositionHistoryMapper;
+import com.example.autotradebot.mapper.UserSettingMapper;
+import com.example.autotradebot.mapper.UserTradeProcessMapper;
+import com.example.autotradebot.mapper.VendorApiKeysMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자 설정 / API 키 / 마지막 포지션 캐시 매니저
+ * <p>
+ * 자주 바뀌지 않는 사용자 정보를 메모리에 두어 트레이드마다 DB를 조회하지 않도록 합니다.
+ * 트레이드마다 DB에서 조회하는 것은 진행 중 주문 여부(심볼당 1회)뿐입니다.
+ * <ul>
+ *     <li>크기(trade.user-cache.max-size)와 TTL(trade.user-cache.ttl-ms)로 제거되며, 없는 값도 비어 있는 값으로 캐시합니다.</li>
+ *     <li>이 애플리케이션의 쓰기(금액 갱신, 포지션 이력 저장)는 DB에 쓴 뒤 캐시에 바로 반영합니다. (write-through)</li>
+ *     <li>다른 곳에서 추가/수정된 설정과 API 키는 주기적으로 마지막으로 본 updated_at 이후의 행만 조회하여 반영하고,
+ *     포지션 이력은 마지막으로 본 id 이후의 행만 조회하여 반영합니다. (증분 갱신)</li>
+ * </ul>
+ * 적중/실패/제거 통계는 cache.gets, cache.evictions 등(cache 태그: user.settings, user.api-keys, user.last-positions)으로 노출됩니다.
+ */
+@Component
+public class UserTradeCacheManager {
+
+    private Logger logger = LoggerFactory.getLogger(UserTradeCacheManager.class);
+
+    private final UserSettingMapper userSettingMapper;
+    private final VendorApiKeysMapper vendorApiKeysMapper;
+    private final UserPositionHistoryMapper userPositionHistoryMapper;
+    private final UserTradeProcessMapper userTradeProcessMapper;
+    private final BinanceSignerManager binanceSignerManager;
+    private final MeterRegistry meterRegistry;
+    private final long refreshIntervalMs;
+
+    /**
+     * 심볼별 활성 사용자 설정 (key: symbol)
+     */
+    private final Cache<String, List<UserSettingDto>> settingsBySymbol;
+
+    /**
+     * 사용자별 API 키 (key: emailPk)
+     */
+    private final Cache<String, Optional<VendorApiKeyDto>> apiKeys;
+
+    /**
+     * 사용자별 마지막 포지션 이력 (key: emailPk)
+     */
+    private final Cache<String, Optional<UserPositionHistoryDto>> lastPositions;
+
+    private volatile Date lastSettingUpdatedAt = new Date(0L);
+    private volatile Date lastApiKeyUpdatedAt = new Date(0L);
+    private volatile long lastPositionId;
+
+    private Counter refreshFailedCounter;
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    @Autowired
+    public UserTradeCacheManager(UserSettingMapper userSettingMapper,
+                                 VendorApiKeysMapper vendorApiKeysMapper,
+                                 UserPositionHistoryMapper userPositionHistoryMapper,
+                                 UserTradeProcessMapper userTradeProcessMapper,
+                                 BinanceSignerManager binanceSignerManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${trade.user-cache.ttl-ms:60000}") long ttlMs,
+                                 @Value("${trade.user-cache.max-size:100000}") long maxSize,
+                                 @Value("${trade.user-cache.refresh-interval-ms:10000}") long refreshIntervalMs) {
+        this.userSettingMapper = userSettingMapper;
+        this.vendorApiKeysMapper = vendorApiKeysMapper;
+        this.userPositionHistoryMapper = userPositionHistoryMapper;
+        this.userTradeProcessMapper = userTradeProcessMapper;
+        this.binanceSignerManager = binanceSignerManager;
+        this.meterRegistry = meterRegistry;
+        this.refreshIntervalMs = refreshIntervalMs;
+
+        this.settingsBySymbol = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        this.apiKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .removalListener(this::onApiKeyRemoved)
+                .recordStats()
+                .build();
+        this.lastPositions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, settingsBySymbol, "user.settings");
+        CaffeineCacheMetrics.monitor(meterRegistry, apiKeys, "user.api-keys");
+        CaffeineCacheMetrics.monitor(meterRegistry, lastPositions, "user.last-positions");
+        refreshFailedCounter = Counter.builder("trade.user-cache.refresh.failed")
+                .description("사용자 캐시 증분 갱신 실패 수")
+                .register(meterRegistry);
+
+        // 기동 이후 추가되는 행만 증분 갱신 대상입니다. (기동 전 행은 캐시 적재 시 조회됩니다.)
+        try {
+            Date maxSettingUpdatedAt = userSettingMapper.selectMaxUserSettingUpdatedAt();
+            Date maxApiKeyUpdatedAt = vendorApiKeysMapper.selectMaxVendorApiKeyUpdatedAt();
+            Long maxId = userPositionHistoryMapper.selectMaxUserPositionHistoryId();
+            lastSettingUpdatedAt = maxSettingUpdatedAt != null ? maxSettingUpdatedAt : new Date(0L);
+            lastApiKeyUpdatedAt = maxApiKeyUpdatedAt != null ? maxApiKeyUpdatedAt : new Date(0L);
+            lastPositionId = maxId != null ? maxId : 0L;
+        } catch (Exception e) {
+            logger.error("❌ 사용자 캐시 증분 갱신 기준 조회 실패: {}", e.getMessage());
+        }
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(1);
+        taskScheduler.setThreadNamePrefix("user-trade-cache-");
+        taskScheduler.initialize();
+        taskScheduler.scheduleWithFixedDelay(this::refresh,
+                Instant.now().plusMillis(refreshIntervalMs), Duration.ofMillis(refreshIntervalMs));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (taskScheduler != null) {
+            taskScheduler.shutdown();
+        }
+    }
+
+    /**
+     * 심볼의 활성 사용자별 트레이드 정보를 반환합니다.
+     * 설정/API 키/마지막 포지션은 캐시에서, 진행 중 주문 여부는 DB에서 한 번에 조회합니다. (블로킹, dbScheduler에서 호출)
+     */
+    public List<UserTradeContextDto> getUserTradeContexts(String symbol) {
+        List<UserSettingDto> settings = settingsBySymbol.get(symbol, this::loadSymbol);
+        if (settings.isEmpty()) {
+            return List.of();
+        }
+        Set<String> inProgress = new HashSet<>(userTradeProcessMapper.selectEmailPksWithTradeProcessBySymbol(symbol));
+
+        List<UserTradeContextDto> contexts = new ArrayList<>(settings.size());
+        for (UserSettingDto setting : settings) {
+            String emailPk = setting.getEmailPk();
+            contexts.add(new UserTradeContextDto(setting, getVendorApiKey(emailPk), getLastPosition(emailPk),
+                    inProgress.contains(emailPk)));
+        }
+        return contexts;
+    }
+
+    /**
+     * @return 사용자 API 키, 없으면 null
+     */
+    public VendorApiKeyDto getVendorApiKey(String emailPk) {
+        return apiKeys.get(emailPk, key -> Optional.ofNullable(vendorApiKeysMapper.selectVendorApiKeyByEmailPk(key)))
+                .orElse(null);
+    }
+
+    /**
+     * @return 사용자 마지막 포지션 이력, 없으면 null
+     */
+    public UserPositionHistoryDto getLastPosition(String emailPk) {
+        return lastPositions.get(emailPk, key -> Optional.ofNullable(userPositionHistoryMapper.selectUserLastPositionHistoryByEmailPk(key)))
+                .orElse(null);
+    }
+
+    /**
+     * 사용자 금액을 갱신하고 캐시된 설정에 바로 반영합니다.
+     */
+    public void updateUserAmountSetting(String emailPk, String symbol, BigDecimal amount) {
+        userSettingMapper.updateUserAmountSetting(emailPk, symbol, amount);
+        settingsBySymbol.asMap().computeIfPresent(symbol, (key, settings) -> {
+            List<UserSettingDto> updated = new ArrayList<>(settings.size());
+            for (UserSettingDto setting : settings) {
+                updated.add(emailPk.equals(setting.getEmailPk())
+                        ? new UserSettingDto(setting.getIdx(), setting.getSymbol(), setting.getEmailPk(),
+                        setting.getIsActive(), amount, setting.getCreatedDate(), setting.getUpdatedAt())
+                        : setting);
+            }
+            return List.copyOf(updated);
+        });
+    }
+
+    /**
+     * 포지션 이력을 저장하고 사용자의 마지막 포지션으로 캐시합니다.
+     */
+    public void insertUserPositionHistory(UserPositionHistoryDto positionDto) {
+        userPositionHistoryMapper.insertUserPositionHistory(positionDto);
+        if (positionDto.getCreatedAt() == null) {
+            positionDto.setCreatedAt(new Date());
+        }
+        lastPositions.asMap().merge(positionDto.getEmailPk(), Optional.of(positionDto), UserTradeCacheManager::newerPosition);
+    }
+
+    /**
+     * 마지막 갱신 이후 바뀐 행만 조회하여 캐시에 반영합니다.
+     * <ul>
+     *     <li>설정: updated_at 기준으로 등록/수정(활성 여부, 금액 등)된 행의 심볼 사용자 목록을 무효화합니다.</li>
+     *     <li>API 키: updated_at 기준으로 등록/수정된 키를 캐시에 있는 사용자에게만 반영합니다. (교체된 이전 키의 서명기는 제거)</li>
+     *     <li>포지션 이력: 증가하는 id 기준으로 새 행을 캐시에 있는 사용자에게만 반영합니다.</li>
+     * </ul>
+     * 행 삭제와 같은 시각(updated_at)에 늦게 커밋된 수정은 TTL이 지나면 반영됩니다.
+     */
+    public void refresh() {
+        try {
+            for (UserSettingDto setting : userSettingMapper.selectUserSettingsUpdatedAfter(lastSettingUpdatedAt)) {
+                settingsBySymbol.invalidate(setting.getSymbol());
+                lastSettingUpdatedAt = later(lastSettingUpdatedAt, setting.getUpdatedAt());
+            }
+            for (VendorApiKeyDto apiKey : vendorApiKeysMapper.selectVendorApiKeysUpdatedAfter(lastApiKeyUpdatedAt)) {
+                apiKeys.asMap().computeIfPresent(apiKey.getEmailPk(), (key, cached) -> Optional.of(apiKey));
+                lastApiKeyUpdatedAt = later(lastApiKeyUpdatedAt, apiKey.getUpdatedAt());
+            }
+            for (UserPositionHistoryDto position : userPositionHistoryMapper.selectUserPositionHistoriesAfterId(lastPositionId)) {
+                lastPositions.asMap().computeIfPresent(position.getEmailPk(),
+                        (key, cached) -> newerPosition(cached, Optional.of(position)));
+                lastPositionId = Math.max(lastPositionId, position.getId());
+            }
+        } catch (Exception e) {
+            refreshFailedCounter.increment();
+            logger.error("❌ 사용자 캐시 증분 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 심볼 사용자 목록을 적재합니다.
+     * 사용자별 트레이드 정보 일괄 조회 한 번으로 API 키와 마지막 포지션 캐시도 함께 채웁니다.
+     */
+    private List<UserSettingDto> loadSymbol(String symbol) {
+        List<UserSettingDto> settings = new ArrayList<>();
+        userSettingMapper.selectUserTradeContextsBySymbol(symbol, resultContext -> {
+            UserTradeContextDto context = resultContext.getResultObject();
+            String emailPk = context.getUserSetting().getEmailPk();
+            settings.add(context.getUserSetting());
+            apiKeys.put(emailPk, Optional.ofNullable(context.getVendorApiKey()));
+            lastPositions.asMap().merge(emailPk, Optional.ofNullable(context.getLastPosition()), UserTradeCacheManager::newerPosition);
+        });
+        logger.info("✅ 사용자 캐시 적재: symbol={}, users={}", symbol, settings.size());
+        return List.copyOf(settings);
+    }
+
+    /**
+     * API 키가 교체(다른 키로 갱신)되었거나 명시적으로 제거되면 이전 키의 서명기를 제거합니다.
+     * (TTL/크기 제거는 키 교체가 아니므로 서명기 캐시의 자체 만료에 맡깁니다.)
+     */
+    private void onApiKeyRemoved(String emailPk, Optional<VendorApiKeyDto> removed, RemovalCause cause) {
+        if (removed == null || removed.isEmpty() || (cause != RemovalCause.REPLACED && cause != RemovalCause.EXPLICIT)) {
+            return;
+        }
+        VendorApiKeyDto previous = removed.get();
+        if (cause == RemovalCause.REPLACED) {
+            Optional<VendorApiKeyDto> current = apiKeys.getIfPresent(emailPk);
+            if (current != null && current.isPresent()
+                    && Objects.equals(current.get().getAccessKey(), previous.getAccessKey())
+                    && Objects.equals(current.get().getSecretKey(), previous.getSecretKey())) {
+                return;
+            }
+        }
+        binanceSignerManager.evict(previous.getAccessKey());
+    }
+
+    private static Date later(Date current, Date candidate) {
+        return candidate != null && candidate.after(current) ? candidate : current;
+    }
+
+    private static Optional<UserPositionHistoryDto> newerPosition(Optional<UserPositionHistoryDto> cached,
+                                                                  Optional<UserPositionHistoryDto> candidate) {
+        if (candidate.isEmpty()) {
+            return cached;
+        }
+        if (cached.isEmpty() || cached.get().getId() == null) {
+            return candidate;
+        }
+        Long candidateId = candidate.get().getId();
+        return candidateId != null && candidateId >= cached.get().getId() ? candidate : cached;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.autotradebot.mapper;
 
 import com.example.autotradebot.dto.UserPositionHistoryDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -20,4 +21,11 @@ public interface UserPositionHistoryMapper {
     UserPositionHistoryDto selectUserLastPositionHistoryByEmailPk(String emailPk);
 
     List<UserPositionHistoryDto> selectAllUserPositionHistories();
+
+    /**
+     * @return id 이후에 저장된 포지션 이력 (캐시 증분 갱신용)
+     */
+    List<UserPositionHistoryDto> selectUserPositionHistoriesAfterId(@Param("id") long id);
+
+    Long selectMaxUserPositionHistoryId();
 }
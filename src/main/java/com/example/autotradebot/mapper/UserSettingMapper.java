@@ -1,10 +1,13 @@
 package com.example.autotradebot.mapper;
 
 import com.example.autotradebot.dto.UserSettingDto;
+import com.example.autotradebot.dto.UserTradeContextDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
 
 @Mapper
@@ -22,4 +25,16 @@ public interface UserSettingMapper {
     int updateUserAmountSetting(@Param("emailPk") String emailPk, @Param("symbol") String symbol, @Param("amount") BigDecimal amount);
 
     List<UserSettingDto> selectAllUserSettingsBySymbol(String symbol);
+
+    /**
+     * @return updatedAt 이후에 등록/수정된 사용자 설정 (캐시 증분 갱신용)
+     */
+    List<UserSettingDto> selectUserSettingsUpdatedAfter(@Param("updatedAt") Date updatedAt);
+
+    Date selectMaxUserSettingUpdatedAt();
+
+    /**
+     * 심볼의 활성 사용자별 트레이드 정보를 한 번의 쿼리로 조회합니다. (결과는 행 단위로 스트리밍됩니다.)
+     */
+    void selectUserTradeContextsBySymbol(@Param("symbol") String symbol, ResultHandler<UserTradeContextDto> resultHandler);
 }
@@ -4,6 +4,7 @@ import com.example.autotradebot.dto.UserTradeProcessDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.math.BigInteger;
 import java.util.List;
 
 @Mapper
@@ -13,9 +14,15 @@ public interface UserTradeProcessMapper {
 
     int updateUserTradeProcess(@Param("id") Integer id, @Param("isProcess") Integer isProcess);
 
+    int updateUserTradeProcessIfState(@Param("id") Integer id, @Param("expected") Integer expected, @Param("isProcess") Integer isProcess);
+
     int deleteUserTradeProcessById(int id);
 
     UserTradeProcessDto selectUserTradeProcessByEmailPkWithSymbol(@Param("emailPk") String emailPk, @Param("symbol") String symbol);
 
-    List<UserTradeProcessDto> selectAllUserTradeProcesses(@Param("symbol") String symbol);
+    UserTradeProcessDto selectUserTradeProcessByOrderId(@Param("emailPk") String emailPk, @Param("orderId") BigInteger orderId);
+
+    List<String> selectEmailPksWithTradeProcessBySymbol(String symbol);
+
+    List<UserTradeProcessDto> selectAllUserTradeProcesses(@Param("symbol") String symbol, @Param("olderThanSeconds") long olderThanSeconds);
 }
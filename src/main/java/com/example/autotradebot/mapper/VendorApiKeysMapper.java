@@ -2,7 +2,9 @@ package com.example.autotradebot.mapper;
 
 import com.example.autotradebot.dto.VendorApiKeyDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
 import java.util.List;
 
 @Mapper
@@ -18,4 +20,11 @@ public interface VendorApiKeysMapper {
     VendorApiKeyDto selectVendorApiKeyByEmailPk(String emailPk);
 
     List<VendorApiKeyDto> selectAllVendorApiKeys();
+
+    /**
+     * @return updatedAt 이후에 등록/수정된 API 키 (캐시 증분 갱신용)
+     */
+    List<VendorApiKeyDto> selectVendorApiKeysUpdatedAfter(@Param("updatedAt") Date updatedAt);
+
+    Date selectMaxVendorApiKeyUpdatedAt();
 }
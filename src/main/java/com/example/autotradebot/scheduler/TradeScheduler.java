@@ -3,174 +3,435 @@ package com.example.autotradebot.scheduler;
 import com.example.autotradebot.dto.*;
 import com.example.autotradebot.enums.TradePosition;
 import com.example.autotradebot.exception.BinanceApiException;
+import com.example.autotradebot.manager.AccountMailboxManager;
+import com.example.autotradebot.manager.BinanceOrderBookManager;
+import com.example.autotradebot.manager.BinanceSymbolRegistryManager;
+import com.example.autotradebot.manager.BinanceUserDataStreamManager;
+import com.example.autotradebot.manager.OrderDeadlineManager;
+import com.example.autotradebot.manager.TradeLatencyManager;
 import com.example.autotradebot.manager.TradeSignalCacheManager;
-import com.example.autotradebot.mapper.UserPositionHistoryMapper;
-import com.example.autotradebot.mapper.UserSettingMapper;
+import com.example.autotradebot.manager.TradeSignalListener;
+import com.example.autotradebot.manager.UserTradeCacheManager;
 import com.example.autotradebot.mapper.UserTradeProcessMapper;
-import com.example.autotradebot.mapper.VendorApiKeysMapper;
-import com.example.autotradebot.service.BinanceService;
 import com.example.autotradebot.service.OrderTradeService;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 @Configuration
 @EnableScheduling
 @ConditionalOnProperty(name = "scheduling.trade", havingValue = "true", matchIfMissing = false)
-public class TradeScheduler {
+public class TradeScheduler implements TradeSignalListener {
     private Logger logger = LoggerFactory.getLogger(TradeScheduler.class);
-    private final ConcurrentHashMap<String, Integer> symbolStepSizeCache = new ConcurrentHashMap<>();
-    private final ReentrantLock tradeLock = new ReentrantLock();
-    private final ReentrantLock tradeCheckLock = new ReentrantLock();
 
-    @Autowired
-    private BinanceService binanceService;
+    // 심볼별 디스패치 상태
+    private static final int DISPATCH_IDLE = 0;
+    private static final int DISPATCH_RUNNING = 1;
+    private static final int DISPATCH_RUNNING_DIRTY = 2; // 처리 중 새 신호 수신 (처리가 끝나면 최신 신호로 한 번 더 처리)
+
 
     @Autowired
     private TradeSignalCacheManager tradeSignalCacheManager;
 
     @Autowired
-    private OrderTradeService orderTradeService;
+    private BinanceOrderBookManager binanceOrderBookManager;
 
     @Autowired
-    private UserSettingMapper userSettingMapper;
+    private BinanceSymbolRegistryManager binanceSymbolRegistryManager;
 
     @Autowired
-    private UserPositionHistoryMapper userPositionHistoryMapper;
+    private OrderTradeService orderTradeService;
 
     @Autowired
-    private VendorApiKeysMapper vendorApiKeysMapper;
+    private UserTradeCacheManager userTradeCacheManager;
 
     @Autowired
     private UserTradeProcessMapper userTradeProcessMapper;
 
-    @PostConstruct
-    public void init() {
-        try {
-            logger.info("TradeScheduler 초기화 시작.");
-            Map<String, Integer> symbolStepSizes = binanceService.parseExchangeInfoForSymbols();
-            symbolStepSizeCache.putAll(symbolStepSizes);
-            logger.info("TradeScheduler 초기화 성공.");
-        } catch (Exception e) {
-            logger.error("TradeScheduler 초기화 중 오류 발생: ", e);
-        }
-    }
-
-
-    @Scheduled(fixedDelay = 10000, initialDelay = 10000)
-    public void processTradeOder() {
-        tradeLock.lock();
-        try {
-            tradeSignalCacheManager.getAllTradeSignals()
-                    .entrySet()
-                    .parallelStream()
-                    .forEach(entry -> {
-                        String symbol = entry.getKey();
-                        TradeSignalDto tradeSignal = entry.getValue();
-                        Integer stepSize = symbolStepSizeCache.get(symbol);
-
-                        if (tradeSignal == null) {
-                            return;
-                        }
-
-                        logger.info("Processing symbol: {}", symbol);
+    @Autowired
+    @Qualifier("dbScheduler")
+    private Scheduler dbScheduler;
 
-                        List<UserSettingDto> users = userSettingMapper.selectAllUserSettingsBySymbol(symbol);
+    @Autowired
+    private BinanceUserDataStreamManager binanceUserDataStreamManager;
 
-                        users.parallelStream().forEach(user -> {
-                            try {
-                                String emailPk = user.getEmailPk();
-                                UserTradeProcessDto userTradeProcessDto = userTradeProcessMapper.selectUserTradeProcessByEmailPkWithSymbol(emailPk, symbol);
+    @Autowired
+    private TradeLatencyManager tradeLatencyManager;
 
-                                if (userTradeProcessDto != null) {
-                                    logger.info("Trade for symbol: {} is currently in progress for user: {}", symbol, emailPk);
-                                    return;
-                                }
+    @Autowired
+    private AccountMailboxManager accountMailboxManager;
 
-                                logger.info("Trade Oder START for symbol: {}, user: {}", symbol, emailPk);
-                                TradePosition signalPosition = tradeSignal.getPosition();
+    @Autowired
+    private OrderDeadlineManager orderDeadlineManager;
+
+    /**
+     * 심볼별 디스패치 상태 (한 심볼은 동시에 한 번만 처리하며, 처리 중 들어온 신호는 하나로 합칩니다.)
+     */
+    private final Map<String, AtomicInteger> dispatchStates = new ConcurrentHashMap<>();
+
+    /**
+     * 심볼별로 모든 사용자 처리가 끝난 신호 버전 (스윕은 이 버전의 신호를 다시 처리하지 않습니다.)
+     */
+    private final Map<String, Long> completedVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 스윕 기준 버전 (이 버전까지 바뀐 신호는 모든 사용자가 처리했으므로 스윕에서 다시 조회하지 않습니다.)
+     */
+    private final AtomicLong sweptVersion = new AtomicLong();
+
+    /**
+     * 거래할 수 없어(필터 없음, 상장 폐지, BREAK 등) 처리를 보류한 심볼 (value: 보류한 신호 버전)
+     * 보류한 신호는 완료로 표시하고, 심볼 레지스트리에서 다시 TRADING 상태가 되면 스윕에서 다시 처리합니다.
+     */
+    private final Map<String, Long> suspendedSymbols = new ConcurrentHashMap<>();
+
+    @Value("${trade.max-concurrency:64}")
+    private int maxConcurrency;
+
+    @Value("${trade.order-timeout-ms:60000}")
+    private long orderTimeoutMs;
+
+    @Value("${trade.reconcile-mode:batch}")
+    private String reconcileMode;
+
+    /**
+     * 새 신호 또는 내용이 바뀐 신호를 받으면 해당 심볼만 즉시 처리합니다.
+     * (신호 수신 스레드에서는 구독만 하고, DB 조회 이후 작업은 dbScheduler에서 진행됩니다.)
+     */
+    @Override
+    public void onTradeSignal(String symbol, TradeSignalDto tradeSignal) {
+        dispatchSymbol(symbol, true).subscribe();
+    }
 
-                                UserPositionHistoryDto previousPosition = userPositionHistoryMapper.selectUserLastPositionHistoryByEmailPk(emailPk);
+    /**
+     * 사용자가 처리한 신호를 다시 처리해야 하면(반대 신호의 포지션 종료 후 진입, 체결 없이 끝난 주문) 완료 표시를 지우고 심볼을 다시 처리합니다.
+     * 이벤트 처리가 실패하더라도 다음 스윕에서 다시 확인합니다.
+     */
+    @Override
+    public void onTradeSignalReopened(String symbol, TradeSignalDto tradeSignal) {
+        completedVersions.remove(symbol);
+        sweptVersion.accumulateAndGet(tradeSignal.getVersion() - 1, Math::min);
+        dispatchSymbol(symbol, true).subscribe();
+    }
 
-                                VendorApiKeyDto vendorApiKeyDto = vendorApiKeysMapper.selectVendorApiKeyByEmailPk(emailPk);
+    /**
+     * 캐시된 트레이드 시그널을 주기적으로 다시 처리하는 안전망입니다.
+     * <p>
+     * 신호는 수신 즉시 {@link #onTradeSignal}로 처리되므로, 여기서는 이벤트 처리 중 실패했거나 조건(잔고, 미체결 주문 등)이
+     * 바뀐 사용자를 느린 주기(trade.sweep-interval-ms)로 다시 확인합니다. 신호 저장소에서 스윕 기준 버전 이후에 바뀐 신호만 조회하며,
+     * 이미 처리 중인 심볼과 최신 버전을 모든 사용자가 처리한 심볼은 건너뜁니다.
+     * 스윕이 끝나면 아직 처리가 끝나지 않은 가장 오래된 버전 직전까지 기준 버전을 올리고, 의미가 없어진 사용자 커서를 정리합니다.
+     * 거래할 수 없어 보류한 심볼은 기준 버전을 막지 않으며, 다시 거래 가능해지면 이번 스윕에서 처리합니다.
+     * <p>
+     * parallelStream(ForkJoin 공용 풀) 대신 Flux.flatMap으로 팬아웃하여,
+     * 주문 API 응답을 기다리는 동안 스레드를 점유하지 않습니다.
+     * DB 조회는 dbScheduler에서 실행되며, 동시에 진행되는 사용자 트레이드 수는 trade.max-concurrency로 제한합니다.
+     */
+    @Scheduled(fixedDelayString = "${trade.sweep-interval-ms:60000}", initialDelay = 10000)
+    public void processTradeOder() {
+        resumeTradableSymbols();
+        long sinceVersion = sweptVersion.get();
+        long storeVersion = tradeSignalCacheManager.getVersion();
+        List<TradeSignalDto> changes = tradeSignalCacheManager.changesSince(sinceVersion);
+
+        Flux.fromIterable(changes)
+                .filter(tradeSignal -> !isCompleted(tradeSignal))
+                .flatMap(tradeSignal -> dispatchSymbol(tradeSignal.getSymbol(), false))
+                .blockLast();
+
+        long nextVersion = storeVersion;
+        for (TradeSignalDto tradeSignal : changes) {
+            if (!isCompleted(tradeSignal)) {
+                nextVersion = Math.min(nextVersion, tradeSignal.getVersion() - 1);
+            }
+        }
+        // 스윕 중 재처리 요청으로 기준 버전이 내려갔으면 그대로 둡니다.
+        sweptVersion.compareAndSet(sinceVersion, Math.max(sinceVersion, nextVersion));
 
-                                if (signalPosition.equals(TradePosition.WAIT)) {
-                                    logger.info("Signal position is 'WAIT' for symbol: {}. No action taken, exiting method.", symbol);
-                                    return;
-                                }
+        int pruned = tradeSignalCacheManager.pruneCursors();
+        if (pruned > 0) {
+            logger.debug("신호 처리 커서 정리: {}건", pruned);
+        }
+    }
 
-                                if (signalPosition.equals(TradePosition.EXIT) && (previousPosition == null || TradePosition.EXIT.equals(previousPosition.getPosition()))) {
-                                    logger.info("Symbol: {} has no cached position, but signal position is 'EXIT'. Exiting method.", symbol);
-                                    return;
-                                }
+    /**
+     * 보류 중인 심볼 중 다시 거래 가능(TRADING)해진 심볼의 완료 표시를 지우고 스윕 기준 버전을 내려 다시 처리하도록 합니다.
+     */
+    private void resumeTradableSymbols() {
+        for (String symbol : suspendedSymbols.keySet()) {
+            BinanceSymbolFilterDto symbolFilter = binanceSymbolRegistryManager.getFilter(symbol);
+            if (symbolFilter == null || !symbolFilter.isTrading() || suspendedSymbols.remove(symbol) == null) {
+                continue;
+            }
+            logger.info("✅ 거래 가능 상태로 바뀐 심볼을 다시 처리합니다: {}", symbol);
+            completedVersions.remove(symbol);
+            TradeSignalDto tradeSignal = tradeSignalCacheManager.getTradeSignal(symbol);
+            if (tradeSignal != null) {
+                sweptVersion.accumulateAndGet(tradeSignal.getVersion() - 1, Math::min);
+            }
+        }
+    }
 
-                                if (stepSize == null) {
-                                    logger.warn("Step size not found in cache for symbol: {}", symbol);
-                                    return;
-                                }
+    private boolean isCompleted(TradeSignalDto tradeSignal) {
+        return Long.valueOf(tradeSignal.getVersion()).equals(completedVersions.get(tradeSignal.getSymbol()));
+    }
 
-                                orderTradeService.trade(tradeSignal, user, vendorApiKeyDto, previousPosition, stepSize);
+    /**
+     * 심볼 처리를 시작합니다.
+     * <p>
+     * 이미 처리 중인 심볼에 이벤트가 들어오면 처리 완료 후 최신 신호로 한 번 더 처리하도록 표시만 합니다.
+     * (연속으로 들어온 신호는 마지막 값으로 한 번만 처리됩니다.) 스윕은 처리 중인 심볼을 건너뜁니다.
+     *
+     * @param fromEvent 신호 수신 이벤트에 의한 처리 여부
+     */
+    private Mono<Void> dispatchSymbol(String symbol, boolean fromEvent) {
+        AtomicInteger state = dispatchStates.computeIfAbsent(symbol, key -> new AtomicInteger(DISPATCH_IDLE));
+        while (true) {
+            int current = state.get();
+            if (current == DISPATCH_IDLE) {
+                if (state.compareAndSet(DISPATCH_IDLE, DISPATCH_RUNNING)) {
+                    return drainSymbol(symbol, state);
+                }
+            } else if (!fromEvent || current == DISPATCH_RUNNING_DIRTY
+                    || state.compareAndSet(DISPATCH_RUNNING, DISPATCH_RUNNING_DIRTY)) {
+                return Mono.empty();
+            }
+        }
+    }
 
-                                logger.info("Trade Oder END for symbol: {}", symbol);
-                            } catch (BinanceApiException e) {
-                                logger.error(e.getMessage());
-                            } catch (Exception e) {
-                                logger.error("TRADE ORDER 도중 예외 발생");
-                                logger.error(e.getMessage(), e);
-                            }
+    private Mono<Void> drainSymbol(String symbol, AtomicInteger state) {
+        return Flux.defer(() -> processSymbol(symbol, tradeSignalCacheManager.getTradeSignal(symbol)))
+                .onErrorResume(e -> {
+                    logger.error("TRADE ORDER 도중 예외 발생: {}", symbol, e);
+                    return Flux.empty();
+                })
+                .then(Mono.defer(() -> {
+                    if (state.compareAndSet(DISPATCH_RUNNING, DISPATCH_IDLE)) {
+                        return Mono.<Void>empty();
+                    }
+                    // 처리 중 새 신호가 들어왔으므로 최신 신호로 다시 처리합니다.
+                    state.set(DISPATCH_RUNNING);
+                    return drainSymbol(symbol, state);
+                }))
+                .doOnCancel(() -> state.set(DISPATCH_IDLE));
+    }
 
-                        });
-                    });
-        } finally {
-            tradeLock.unlock();
+    private Flux<Void> processSymbol(String symbol, TradeSignalDto tradeSignal) {
+        if (tradeSignal == null) {
+            return Flux.empty();
         }
+        BinanceSymbolFilterDto symbolFilter = binanceSymbolRegistryManager.getFilter(symbol);
+        if (symbolFilter == null || !symbolFilter.isTrading()) {
+            // 다시 거래 가능해질 때까지 보류합니다. (스윕 기준 버전이 이 신호에 묶이지 않도록 완료로 표시)
+            if (suspendedSymbols.put(symbol, tradeSignal.getVersion()) == null) {
+                logger.warn("거래할 수 없는 심볼입니다: {} (status={})", symbol, symbolFilter != null ? symbolFilter.getStatus() : null);
+            }
+            completedVersions.put(symbol, tradeSignal.getVersion());
+            return Flux.empty();
+        }
+        suspendedSymbols.remove(symbol);
+        Integer stepSize = symbolFilter.getQuantityScale();
+
+        logger.info("Processing symbol: {}", symbol);
+        tradeLatencyManager.markDispatched(tradeSignal);
+        long dispatchNanos = System.nanoTime();
+        binanceOrderBookManager.track(symbol); // 다음 트레이드부터 로컬 호가를 사용하도록 depth 스트림 구독
+
+        AtomicBoolean retryNeeded = new AtomicBoolean();
+        return selectUserTradeContexts(symbol)
+                .flatMap(context -> processUser(symbol, tradeSignal, context, stepSize, dispatchNanos, retryNeeded), maxConcurrency)
+                .doOnComplete(() -> {
+                    if (!retryNeeded.get()) {
+                        completedVersions.put(symbol, tradeSignal.getVersion());
+                    }
+                })
+                .onErrorResume(e -> {
+                    logger.error("TRADE ORDER 도중 예외 발생");
+                    logger.error(e.getMessage(), e);
+                    return Flux.empty();
+                });
     }
 
-    @Scheduled(fixedDelay = 10000, initialDelay = 10000)
-    public void processTradeOderCheck() {
-        tradeCheckLock.lock();
-        try {
-            tradeSignalCacheManager.getAllTradeSignals()
-                    .entrySet()
-                    .parallelStream()
-                    .forEach(entry -> {
-                        String symbol = entry.getKey();
-
-                        logger.info("Processing Trade Oder Check Symbol: {}", symbol);
+    /**
+     * 심볼의 활성 사용자별 트레이드 정보(설정, API 키, 진행 중 주문 여부, 마지막 포지션)를 조회합니다.
+     * 설정/API 키/마지막 포지션은 사용자 캐시에서 읽고, DB는 진행 중 주문 여부만 심볼당 1번 조회합니다.
+     */
+    private Flux<UserTradeContextDto> selectUserTradeContexts(String symbol) {
+        return Mono.fromCallable(() -> userTradeCacheManager.getUserTradeContexts(symbol))
+                .subscribeOn(dbScheduler)
+                .flatMapMany(Flux::fromIterable);
+    }
 
-                        List<UserTradeProcessDto> userTradeProcessDtos = userTradeProcessMapper.selectAllUserTradeProcesses(symbol);
+    /**
+     * 사용자 한 명의 트레이드를 진행합니다.
+     * 같은 계정의 트레이드/주문 보정은 계정 메일박스에서 순서대로 실행되므로 서로 겹치지 않습니다.
+     * <p>
+     * 사용자별 신호 커서로 같은 신호 버전은 한 번만 처리합니다. 진행 중인 주문이 있거나 처리 중 오류가 나면
+     * 선점을 해제하여 다음 스윕에서 다시 처리합니다.
+     *
+     * @param retryNeeded 다시 처리해야 하는 사용자가 있으면 true로 설정됩니다.
+     */
+    private Mono<Void> processUser(String symbol, TradeSignalDto tradeSignal, UserTradeContextDto context, Integer stepSize,
+                                   long dispatchNanos, AtomicBoolean retryNeeded) {
+        UserSettingDto user = context.getUserSetting();
+        String emailPk = user.getEmailPk();
+        long signalVersion = tradeSignal.getVersion();
+
+        return accountMailboxManager.submit(emailPk, Mono.fromCallable(() -> {
+                    if (!tradeSignalCacheManager.claim(emailPk, symbol, signalVersion)) {
+                        logger.debug("이미 처리한 신호입니다: symbol={}, user={}, version={}", symbol, emailPk, signalVersion);
+                        return Mono.<Void>empty();
+                    }
+
+                    if (context.isTradeInProgress()) {
+                        logger.info("Trade for symbol: {} is currently in progress for user: {}", symbol, emailPk);
+                        tradeSignalCacheManager.release(emailPk, symbol, signalVersion);
+                        retryNeeded.set(true);
+                        return Mono.<Void>empty();
+                    }
+
+                    logger.info("Trade Oder START for symbol: {}, user: {}", symbol, emailPk);
+                    TradePosition signalPosition = tradeSignal.getPosition();
+
+                    UserPositionHistoryDto previousPosition = context.getLastPosition();
+
+                    VendorApiKeyDto vendorApiKeyDto = context.getVendorApiKey();
+                    binanceUserDataStreamManager.ensureStream(vendorApiKeyDto);
+
+                    if (signalPosition.equals(TradePosition.WAIT)) {
+                        logger.info("Signal position is 'WAIT' for symbol: {}. No action taken, exiting method.", symbol);
+                        return Mono.<Void>empty();
+                    }
+
+                    if (signalPosition.equals(TradePosition.EXIT) && (previousPosition == null || TradePosition.EXIT.equals(previousPosition.getPosition()))) {
+                        logger.info("Symbol: {} has no cached position, but signal position is 'EXIT'. Exiting method.", symbol);
+                        return Mono.<Void>empty();
+                    }
+
+                    tradeLatencyManager.recordSince(TradeLatencyManager.STAGE_SCHEDULE, symbol, dispatchNanos);
+                    return orderTradeService.tradeAsync(tradeSignal, user, vendorApiKeyDto, previousPosition, stepSize)
+                            .doOnSuccess(ignored -> logger.info("Trade Oder END for symbol: {}", symbol));
+                })
+                .subscribeOn(dbScheduler)
+                .flatMap(Function.identity()))
+                .onErrorResume(e -> {
+                    tradeSignalCacheManager.release(emailPk, symbol, signalVersion);
+                    retryNeeded.set(true);
+                    if (e instanceof BinanceApiException) {
+                        logger.error(e.getMessage());
+                    } else {
+                        logger.error("TRADE ORDER 도중 예외 발생");
+                        logger.error(e.getMessage(), e);
+                    }
+                    return Mono.empty();
+                });
+    }
 
-                        userTradeProcessDtos.parallelStream().forEach(order -> {
-                            try {
-                                String emailPk = order.getEmailPk();
-                                logger.info("Trade Oder START for symbol: {}, user: {}", symbol, emailPk);
+    /**
+     * 미처리 주문 상태를 REST로 보정합니다.
+     * <p>
+     * 체결/취소는 User Data Stream 이벤트로 즉시 처리되고 미체결 주문 취소는 주문 마감 스케줄러가 마감 시각에 처리하므로,
+     * 여기서는 주문 후 trade.order-timeout-ms가 지나도록 남아 있으면서 마감 스케줄러에 없는 주문(재시작 전 주문, 이벤트 유실)만
+     * 느린 주기로 확인합니다.
+     */
+    @Scheduled(fixedDelayString = "${trade.reconcile-interval-ms:30000}", initialDelay = 10000)
+    public void processTradeOderCheck() {
+        if ("batch".equals(reconcileMode)) {
+            reconcileByAccount();
+            return;
+        }
+        Flux.fromIterable(tradeSignalCacheManager.snapshot().keySet())
+                .flatMap(symbol -> Mono.fromCallable(() -> {
+                            logger.info("Processing Trade Oder Check Symbol: {}", symbol);
+                            return userTradeProcessMapper.selectAllUserTradeProcesses(symbol, orderTimeoutMs / 1000);
+                        })
+                        .subscribeOn(dbScheduler)
+                        .flatMapMany(Flux::fromIterable)
+                        .filter(order -> !orderDeadlineManager.isScheduled(order.getOrderId()))
+                        .flatMap(order -> checkOrder(symbol, order), maxConcurrency))
+                .blockLast();
+    }
 
-                                VendorApiKeyDto vendorApiKeyDto = vendorApiKeysMapper.selectVendorApiKeyByEmailPk(emailPk);
+    /**
+     * 주문 한 건의 상태를 REST로 확인합니다. (trade.reconcile-mode=per-order)
+     */
+    private Mono<Void> checkOrder(String symbol, UserTradeProcessDto order) {
+        String emailPk = order.getEmailPk();
+        return accountMailboxManager.submit(emailPk, Mono.fromRunnable(() -> {
+                    logger.info("Trade Oder START for symbol: {}, user: {}", symbol, emailPk);
+
+                    VendorApiKeyDto vendorApiKeyDto = userTradeCacheManager.getVendorApiKey(emailPk);
+
+                    orderTradeService.checkOrderStatus(order, vendorApiKeyDto);
+
+                    logger.info("Trade Oder Check END for symbol: {}", symbol);
+                })
+                .subscribeOn(dbScheduler)
+                .then())
+                .onErrorResume(e -> {
+                    if (e instanceof BinanceApiException) {
+                        logger.error(e.getMessage());
+                    } else {
+                        logger.error("Trade Oder Check 도중 예외 발생");
+                        logger.error(e.getMessage(), e);
+                    }
+                    return Mono.empty();
+                });
+    }
 
-                                orderTradeService.checkOrderStatus(order, vendorApiKeyDto);
+    /**
+     * 미처리 주문을 계정별로 묶어 계정당 한 번의 미체결 주문 조회로 보정합니다. (trade.reconcile-mode=batch)
+     */
+    private void reconcileByAccount() {
+        List<UserTradeProcessDto> pendingOrders = userTradeProcessMapper.selectAllUserTradeProcesses(null, orderTimeoutMs / 1000);
+        // 마감 스케줄러에 등록된 주문은 마감 시각에 따로 처리됩니다.
+        pendingOrders.removeIf(order -> orderDeadlineManager.isScheduled(order.getOrderId()));
+        if (pendingOrders.isEmpty()) {
+            return;
+        }
 
-                                logger.info("Trade Oder Check END for symbol: {}", symbol);
-                            } catch (BinanceApiException e) {
+        Map<String, List<UserTradeProcessDto>> ordersByAccount = new HashMap<>();
+        for (UserTradeProcessDto order : pendingOrders) {
+            ordersByAccount.computeIfAbsent(order.getEmailPk(), key -> new ArrayList<>()).add(order);
+        }
+        logger.info("Trade Oder Check: 미처리 주문 {}건, 계정 {}개", pendingOrders.size(), ordersByAccount.size());
+
+        Flux.fromIterable(ordersByAccount.entrySet())
+                .flatMap(entry -> accountMailboxManager.submit(entry.getKey(), Mono.fromRunnable(() -> {
+                                    String emailPk = entry.getKey();
+                                    VendorApiKeyDto vendorApiKeyDto = userTradeCacheManager.getVendorApiKey(emailPk);
+                                    orderTradeService.reconcileOrders(vendorApiKeyDto, entry.getValue());
+                                })
+                                .subscribeOn(dbScheduler)
+                                .then())
+                        .onErrorResume(e -> {
+                            if (e instanceof BinanceApiException) {
                                 logger.error(e.getMessage());
-                            } catch (Exception e) {
+                            } else {
                                 logger.error("Trade Oder Check 도중 예외 발생");
                                 logger.error(e.getMessage(), e);
                             }
-
-                        });
-                    });
-        } finally {
-            tradeCheckLock.unlock();
-        }
+                            return Mono.empty();
+                        }), maxConcurrency)
+                .blockLast();
     }
 }
@@ -1,22 +1,29 @@
 package com.example.autotradebot.service;
 
-import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.dto.*;
 import com.example.autotradebot.enums.TradePosition;
 import com.example.autotradebot.exception.BinanceApiException;
+import com.example.autotradebot.manager.BinanceMarkPriceManager;
+import com.example.autotradebot.manager.BinanceResilienceManager;
+import com.example.autotradebot.manager.BinanceSignerManager;
+import com.example.autotradebot.manager.BinanceTimeSyncManager;
+import com.example.autotradebot.util.BinanceQueryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class BinanceService {
@@ -25,9 +32,25 @@ public class BinanceService {
 
     private final WebClient webClient;
 
+    private final BinanceTimeSyncManager binanceTimeSyncManager;
+
+    private final BinanceSignerManager binanceSignerManager;
+
+    private final BinanceMarkPriceManager binanceMarkPriceManager;
+
+    private final BinanceResilienceManager binanceResilienceManager;
+
     @Autowired
-    public BinanceService(BinanceConfig binanceConfig) {
-        this.webClient = binanceConfig.binanceApiClient();
+    public BinanceService(@Qualifier("binanceApiClient") WebClient webClient,
+                          BinanceTimeSyncManager binanceTimeSyncManager,
+                          BinanceSignerManager binanceSignerManager,
+                          BinanceMarkPriceManager binanceMarkPriceManager,
+                          BinanceResilienceManager binanceResilienceManager) {
+        this.webClient = webClient;
+        this.binanceTimeSyncManager = binanceTimeSyncManager;
+        this.binanceSignerManager = binanceSignerManager;
+        this.binanceMarkPriceManager = binanceMarkPriceManager;
+        this.binanceResilienceManager = binanceResilienceManager;
     }
 
     /**
@@ -37,41 +60,39 @@ public class BinanceService {
      * @return 사용 가능한 잔고 (BigDecimal)
      */
     public BigDecimal getAvailableBalance(String asset, String accesskey, String secretKey) {
-        String endpoint = "/fapi/v2/account";
-        long timestamp = getBinanceServerTime();
-
-        String queryString = "timestamp=" + timestamp;
-        String signature = generateSignature(queryString, secretKey);
-
-        Map<String, Object> result = webClient
-                .get()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString + "&signature=" + signature)
-                        .build())
-                .headers(httpHeaders -> {
-                    httpHeaders.add("X-MBX-APIKEY", accesskey);
+        return getAvailableBalanceAsync(asset, accesskey, secretKey).block(); // 동기 호출
+    }
+
+    /**
+     * ✅ 내 잔고 조회 (논블로킹)
+     *
+     * @param asset 조회할 자산 (예: "USDT")
+     * @return 사용 가능한 잔고 (Mono<BigDecimal>), 자산이 없으면 0
+     */
+    public Mono<BigDecimal> getAvailableBalanceAsync(String asset, String accesskey, String secretKey) {
+        return getAccount(accesskey, secretKey)
+                .map(account -> {
+                    if (account.getAssets() == null) {
+                        throw new RuntimeException("잔고 조회 실패: assets 정보 없음");
+                    }
+                    for (BinanceAccountDto.Asset assetData : account.getAssets()) {
+                        if (asset.equals(assetData.getAsset())) {
+                            return assetData.getAvailableBalance();
+                        }
+                    }
+                    return BigDecimal.ZERO;
                 })
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
-                .block(); // 동기 호출
-
-        if (result == null || !result.containsKey("assets")) {
-            throw new RuntimeException("잔고 조회 실패: assets 정보 없음");
-        }
+                .switchIfEmpty(Mono.error(new RuntimeException("잔고 조회 실패: assets 정보 없음")));
+    }
 
-        List<Map<String, Object>> assets = (List<Map<String, Object>>) result.get("assets");
-        for (Map<String, Object> assetData : assets) {
-            if (asset.equals(assetData.get("asset"))) {
-                return new BigDecimal(assetData.get("availableBalance").toString());
-            }
-        }
-        return BigDecimal.ZERO;
+    /**
+     * ✅ 계정 정보 조회 (잔고 + 포지션)
+     *
+     * @return 계정 정보 (Mono<BinanceAccountDto>)
+     */
+    public Mono<BinanceAccountDto> getAccount(String accesskey, String secretKey) {
+        String endpoint = "/fapi/v2/account";
+        return signedRequest(HttpMethod.GET, endpoint, new LinkedHashMap<>(), accesskey, secretKey, BinanceAccountDto.class);
     }
 
     /**
@@ -79,36 +100,16 @@ public class BinanceService {
      *
      * @param symbol   거래 심볼 (예: "BTCUSDT")
      * @param leverage 설정할 레버리지 (1 ~ 125)
-     * @return 설정 결과 응답 (Mono<String>)
+     * @return 설정 결과 응답 (Mono<BinanceLeverageDto>)
      */
-    public Mono<String> setLeverage(String symbol, BigInteger leverage, String accesskey, String secretKey) {
+    public Mono<BinanceLeverageDto> setLeverage(String symbol, BigInteger leverage, String accesskey, String secretKey) {
         String endpoint = "/fapi/v1/leverage";
-        long timestamp = getBinanceServerTime();
 
-        Map<String, Object> params = new HashMap<>();
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("leverage", leverage);
-        params.put("timestamp", timestamp);
-
-        String queryString = generateQueryString(params);
-        String signature = generateSignature(queryString, secretKey);
-        logger.info(endpoint + queryString + "&signature=" + signature);
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString + "&signature=" + signature)
-                        .build())
-                .headers(httpHeaders -> {
-                    httpHeaders.add("X-MBX-APIKEY", accesskey);
-                })
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
-                .map(response -> response.toString())
+
+        return signedRequest(HttpMethod.POST, endpoint, params, accesskey, secretKey, BinanceLeverageDto.class)
                 .doOnSuccess(resp -> logger.info("✅ 레버리지 설정 성공: {}", resp))
                 .doOnError(error -> logger.error("❌ 레버리지 설정 실패: {}", error.getMessage()));
     }
@@ -118,84 +119,113 @@ public class BinanceService {
      *
      * @param symbol 거래 심볼 (예: "BTCUSDT")
      * @param limit  가져올 호가 개수 (예: 5, 10, 20 등)
-     * @return 호가 데이터 (Map, keys: "bids", "asks")
+     * @return 호가 데이터 (bids: 가격 내림차순, asks: 가격 오름차순)
      */
-    public Map<String, Object> getOrderBook(String symbol, int limit) {
+    public BinanceOrderBookDto getOrderBook(String symbol, int limit) {
+        return getOrderBookAsync(symbol, limit).block();
+    }
+
+    /**
+     * ✅ 호가(Order Book) 조회 (논블로킹)
+     *
+     * @param symbol 거래 심볼 (예: "BTCUSDT")
+     * @param limit  가져올 호가 개수 (예: 5, 10, 20 등)
+     * @return 호가 데이터 (Mono<BinanceOrderBookDto>)
+     */
+    public Mono<BinanceOrderBookDto> getOrderBookAsync(String symbol, int limit) {
         String endpoint = "/fapi/v1/depth";
 
-        Map<String, Object> params = new HashMap<>();
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("limit", limit);
 
-        String queryString = generateQueryString(params);
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString)
-                        .build())
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
+        return publicRequest(endpoint, params, BinanceOrderBookDto.class)
                 .doOnSuccess(response -> logger.info("✅ 호가 조회 성공: {}", response))
-                .doOnError(error -> logger.error("❌ 호가 조회 실패: {}", error.getMessage()))
-                .block();
+                .doOnError(error -> logger.error("❌ 호가 조회 실패: {}", error.getMessage()));
     }
 
     // 주문 진입
     public BigInteger openOrder(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position, String accesskey, String secretKey) {
-        Map<String, Object> params = new HashMap<>();
+        return openOrderAsync(symbol, quantity, price, position, accesskey, secretKey).block();
+    }
+
+    /**
+     * 주문 진입 (논블로킹)
+     *
+     * @return 주문 번호 (Mono<BigInteger>), LONG/SHORT가 아니면 empty
+     */
+    public Mono<BigInteger> openOrderAsync(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position, String accesskey, String secretKey) {
+        return openOrderAsync(symbol, quantity, price, position, null, accesskey, secretKey);
+    }
+
+    /**
+     * 주문 진입 (논블로킹, 클라이언트 주문 ID 지정)
+     *
+     * @param clientOrderId 클라이언트 주문 ID (newClientOrderId, null이면 거래소가 생성)
+     * @return 주문 번호 (Mono<BigInteger>), LONG/SHORT가 아니면 empty
+     */
+    public Mono<BigInteger> openOrderAsync(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position,
+                                           String clientOrderId, String accesskey, String secretKey) {
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("quantity", quantity);
         params.put("price", price);
         params.put("reduceOnly", "false");
+        params.put("newClientOrderId", clientOrderId);
 
         if (TradePosition.LONG.equals(position)) {
             params.put("side", "BUY");
         } else if (TradePosition.SHORT.equals(position)) {
             params.put("side", "SELL");
         } else {
-            return null;
-        }
-
-        Map<String, Object> response = newOrder(params, accesskey, secretKey).block();
-
-        if (response == null) {
-            return null;
+            return Mono.empty();
         }
-        BigInteger orderId = new BigInteger(response.get("orderId").toString());
 
-        return orderId;
+        return newOrder(params, accesskey, secretKey)
+                .mapNotNull(BinanceOrderDto::getOrderId);
     }
 
     // 주문 종료
     public BigInteger closeOrder(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position, String accesskey, String secretKey) {
-        Map<String, Object> params = new HashMap<>();
+        return closeOrderAsync(symbol, quantity, price, position, accesskey, secretKey).block();
+    }
+
+    /**
+     * 주문 종료 (논블로킹)
+     *
+     * @param position 종료할 기존 포지션 (LONG이면 SELL, SHORT이면 BUY)
+     * @return 주문 번호 (Mono<BigInteger>), LONG/SHORT가 아니면 empty
+     */
+    public Mono<BigInteger> closeOrderAsync(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position, String accesskey, String secretKey) {
+        return closeOrderAsync(symbol, quantity, price, position, null, accesskey, secretKey);
+    }
+
+    /**
+     * 주문 종료 (논블로킹, 클라이언트 주문 ID 지정)
+     *
+     * @param position      종료할 기존 포지션 (LONG이면 SELL, SHORT이면 BUY)
+     * @param clientOrderId 클라이언트 주문 ID (newClientOrderId, null이면 거래소가 생성)
+     * @return 주문 번호 (Mono<BigInteger>), LONG/SHORT가 아니면 empty
+     */
+    public Mono<BigInteger> closeOrderAsync(String symbol, BigDecimal quantity, BigDecimal price, TradePosition position,
+                                            String clientOrderId, String accesskey, String secretKey) {
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("quantity", quantity);
         params.put("price", price);
         params.put("reduceOnly", "true");
+        params.put("newClientOrderId", clientOrderId);
 
         if (TradePosition.LONG.equals(position)) {
             params.put("side", "SELL");
         } else if (TradePosition.SHORT.equals(position)) {
             params.put("side", "BUY");
         } else {
-            return null;
-        }
-
-        Map<String, Object> response = newOrder(params, accesskey, secretKey).block();
-
-        if (response == null) {
-            return null;
+            return Mono.empty();
         }
-        BigInteger orderId = new BigInteger(response.get("orderId").toString());
 
-        return orderId;
+        return newOrder(params, accesskey, secretKey)
+                .mapNotNull(BinanceOrderDto::getOrderId);
     }
 
     /**
@@ -209,37 +239,15 @@ public class BinanceService {
      * 모든 파라미터는 application/x-www-form-urlencoded 형식으로 본문에 담아 전송됩니다.
      *
      * @param params 주문 파라미터 Map
-     * @return 주문 응답 결과 (Mono<Map<String, Object>>)
+     * @return 주문 응답 결과 (Mono<BinanceOrderDto>)
      */
-    public Mono<Map> newOrder(Map<String, Object> params, String accesskey, String secretKey) {
+    public Mono<BinanceOrderDto> newOrder(Map<String, Object> params, String accesskey, String secretKey) {
         String endpoint = "/fapi/v1/order";
-        long timestamp = getBinanceServerTime();
-        params.put("timestamp", timestamp);
         params.put("type", "LIMIT");
         params.put("positionSide", "BOTH");
         params.put("timeInForce", "GTC");
 
-        // 주문 파라미터를 key=value 형식의 쿼리 스트링으로 생성
-        String queryString = generateQueryString(params);
-        // HMAC SHA256 서명 생성 (formData 전체를 대상으로)
-        String signature = generateSignature(queryString, secretKey);
-
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString + "&signature=" + signature)
-                        .build())
-                .headers(httpHeaders -> {
-                    httpHeaders.add("X-MBX-APIKEY", accesskey);
-                })
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
+        return signedRequest(HttpMethod.POST, endpoint, params, accesskey, secretKey, BinanceOrderDto.class)
                 .doOnSuccess(response -> logger.info("✅ New Order 성공: {}", response))
                 .doOnError(error -> logger.error("❌ New Order 실패: {}", error.getMessage()));
     }
@@ -252,41 +260,67 @@ public class BinanceService {
      * recvWindow가 전달되지 않으면 기본값으로 2000 (2초)을 적용합니다.
      *
      * @param symbol 취소할 주문의 심볼 (예: "BTCUSDT")
-     * @return 주문 취소 응답 결과 (Mono<Map<String, Object>>)
+     * @return 취소 후 주문 상태 (예: "CANCELED")
      */
     public String orderCancel(String symbol, BigInteger orderId, String accesskey, String secretKey) {
+        BinanceOrderDto res = orderCancelAsync(symbol, orderId, accesskey, secretKey).block();
+
+        return res.getStatus();
+    }
+
+    /**
+     * ✅ 주문 취소 (논블로킹)
+     *
+     * @return 취소된 주문 정보 (취소 시점의 최종 체결 수량 포함)
+     */
+    public Mono<BinanceOrderDto> orderCancelAsync(String symbol, BigInteger orderId, String accesskey, String secretKey) {
         String endpoint = "/fapi/v1/order";
-        Map<String, Object> params = new HashMap<>();
-        long timestamp = getBinanceServerTime();
-        params.put("timestamp", timestamp);
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("orderId", orderId);
 
-        // 주문 파라미터를 key=value 형식의 쿼리 스트링으로 생성
-        String queryString = generateQueryString(params);
-        // HMAC SHA256 서명 생성 (formData 전체를 대상으로)
-        String signature = generateSignature(queryString, secretKey);
-
-        Map<String, Object> res = webClient.delete()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString + "&signature=" + signature)
-                        .build())
-                .headers(httpHeaders -> {
-                    httpHeaders.add("X-MBX-APIKEY", accesskey);
-                })
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
+        return signedRequest(HttpMethod.DELETE, endpoint, params, accesskey, secretKey, BinanceOrderDto.class)
                 .doOnSuccess(response -> logger.info("✅ Cancel Order 성공: {}", response))
-                .doOnError(error -> logger.error("❌ Cancel Order 실패: {}", error.getMessage())).block();
+                .doOnError(error -> logger.error("❌ Cancel Order 실패: {}", error.getMessage()));
+    }
 
-        return res.get("status").toString();
+    /**
+     * ✅ 미체결 주문 목록 조회
+     * <p>
+     * symbol을 지정하면 해당 심볼만 (weight 1), null이면 계정의 전체 심볼을 (weight 40) 한 번에 조회합니다.
+     *
+     * @param symbol 조회할 심볼 (null이면 전체)
+     * @return 미체결 주문 목록
+     */
+    public Mono<List<BinanceOrderDto>> getOpenOrders(String symbol, String accesskey, String secretKey) {
+        String endpoint = "/fapi/v1/openOrders";
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("symbol", symbol);
+
+        return signedRequest(HttpMethod.GET, endpoint, params, accesskey, secretKey, BinanceOrderDto[].class)
+                .map(List::of)
+                .doOnError(error -> logger.error("❌ Open Orders 조회 실패: {}", error.getMessage()));
+    }
+
+    /**
+     * ✅ 주문 내역 조회 (종료된 주문 포함)
+     * <p>
+     * fromOrderId 이상의 주문 번호를 가진 주문을 최대 limit개까지 조회합니다. (weight 5)
+     *
+     * @param symbol      조회할 심볼
+     * @param fromOrderId 조회 시작 주문 번호
+     * @return 주문 목록
+     */
+    public Mono<List<BinanceOrderDto>> getAllOrders(String symbol, BigInteger fromOrderId, int limit, String accesskey, String secretKey) {
+        String endpoint = "/fapi/v1/allOrders";
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("symbol", symbol);
+        params.put("orderId", fromOrderId);
+        params.put("limit", limit);
+
+        return signedRequest(HttpMethod.GET, endpoint, params, accesskey, secretKey, BinanceOrderDto[].class)
+                .map(List::of)
+                .doOnError(error -> logger.error("❌ All Orders 조회 실패: {}", error.getMessage()));
     }
 
     /**
@@ -297,242 +331,212 @@ public class BinanceService {
      * FILLED , CANCELED , NEW
      *
      * @param symbol 주문 조회 대상 심볼 (예: "BTCUSDT")
-     * @return 주문 상태 응답 결과 (Mono<Map<String, Object>>)
+     * @return 주문 상태 (FILLED , CANCELED , NEW 등)
      */
     public String orderStatus(String symbol, BigInteger orderId, String accesskey, String secretKey) {
+        BinanceOrderDto res = getOrder(symbol, orderId, accesskey, secretKey).block();
+
+        return res.getStatus();
+    }
+
+    /**
+     * ✅ 주문 조회 (논블로킹)
+     *
+     * @param symbol 주문 조회 대상 심볼 (예: "BTCUSDT")
+     * @return 주문 정보 (상태, 체결 수량 등)
+     */
+    public Mono<BinanceOrderDto> getOrder(String symbol, BigInteger orderId, String accesskey, String secretKey) {
         String endpoint = "/fapi/v1/order";
-        Map<String, Object> params = new HashMap<>();
-        long timestamp = getBinanceServerTime();
-        params.put("timestamp", timestamp);
+        Map<String, Object> params = new LinkedHashMap<>();
         params.put("symbol", symbol);
         params.put("orderId", orderId);
 
-        // 주문 파라미터를 key=value 형식의 쿼리 스트링으로 생성
-        String queryString = generateQueryString(params);
-        // HMAC SHA256 서명 생성 (formData 전체를 대상으로)
-        String signature = generateSignature(queryString, secretKey);
-
-        Map<String, Object> res = webClient.get()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString + "&signature=" + signature)
-                        .build())
-                .headers(httpHeaders -> {
-                    httpHeaders.add("X-MBX-APIKEY", accesskey);
-                })
-                .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
+        return signedRequest(HttpMethod.GET, endpoint, params, accesskey, secretKey, BinanceOrderDto.class)
                 .doOnSuccess(response -> logger.info("✅ Status Order 성공: {}", response))
-                .doOnError(error -> logger.error("❌ Status Order 실패: {}", error.getMessage())).block();
-
-        return res.get("status").toString();
+                .doOnError(error -> logger.error("❌ Status Order 실패: {}", error.getMessage()));
     }
 
     /**
-     * HMAC SHA256 서명 생성 메서드
+     * ✅ 클라이언트 주문 ID로 주문 조회 (논블로킹)
+     * <p>
+     * 신규 주문의 처리 결과를 알 수 없을 때(5xx, 타임아웃) 주문이 접수되었는지 확인하는 데 사용합니다.
      *
-     * @param queryString 서명할 문자열 (params가 연결된 form-data 쿼리 스트링)
-     * @return 생성된 서명 (hex 문자열)
+     * @param clientOrderId 주문 시 보낸 newClientOrderId
+     * @return 주문 정보, 주문이 없으면(-2013) empty
      */
-    private String generateSignature(String queryString, String secretKey) {
-        try {
-            Mac sha256_HMAC = Mac.getInstance("HmacSHA256");
-            SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey.getBytes(), "HmacSHA256");
-
-            sha256_HMAC.init(secretKeySpec);
-            byte[] hash = sha256_HMAC.doFinal(queryString.getBytes(StandardCharsets.UTF_8));
-
-            Formatter formatter = new Formatter();
-            for (byte b : hash) {
-                formatter.format("%02x", b);
-            }
-            String result = formatter.toString();
-            formatter.close();
-
-            return result;
+    public Mono<BinanceOrderDto> getOrderByClientOrderId(String symbol, String clientOrderId, String accesskey, String secretKey) {
+        String endpoint = "/fapi/v1/order";
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("symbol", symbol);
+        params.put("origClientOrderId", clientOrderId);
 
-        } catch (Exception e) {
-            throw new RuntimeException("서명 생성 오류", e);
-        }
+        return signedRequest(HttpMethod.GET, endpoint, params, accesskey, secretKey, BinanceOrderDto.class)
+                .onErrorResume(error -> error instanceof BinanceApiException binanceApiException
+                        && binanceApiException.getCode() != null && binanceApiException.getCode() == -2013, error -> Mono.empty())
+                .doOnSuccess(response -> logger.info("✅ Status Order 성공 (clientOrderId={}): {}", clientOrderId, response))
+                .doOnError(error -> logger.error("❌ Status Order 실패 (clientOrderId={}): {}", clientOrderId, error.getMessage()));
     }
 
     /**
-     * 주문 파라미터 Map을 URL 인코딩되지 않은 쿼리 문자열(key=value&key=value)로 변환
+     * ✅ User Data Stream listenKey 생성
+     * <p>
+     * 계정에 이미 유효한 listenKey가 있으면 같은 키를 반환하고 유효 시간을 60분 연장합니다.
+     * (서명 없이 X-MBX-APIKEY 헤더만 필요합니다.)
      *
-     * @param params 주문 파라미터 Map
-     * @return 쿼리 문자열
+     * @return listenKey
      */
-    private String generateQueryString(Map<String, Object> params) {
-        return params.entrySet().stream()
-                .map(entry -> entry.getKey() + "=" + entry.getValue())
-                .collect(Collectors.joining("&"));
+    public Mono<String> createListenKey(String accesskey) {
+        return apiKeyRequest(HttpMethod.POST, "/fapi/v1/listenKey", accesskey, BinanceListenKeyDto.class)
+                .mapNotNull(BinanceListenKeyDto::getListenKey);
     }
 
+    /**
+     * ✅ User Data Stream listenKey 유효 시간 연장 (60분)
+     * 키가 만료된 경우 -1125 오류가 발생하므로 새로 생성해야 합니다.
+     */
+    public Mono<Void> keepAliveListenKey(String accesskey) {
+        return apiKeyRequest(HttpMethod.PUT, "/fapi/v1/listenKey", accesskey, BinanceListenKeyDto.class)
+                .then();
+    }
 
     /**
-     * 바이낸스 서버의 현재 시간을 가져오는 메소드
-     * <p>
-     * 바이낸스 선물 API의 "/fapi/v1/time" 엔드포인트를 호출하여
-     * 서버의 현재 시간을 밀리초 단위로 가져옵니다.
-     *
-     * @return 서버 시간 (밀리초 단위)
-     * @throws RuntimeException 서버 시간을 가져오지 못한 경우 예외 발생
+     * API Key만 필요한 요청(USER_STREAM)을 공통 처리합니다.
      */
-    private long getBinanceServerTime() {
-        String endpoint = "/fapi/v1/time";
-        Map<String, Object> result = webClient.get()
+    private <T> Mono<T> apiKeyRequest(HttpMethod method, String endpoint, String accesskey, Class<T> responseType) {
+        return binanceResilienceManager.execute(method, endpoint, webClient.method(method)
                 .uri(endpoint)
+                .headers(httpHeaders -> httpHeaders.add("X-MBX-APIKEY", accesskey))
                 .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
-                .block();
-        if (result != null && result.containsKey("serverTime")) {
-            return (long) result.get("serverTime");
-        } else {
-            throw new RuntimeException("Binance 서버 시간을 가져올 수 없습니다.");
-        }
+                .onStatus(HttpStatusCode::isError, binanceResilienceManager::toException)
+                .bodyToMono(responseType));
     }
 
     /**
-     * exchangeInfo 응답에서 각 심볼의 정보를 파싱하여, 심볼명(key)별로
-     * pricePrecision, minPrice, tickSize 값만을 가지는 Map을 반환합니다.
+     * 주문 파라미터 Map을 URL 인코딩되지 않은 쿼리 문자열(key=value&key=value)로 변환
+     * <p>
+     * 파라미터는 Map의 순회 순서(LinkedHashMap이면 추가한 순서)대로 직렬화됩니다.
+     * 반환된 빌더는 풀에서 빌린 것이므로 사용 후 {@link BinanceQueryBuilder#release()}로 반납합니다.
      *
-     * @return 심볼별 정보 Map (key: 심볼명, value: {pricePrecision, minPrice, tickSize})
+     * @param params 주문 파라미터 Map
+     * @return 쿼리 빌더
      */
-    public Map<String, Integer> parseExchangeInfoForSymbols() {
-        Map<String, Object> exchangeInfo = getExchangeInfo(); // 기존에 작성한 getExchangeInfo() 호출
-        if (exchangeInfo == null || !exchangeInfo.containsKey("symbols")) {
-            return Collections.emptyMap();
-        }
-        List<Map<String, Object>> symbols = (List<Map<String, Object>>) exchangeInfo.get("symbols");
-        Map<String, Integer> result = new HashMap<>();
-
-        for (Map<String, Object> symbolInfo : symbols) {
-            String symbol = (String) symbolInfo.get("symbol");
-            Integer stepSize = 0;
-            List<Map<String, Object>> filters = (List<Map<String, Object>>) symbolInfo.get("filters");
-            if (filters != null) {
-                for (Map<String, Object> filter : filters) {
-                    String filterType = (String) filter.get("filterType");
-                    if ("LOT_SIZE".equals(filterType)) {
-                        String stepSizeString = filter.get("stepSize").toString();
-                        stepSize = countDecimalPlacesUsingBigDecimal(stepSizeString);
-                        break;
-                    }
-                }
-            }
-            result.put(symbol, stepSize);
-        }
-
-        return result;
+    private BinanceQueryBuilder generateQueryString(Map<String, Object> params) {
+        BinanceQueryBuilder query = BinanceQueryBuilder.acquire();
+        params.forEach(query::add);
+        return query;
     }
 
     /**
-     * 주어진 숫자 문자열을 BigDecimal로 변환한 후,
-     * 불필요한 뒤의 0(trailing zeros)을 제거하여 소수점 이하 자릿수를 반환합니다.
-     * 만약 소수점 이하 자릿수가 음수라면 0을 반환합니다.
+     * 서명이 필요 없는 공개 조회 요청(GET)을 공통 처리합니다.
      *
-     * @param numberString 숫자를 나타내는 문자열 (예: "0.1000")
-     * @return 소수점 이하 자리수 (예: "0.1000" → 1)
+     * @param endpoint     호출할 엔드포인트 (예: "/fapi/v1/depth")
+     * @param params       요청 파라미터 (비어 있으면 쿼리 스트링 없이 호출)
+     * @param responseType 응답 타입
+     * @return 응답 결과 (Mono)
      */
-    private Integer countDecimalPlacesUsingBigDecimal(String numberString) {
-        BigDecimal bd = new BigDecimal(numberString);
-        // BigDecimal에서 불필요한 후행 0을 제거한 후의 scale 값을 반환합니다.
-        int scale = bd.stripTrailingZeros().scale();
-        return scale < 0 ? 0 : scale;
+    private <T> Mono<T> publicRequest(String endpoint, Map<String, Object> params, Class<T> responseType) {
+        BinanceQueryBuilder query = generateQueryString(params);
+        String queryString = query.toQueryString();
+        query.release();
+        return binanceResilienceManager.execute(HttpMethod.GET, endpoint, webClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(endpoint);
+                    if (!queryString.isEmpty()) {
+                        uriBuilder.query(queryString);
+                    }
+                    return uriBuilder.build();
+                })
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, binanceResilienceManager::toException)
+                .bodyToMono(responseType));
     }
 
     /**
-     * 바이낸스 선물 API의 "/fapi/v1/exchangeInfo" 엔드포인트를 호출하여
-     * 거래소 정보를 가져옵니다.
+     * 서명이 필요한 요청(SIGNED)을 공통 처리합니다.
+     * <p>
+     * timestamp는 {@link BinanceTimeSyncManager}가 메모리에서 계산한 서버 시간을 사용하므로
+     * 요청마다 "/fapi/v1/time"을 호출하지 않습니다.
+     * -1021 (timestamp 범위 초과) 오류를 받으면 서버 시간을 즉시 재동기화한 후 새 timestamp로 한 번 더 요청합니다.
+     * 그 밖의 재시도와 서킷 브레이커는 {@link BinanceResilienceManager}가 처리하며, 재시도할 때마다 새 timestamp로 다시 서명합니다.
      *
-     * @return 거래소 정보 (Map 형태)
-     * @throws RuntimeException 거래소 정보를 가져오지 못한 경우 예외 발생
+     * @param method       HTTP 메서드
+     * @param endpoint     호출할 엔드포인트 (예: "/fapi/v1/order")
+     * @param params       요청 파라미터 (timestamp, signature는 자동으로 추가됩니다)
+     * @param responseType 응답 타입
+     * @return 응답 결과 (Mono)
      */
-    private Map<String, Object> getExchangeInfo() {
-        String endpoint = "/fapi/v1/exchangeInfo";
+    private <T> Mono<T> signedRequest(HttpMethod method, String endpoint, Map<String, Object> params,
+                                      String accesskey, String secretKey, Class<T> responseType) {
+        return binanceResilienceManager.execute(method, endpoint, Mono.defer(() -> binanceTimeSyncManager.timestamp()
+                        .flatMap(timestamp -> {
+                            // 주문 파라미터를 key=value 형식의 쿼리 스트링으로 생성 (timestamp는 마지막에 추가)
+                            BinanceQueryBuilder query = generateQueryString(params).add("timestamp", timestamp);
+                            String queryString;
+                            try {
+                                // HMAC SHA256 서명 생성 (쿼리 스트링 전체를 대상으로)
+                                String signature = binanceSignerManager.sign(query, accesskey, secretKey);
+                                queryString = query.add("signature", signature).toQueryString();
+                            } finally {
+                                query.release();
+                            }
+
+                            return webClient.method(method)
+                                    .uri(uriBuilder -> uriBuilder.path(endpoint)
+                                            .query(queryString)
+                                            .build())
+                                    .headers(httpHeaders -> {
+                                        httpHeaders.add("X-MBX-APIKEY", accesskey);
+                                    })
+                                    .retrieve()
+                                    .onStatus(HttpStatusCode::isError, binanceResilienceManager::toException)
+                                    .bodyToMono(responseType);
+                        }))
+                .retryWhen(Retry.max(1)
+                        .filter(binanceTimeSyncManager::isTimestampError)
+                        .doBeforeRetryAsync(signal -> {
+                            logger.warn("⚠ timestamp 오류(-1021) 발생, 서버 시간 재동기화 후 재요청: {}", endpoint);
+                            return binanceTimeSyncManager.resync("timestamp-error");
+                        })
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure())));
+    }
 
-        Map<String, Object> result = webClient.get()
-                .uri(endpoint)
+    /**
+     * 거래소 정보를 조건부로 조회합니다.
+     * 이전 응답의 ETag / Last-Modified가 있으면 If-None-Match / If-Modified-Since로 보내며,
+     * 변경이 없으면 본문 없이 304 응답을 반환합니다.
+     *
+     * @param eTag         이전 응답의 ETag (없으면 null)
+     * @param lastModified 이전 응답의 Last-Modified (없으면 null)
+     */
+    public Mono<ResponseEntity<BinanceExchangeInfoDto>> getExchangeInfoIfModified(String eTag, String lastModified) {
+        return binanceResilienceManager.execute(HttpMethod.GET, "/fapi/v1/exchangeInfo", webClient.get()
+                .uri("/fapi/v1/exchangeInfo")
+                .headers(headers -> {
+                    if (eTag != null) {
+                        headers.setIfNoneMatch(eTag);
+                    }
+                    if (lastModified != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                    }
+                })
                 .retrieve()
-                .onStatus(status -> status.value() == 400, response ->
-                        response.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                .bodyToMono(Map.class)
-                .block();
-
-        if (result == null) {
-            throw new RuntimeException("Binance 거래소 정보를 가져올 수 없습니다.");
-        }
-        return result;
+                .onStatus(HttpStatusCode::isError, binanceResilienceManager::toException)
+                .toEntity(BinanceExchangeInfoDto.class));
     }
 
     /**
-     * 바이낸스 선물 API의 "/fapi/v1/premiumIndex" 엔드포인트를 호출하여
-     * markPrice (시장가) 정보를 가져옵니다.
+     * 심볼의 최신 마크 가격을 반환합니다.
+     * "!markPrice@arr@1s" 스트림으로 유지되는 BinanceMarkPriceManager의 값을 사용하며 REST를 호출하지 않습니다.
      *
-     * @param symbol 심볼 (예: BTCUSDT). null 또는 빈 문자열일 경우 전체 데이터를 반환할 수 있음.
+     * @param symbol 심볼 (예: BTCUSDT)
      * @return markPrice (시장가)
-     * @throws RuntimeException 마켓 가격 정보를 가져오지 못한 경우 예외 발생
+     * @throws RuntimeException 마크 가격을 수신하지 못했거나 오래된 경우 예외 발생
      */
     public BigDecimal getMarkPrice(String symbol) {
-        String endpoint = "/fapi/v1/premiumIndex";
-
-        // symbol이 제공되면 쿼리 파라미터로 추가
-        Map<String, Object> params = new HashMap<>();
-        params.put("symbol", symbol);
-
-        // 주문 파라미터를 key=value 형식의 쿼리 스트링으로 생성
-        String queryString = generateQueryString(params);
-
-        // 웹 클라이언트로 API 호출
-        Object responseData = webClient.get()
-                .uri(uriBuilder -> uriBuilder.path(endpoint)
-                        .query(queryString)
-                        .build())
-                .retrieve()
-                .onStatus(status -> status.value() == 400, clientResponse ->
-                        clientResponse.bodyToMono(String.class)
-                                .flatMap(errorBody -> {
-                                    logger.error("Binance API 400 에러 발생: {}", errorBody);
-                                    return Mono.error(new BinanceApiException("Binance API Bad Request (400): " + errorBody));
-                                })
-                )
-                // symbol이 제공되면 Map, 없으면 List로 반환할 수 있음
-                .bodyToMono(Object.class)
-                .block();
-
-        if (responseData == null) {
-            throw new RuntimeException("Binance 마켓 가격 정보를 가져올 수 없습니다.");
-        }
-
-        // symbol 파라미터가 있는 경우 단일 Map으로 처리
-        if (symbol != null && !symbol.isEmpty()) {
-            Map<String, Object> result = (Map<String, Object>) responseData;
-            return new BigDecimal(result.get("markPrice").toString());
-        } else {
-            // symbol이 없으면 배열 형태로 반환되므로 첫 번째 항목에서 markPrice를 추출
-            List<Map<String, Object>> results = (List<Map<String, Object>>) responseData;
-            if (results.isEmpty()) {
-                throw new RuntimeException("Mark Price 정보를 찾을 수 없습니다.");
-            }
-            return new BigDecimal(results.get(0).get("markPrice").toString());
+        BigDecimal markPrice = binanceMarkPriceManager.getMarkPrice(symbol);
+        if (markPrice == null) {
+            throw new RuntimeException("Mark Price 정보를 찾을 수 없습니다. symbol: " + symbol);
         }
+        return markPrice;
     }
 }
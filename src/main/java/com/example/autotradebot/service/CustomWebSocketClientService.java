@@ -2,6 +2,7 @@ package com.example.autotradebot.service;
 
 import com.example.autotradebot.config.EnvConfig;
 import com.example.autotradebot.dto.TradeSignalDto;
+import com.example.autotradebot.manager.TradeLatencyManager;
 import com.example.autotradebot.manager.TradeSignalCacheManager;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
@@ -41,6 +42,9 @@ public class CustomWebSocketClientService {
     @Autowired
     private TradeSignalCacheManager tradeSignalCacheManager;
 
+    @Autowired
+    private TradeLatencyManager tradeLatencyManager;
+
     private WebSocketStompClient stompClient;
     private StompSession stompSession;
     private ThreadPoolTaskScheduler taskScheduler;
@@ -98,6 +102,7 @@ public class CustomWebSocketClientService {
                     public void handleFrame(StompHeaders headers, Object payload) {
                         logger.info("📩 수신한 메시지: {}", payload);
                         TradeSignalDto tradeSignalDto = (TradeSignalDto) payload;
+                        tradeLatencyManager.stamp(tradeSignalDto); // 수신 순번/시각 기록 (신호 → 주문 지연 측정 기준)
                         tradeSignalCacheManager.putTradeSignal(tradeSignalDto.getSymbol(), tradeSignalDto);
                         // 메시지 처리 로직 추가
                     }
@@ -4,287 +4,713 @@ import com.example.autotradebot.dto.*;
 import com.example.autotradebot.enums.OrderState;
 import com.example.autotradebot.enums.TradePosition;
 import com.example.autotradebot.exception.BinanceApiException;
-import com.example.autotradebot.mapper.UserPositionHistoryMapper;
-import com.example.autotradebot.mapper.UserSettingMapper;
+import com.example.autotradebot.manager.AccountMailboxManager;
+import com.example.autotradebot.manager.BinanceAccountCacheManager;
+import com.example.autotradebot.manager.BinanceLeverageManager;
+import com.example.autotradebot.manager.BinanceOrderBookManager;
+import com.example.autotradebot.manager.BinanceSymbolRegistryManager;
+import com.example.autotradebot.manager.BinanceUserDataListener;
+import com.example.autotradebot.manager.OrderDeadlineManager;
+import com.example.autotradebot.manager.TradeLatencyManager;
+import com.example.autotradebot.manager.TradeSignalCacheManager;
+import com.example.autotradebot.manager.UserTradeCacheManager;
 import com.example.autotradebot.mapper.UserTradeProcessMapper;
+import com.example.autotradebot.util.HexUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-public class OrderTradeService {
+public class OrderTradeService implements BinanceUserDataListener {
 
     private Logger logger = LoggerFactory.getLogger(OrderTradeService.class);
 
+    // 처리 여부 (0:체결 대기, 2:체결/취소 처리 중)
+    private static final int PROCESS_OPEN = 0;
+    private static final int PROCESS_CLAIMED = 2;
+    private static final long PENDING_ORDER_UPDATE_TTL_MS = 300000L; // 처리 테이블 등록 전 도착한 주문 이벤트 보관 시간
+    private static final int ALL_ORDERS_LIMIT = 1000;                 // 주문 보정 시 allOrders 최대 조회 개수
+    private static final BigDecimal FEE_RATE = new BigDecimal("0.02"); // 주문 금액 계산 시 제외할 수수료 비율
+    private static final long UNCONFIRMED_ORDER_TTL_MS = 3600000L;    // 처리 결과를 알 수 없는 주문 ID 보관 시간
+    private static final String CLIENT_ORDER_ID_PREFIX = "atb-";      // 클라이언트 주문 ID 접두어 (최대 36자)
+
+    /**
+     * 처리 테이블에 등록되기 전에 도착한 주문 이벤트 (key: orderId)
+     */
+    private final Map<BigInteger, PendingOrderUpdate> pendingOrderUpdates = new ConcurrentHashMap<>();
+
+    /**
+     * 처리 결과를 알 수 없는 신규 주문 (key: clientOrderId, value: 기록 시각)
+     * 같은 주문을 다시 시도할 때 새로 보내기 전에 접수 여부를 먼저 조회합니다.
+     */
+    private final Map<String, Long> unconfirmedOrders = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자/심볼별로 체결 없이 끝난 주문 수 (key: emailPk + ":" + symbol)
+     * 같은 신호로 다시 주문할 때 이전 주문과 다른 클라이언트 주문 ID를 쓰도록 합니다.
+     */
+    private final Cache<String, Integer> unfilledAttempts = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofDays(1))
+            .maximumSize(100_000)
+            .build();
+
 
     @Autowired
     private BinanceService binanceService;
 
     @Autowired
-    private UserPositionHistoryMapper userPositionHistoryMapper;
+    private BinanceOrderBookManager binanceOrderBookManager;
+
+    @Autowired
+    private BinanceAccountCacheManager binanceAccountCacheManager;
+
+    @Autowired
+    private BinanceLeverageManager binanceLeverageManager;
+
+    @Autowired
+    private BinanceSymbolRegistryManager binanceSymbolRegistryManager;
+
+    @Autowired
+    private TradeLatencyManager tradeLatencyManager;
 
     @Autowired
-    private UserSettingMapper userSettingMapper;
+    private AccountMailboxManager accountMailboxManager;
+
+    @Autowired
+    private OrderDeadlineManager orderDeadlineManager;
+
+    @Autowired
+    private UserTradeCacheManager userTradeCacheManager;
+
+    @Autowired
+    private TradeSignalCacheManager tradeSignalCacheManager;
 
     @Autowired
     private UserTradeProcessMapper userTradeProcessMapper;
 
+    @Autowired
+    @Qualifier("dbScheduler")
+    private Scheduler dbScheduler;
+
+    @Value("${trade.order-timeout-ms:60000}")
+    private long orderTimeoutMs;
+
+    @Value("${trade.order-deadline.retry-delay-ms:10000}")
+    private long deadlineRetryDelayMs;
+
 
     public void trade(TradeSignalDto tradeSignal,
                       UserSettingDto userSettingDto,
                       VendorApiKeyDto vendorApiKeyDto,
                       UserPositionHistoryDto previousPosition,
                       Integer stepSize) {
+        tradeAsync(tradeSignal, userSettingDto, vendorApiKeyDto, previousPosition, stepSize).block();
+    }
 
-        try {
-            String symbol = tradeSignal.getSymbol();
-            TradePosition orderPosition = tradeSignal.getPosition();
-            String accesskey = vendorApiKeyDto.getAccessKey();
-            String secretKey = vendorApiKeyDto.getSecretKey();
-            BigDecimal amount = userSettingDto.getAmount();
-            String emailPk = userSettingDto.getEmailPk();
-
-            if (previousPosition != null && previousPosition.getPosition().equals(orderPosition)) {
-                logger.info("이미 동일한 포지션이 캐시에 존재합니다. symbol: {}, position: {}", symbol, orderPosition);
-                return;
-            } else if (previousPosition != null) {
-                TradePosition currentPosition = previousPosition.getPosition();
-                if (TradePosition.LONG.equals(orderPosition) && TradePosition.SHORT.equals(currentPosition)) {
-                    orderPosition = TradePosition.EXIT;
-                }
-                if (TradePosition.SHORT.equals(orderPosition) && TradePosition.LONG.equals(currentPosition)) {
-                    orderPosition = TradePosition.EXIT;
-                }
-            }
+    /**
+     * 사용자 한 명에 대한 트레이드를 논블로킹으로 진행합니다.
+     * <p>
+     * 잔고 조회(계정 캐시 우선), 레버리지 설정(변경 시에만 호출), 호가 조회(로컬 호가 우선)는 서로 의존하지 않으므로 동시에 요청하고,
+     * 세 응답이 모두 도착하면 주문을 요청합니다. (트레이드 지연 ≈ 가장 느린 조회 1회 + 주문 1회)
+     * 주문 결과 저장(DB)은 dbScheduler에서 실행하여 네트워크 I/O 스레드를 막지 않습니다.
+     *
+     * @return 트레이드 완료 신호 (주문 조건을 만족하지 않으면 주문 없이 완료)
+     */
+    public Mono<Void> tradeAsync(TradeSignalDto tradeSignal,
+                                 UserSettingDto userSettingDto,
+                                 VendorApiKeyDto vendorApiKeyDto,
+                                 UserPositionHistoryDto previousPosition,
+                                 Integer stepSize) {
+        String symbol = tradeSignal.getSymbol();
+        TradePosition signalPosition = tradeSignal.getPosition();
+        String accesskey = vendorApiKeyDto.getAccessKey();
+        String secretKey = vendorApiKeyDto.getSecretKey();
+        BigDecimal amount = userSettingDto.getAmount();
+        String emailPk = userSettingDto.getEmailPk();
 
+        if (previousPosition != null && previousPosition.getPosition().equals(signalPosition)) {
+            logger.info("이미 동일한 포지션이 캐시에 존재합니다. symbol: {}, position: {}", symbol, signalPosition);
+            return Mono.empty();
+        }
+        TradePosition orderPosition = resolveOrderPosition(signalPosition, previousPosition);
 
-            logger.info("=== Trade 시작 ===");
-            logger.info("심볼 [{}]에 대한 Trade 진행합니다.", symbol);
+        logger.info("=== Trade 시작 ===");
+        logger.info("심볼 [{}]에 대한 Trade 진행합니다.", symbol);
 
-            String asset = "USDT";
+        String asset = "USDT";
+        Mono<BigDecimal> balanceMono;
+        if (TradePosition.EXIT.equals(orderPosition)) {
+            // 포지션 종료 주문은 잔고를 확인하지 않습니다.
+            balanceMono = Mono.just(BigDecimal.ZERO);
+        } else {
             logger.info("잔고 조회 중: 자산 = {}", asset);
-            BigDecimal balance = binanceService.getAvailableBalance(asset, accesskey, secretKey);
-            logger.info("현재 잔고: {} {}", balance, asset);
+            balanceMono = tradeLatencyManager.time(TradeLatencyManager.STAGE_BALANCE, symbol,
+                            binanceAccountCacheManager.getAvailableBalance(vendorApiKeyDto, asset))
+                    .doOnNext(balance -> logger.info("현재 잔고: {} {}", balance, asset));
+        }
 
-            if (!TradePosition.EXIT.equals(orderPosition) && balance.compareTo(amount) < 0) {
-                logger.info("현재 잔고 부족: {} {}", balance, asset);
-                return;
-            }
+        BigInteger tradeLeverage = tradeSignal.getLeverage();
+        Mono<BigInteger> leverageMono;
+        if (tradeLeverage != null && !TradePosition.EXIT.equals(orderPosition)) {
+            logger.info("레버리지 설정 중: {} 배", tradeLeverage);
+            leverageMono = tradeLatencyManager.time(TradeLatencyManager.STAGE_LEVERAGE, symbol,
+                            binanceLeverageManager.ensureLeverage(vendorApiKeyDto, symbol, tradeLeverage))
+                    .thenReturn(tradeLeverage)
+                    .doOnNext(leverage -> logger.info("레버리지 설정 완료"));
+        } else {
+            leverageMono = Mono.just(BigInteger.ONE);
+        }
 
-            BigInteger leverage = BigInteger.ONE;
-            BigInteger tradeLeverage = tradeSignal.getLeverage();
+        int limit = 10;
+        logger.info("호가 조회 중: 심볼 = {}, limit = {}", symbol, limit);
+        Mono<BinanceOrderBookDto> orderBookMono = tradeLatencyManager.time(TradeLatencyManager.STAGE_ORDER_BOOK, symbol,
+                binanceOrderBookManager.getOrderBook(symbol, limit));
 
-            if (tradeLeverage != null && !TradePosition.EXIT.equals(orderPosition)) {
-                logger.info("레버리지 설정 중: {} 배", tradeLeverage);
-                binanceService.setLeverage(symbol, tradeLeverage, accesskey, secretKey).block();
-                leverage = tradeLeverage;
-                logger.info("레버리지 설정 완료");
-            }
+        return Mono.zip(balanceMono, leverageMono, orderBookMono)
+                .flatMap(tuple -> {
+                    BigDecimal balance = tuple.getT1();
+                    BigInteger leverage = tuple.getT2();
+                    BinanceOrderBookDto orderBook = tuple.getT3();
+
+                    if (!TradePosition.EXIT.equals(orderPosition) && balance.compareTo(amount) < 0) {
+                        logger.info("현재 잔고 부족: {} {}", balance, asset);
+                        return Mono.empty();
+                    }
+                    logger.info("호가 응답: {}", orderBook);
 
-            int limit = 10;
-            logger.info("호가 조회 중: 심볼 = {}, limit = {}", symbol, limit);
-            Map<String, Object> orderBook = binanceService.getOrderBook(symbol, limit);
-            logger.info("호가 응답: {}", orderBook);
+                    BigDecimal price = tradeSignal.getEntryPrice();
+                    boolean isClose = false;
 
-            List<List<String>> bids = (List<List<String>>) orderBook.get("bids");
-            List<List<String>> asks = (List<List<String>>) orderBook.get("asks");
-            logger.info("매수 호가(Bids): {}", bids);
-            logger.info("매도 호가(Asks): {}", asks);
+                    if (orderPosition.equals(TradePosition.LONG)) {
+                        BigDecimal current = orderBook.bidPrice(2);
+                        if (current == null) {
+                            logger.warn("⚠ 호가 단계가 부족하여 주문하지 않습니다: symbol={}, position={}", symbol, orderPosition);
+                            return Mono.empty();
+                        }
+                        if (price.compareTo(current) > 0) {
+                            price = current;
+                        }
+                    } else if (orderPosition.equals(TradePosition.SHORT)) {
+                        BigDecimal current = orderBook.askPrice(2);
+                        if (current == null) {
+                            logger.warn("⚠ 호가 단계가 부족하여 주문하지 않습니다: symbol={}, position={}", symbol, orderPosition);
+                            return Mono.empty();
+                        }
+                        if (price.compareTo(current) < 0) {
+                            price = current;
+                        }
+                    } else if (orderPosition.equals(TradePosition.EXIT)) {
+                        if (previousPosition != null) {
+                            TradePosition prevPosition = previousPosition.getPosition();
 
-            BigDecimal price = tradeSignal.getEntryPrice();
+                            if (prevPosition.equals(TradePosition.LONG)) {
+                                price = orderBook.askPrice(2);
+                            } else if (prevPosition.equals(TradePosition.SHORT)) {
+                                price = orderBook.bidPrice(2);
+                            }
 
-            boolean isClose = false;
+                            isClose = true;
+                        }
+                    }
 
-            if (orderPosition.equals(TradePosition.LONG)) {
-                BigDecimal current = new BigDecimal(bids.get(2).get(0));
-                if (price.compareTo(current) > 0) {
-                    price = current;
-                }
-            } else if (orderPosition.equals(TradePosition.SHORT)) {
-                BigDecimal current = new BigDecimal(asks.get(2).get(0));
-                if (price.compareTo(current) < 0) {
-                    price = current;
-                }
-            } else if (orderPosition.equals(TradePosition.EXIT)) {
-                if (previousPosition != null) {
-                    TradePosition prevPosition = previousPosition.getPosition();
-
-                    if (prevPosition.equals(TradePosition.LONG)) {
-                        price = new BigDecimal(asks.get(2).get(0));
-                    } else if (prevPosition.equals(TradePosition.SHORT)) {
-                        price = new BigDecimal(bids.get(2).get(0));
+                    if (price == null) {
+                        logger.warn("⚠ 주문 가격을 정할 수 없어 주문하지 않습니다: symbol={}, position={}", symbol, orderPosition);
+                        return Mono.empty();
                     }
 
-                    isClose = true;
-                }
+                    // 시그널 가격은 tickSize 단위가 아닐 수 있으므로 매수는 내림, 매도는 올림으로 보정합니다.
+                    BinanceSymbolFilterDto symbolFilter = binanceSymbolRegistryManager.getFilter(symbol);
+                    boolean isBuy = orderPosition.equals(TradePosition.LONG)
+                            || (isClose && previousPosition.getPosition().equals(TradePosition.SHORT));
+                    if (symbolFilter != null) {
+                        price = symbolFilter.roundPrice(price, isBuy ? RoundingMode.FLOOR : RoundingMode.CEILING);
+                    }
 
-            }
+                    BigDecimal quantity;
+
+                    if (isClose) {
+                        // 호가에서 가격 추출 (최우선 매도 호가 사용)
+                        logger.info("진입 주문 가격: {}", price);
 
-            if (price == null) {
+                        // 포지션 종료 주문
+                        quantity = previousPosition.getQuantity();
+                    } else {
+                        quantity = calculateOpenQuantity(amount, leverage, price, stepSize, symbolFilter);
+                    }
+
+                    // 거래소에서 거절될 주문은 보내지 않습니다. (-1111 정밀도 초과, -4164 최소 주문 금액 미달 등)
+                    String rejectReason = binanceSymbolRegistryManager.validateOrder(symbol, price, quantity, isClose);
+                    if (rejectReason != null) {
+                        logger.warn("주문 사전 검증 실패 ({}): 심볼={}, 수량={}, 가격={}, 필터={}", rejectReason, symbol, quantity, price, symbolFilter);
+                        return Mono.empty();
+                    }
+
+                    Integer attempt = unfilledAttempts.getIfPresent(emailPk + ":" + symbol);
+                    String clientOrderId = clientOrderId(emailPk, tradeSignal, orderPosition, attempt != null ? attempt : 0);
+                    Mono<BigInteger> sendMono = isClose
+                            ? binanceService.closeOrderAsync(symbol, quantity, price, previousPosition.getPosition(), clientOrderId, accesskey, secretKey)
+                            : binanceService.openOrderAsync(symbol, quantity, price, orderPosition, clientOrderId, accesskey, secretKey);
+                    Mono<BigInteger> orderMono = tradeLatencyManager.time(TradeLatencyManager.STAGE_ORDER, symbol,
+                                    placeOrder(symbol, clientOrderId, sendMono, accesskey, secretKey))
+                            .doOnNext(orderId -> tradeLatencyManager.recordSinceReceived(TradeLatencyManager.STAGE_SIGNAL_TO_ACK, tradeSignal));
+
+                    logger.info("포지션 주문 요청 중: 심볼={}, 수량={}, 가격={}, 포지션 타입={}", symbol, quantity, price, orderPosition);
+
+                    BigDecimal orderPrice = price;
+                    BigDecimal orderQuantity = quantity;
+                    return orderMono.map(orderId -> {
+                        UserTradeProcessDto dto = new UserTradeProcessDto();
+                        dto.setSymbol(symbol);
+                        dto.setOrderId(orderId);
+                        dto.setOrderState(OrderState.NEW);
+                        dto.setEntryPrice(orderPrice);
+                        dto.setQuantity(orderQuantity);
+                        dto.setPosition(orderPosition);
+                        dto.setLeverage(leverage);
+                        dto.setEmailPk(emailPk);
+                        dto.setIsProcess(false);
+                        return dto;
+                    });
+                })
+                .flatMap(dto -> Mono.fromRunnable(() -> {
+                            long persistStartNanos = System.nanoTime();
+                            userTradeProcessMapper.insertUserTradeProcess(dto);
+                            tradeLatencyManager.recordSince(TradeLatencyManager.STAGE_PERSIST, symbol, persistStartNanos);
+                            // 제한 시간 안에 체결되지 않으면 마감 스케줄러가 상태 확인 후 취소합니다.
+                            scheduleOrderDeadline(emailPk, dto.getOrderId(), vendorApiKeyDto, orderTimeoutMs);
+                            replayPendingOrderUpdate(dto.getOrderId());
+                        }).subscribeOn(dbScheduler))
+                .doFinally(signal -> logger.info("=== Trade 종료 ==="))
+                .then()
+                .onErrorMap(error -> !(error instanceof BinanceApiException), error -> {
+                    logger.error("TRADE  도중 예외 발생");
+                    return new RuntimeException(error);
+                });
+    }
+
+    /**
+     * 신규 주문을 보냅니다.
+     * <p>
+     * 신규 주문은 멱등하지 않으므로 처리 결과를 알 수 없는 오류(5xx, 타임아웃 등)를 받으면 다시 보내지 않고
+     * 클라이언트 주문 ID(origClientOrderId)로 접수 여부를 조회합니다. 접수된 주문이면 주문 응답을 받은 것처럼 처리 테이블에 등록하고,
+     * 확인하지 못하면 오류를 그대로 전달하되 주문 ID를 기록해 두어, 다음에 같은 주문을 시도할 때 먼저 조회하여 중복 주문을 막습니다.
+     *
+     * @param sendMono 주문 요청 (구독할 때 전송)
+     * @return 주문 번호
+     */
+    private Mono<BigInteger> placeOrder(String symbol, String clientOrderId, Mono<BigInteger> sendMono, String accesskey, String secretKey) {
+        Mono<BigInteger> send = sendMono.onErrorResume(
+                error -> error instanceof BinanceApiException binanceApiException && binanceApiException.getErrorType().isOutcomeUnknown(),
+                error -> {
+                    logger.warn("⚠ 주문 처리 결과를 알 수 없어 접수 여부를 확인합니다: symbol={}, clientOrderId={}", symbol, clientOrderId);
+                    purgeExpiredUnconfirmedOrders();
+                    unconfirmedOrders.put(clientOrderId, System.currentTimeMillis());
+                    return findOrderId(symbol, clientOrderId, accesskey, secretKey)
+                            .onErrorResume(lookupError -> Mono.empty())
+                            .switchIfEmpty(Mono.error(error));
+                });
+
+        if (!unconfirmedOrders.containsKey(clientOrderId)) {
+            return send;
+        }
+        // 이전 시도의 결과를 알 수 없으므로 접수되지 않은 것을 확인한 뒤에만 다시 보냅니다.
+        logger.info("이전 주문의 접수 여부를 먼저 확인합니다: symbol={}, clientOrderId={}", symbol, clientOrderId);
+        return findOrderId(symbol, clientOrderId, accesskey, secretKey)
+                .switchIfEmpty(Mono.defer(() -> {
+                    unconfirmedOrders.remove(clientOrderId);
+                    return send;
+                }));
+    }
+
+    /**
+     * @return 클라이언트 주문 ID로 접수된 주문 번호, 주문이 없으면 empty
+     */
+    private Mono<BigInteger> findOrderId(String symbol, String clientOrderId, String accesskey, String secretKey) {
+        return binanceService.getOrderByClientOrderId(symbol, clientOrderId, accesskey, secretKey)
+                .mapNotNull(BinanceOrderDto::getOrderId)
+                .doOnNext(orderId -> {
+                    unconfirmedOrders.remove(clientOrderId);
+                    logger.info("✅ 접수된 주문을 확인했습니다: symbol={}, clientOrderId={}, orderId={}", symbol, clientOrderId, orderId);
+                });
+    }
+
+    private void purgeExpiredUnconfirmedOrders() {
+        long expiredBefore = System.currentTimeMillis() - UNCONFIRMED_ORDER_TTL_MS;
+        unconfirmedOrders.values().removeIf(recordedAt -> recordedAt < expiredBefore);
+    }
+
+    /**
+     * 주문의 클라이언트 주문 ID를 만듭니다.
+     * 사용자, 심볼, 신호(버전, 수신 시각), 주문 방향, 미체결 종료 횟수가 같으면 같은 ID가 되므로 같은 주문을 다시 시도해도 ID로 구분할 수 있습니다.
+     * (바이낸스 형식 ^[.A-Z:/a-z0-9_-]{1,36}$ 에 맞도록 해시의 앞 16바이트를 hex로 사용)
+     *
+     * @param attempt 같은 신호로 체결 없이 끝난 이전 주문 수
+     */
+    static String clientOrderId(String emailPk, TradeSignalDto tradeSignal, TradePosition orderPosition, int attempt) {
+        String source = emailPk + ":" + tradeSignal.getSymbol() + ":" + tradeSignal.getVersion()
+                + ":" + tradeSignal.getReceivedAt() + ":" + orderPosition + ":" + attempt;
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return CLIENT_ORDER_ID_PREFIX + HexUtils.toHex(Arrays.copyOf(hash, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 진입 주문 수량을 계산합니다.
+     * (투입 금액 × 레버리지)에서 수수료를 제외한 금액을 가격으로 나누고, 수량 자릿수와 stepSize 단위로 내림합니다.
+     *
+     * @param stepSize     수량 소수점 자릿수
+     * @param symbolFilter 심볼 필터 (없으면 자릿수로만 내림)
+     */
+    public static BigDecimal calculateOpenQuantity(BigDecimal amount, BigInteger leverage, BigDecimal price,
+                                                   int stepSize, BinanceSymbolFilterDto symbolFilter) {
+        BigDecimal positionSize = amount.multiply(new BigDecimal(leverage)); // 포지션 크기 계산
+        BigDecimal size = positionSize.subtract(positionSize.multiply(FEE_RATE));
+
+        // 주문 수량을 계산 (포지션 크기 / 가격)
+        BigDecimal quantity = size.divide(price, stepSize, RoundingMode.DOWN);
+        return symbolFilter != null ? symbolFilter.roundQuantity(quantity) : quantity;
+    }
+
+    /**
+     * 포지션 종료 후 사용자 투입 금액을 계산합니다. (진입/종료 수수료 제외 후 레버리지로 나눔)
+     */
+    public static BigDecimal calculateExitBalance(BigDecimal quantity, BigDecimal entryPrice, BigInteger leverage) {
+        return quantity
+                .multiply(BigDecimal.ONE.subtract(FEE_RATE.multiply(BigDecimal.TWO)))
+                .multiply(entryPrice)
+                .divide(new BigDecimal(leverage), 10, RoundingMode.HALF_DOWN);
+    }
+
+    /**
+     * 이전 포지션과 반대 방향 신호가 들어오면 먼저 기존 포지션을 종료(EXIT)합니다.
+     */
+    private TradePosition resolveOrderPosition(TradePosition signalPosition, UserPositionHistoryDto previousPosition) {
+        if (previousPosition == null) {
+            return signalPosition;
+        }
+        TradePosition currentPosition = previousPosition.getPosition();
+        if (TradePosition.LONG.equals(signalPosition) && TradePosition.SHORT.equals(currentPosition)) {
+            return TradePosition.EXIT;
+        }
+        if (TradePosition.SHORT.equals(signalPosition) && TradePosition.LONG.equals(currentPosition)) {
+            return TradePosition.EXIT;
+        }
+        return signalPosition;
+    }
+
+    /**
+     * User Data Stream 주문 이벤트를 처리합니다.
+     * 체결(FILLED) 또는 취소/만료(CANCELED, EXPIRED)된 주문은 수신 즉시 포지션 이력 저장과 처리 테이블 정리를 진행합니다.
+     * (DB 작업은 계정 메일박스를 거쳐 dbScheduler에서 실행하므로 같은 계정의 트레이드/주문 보정과 겹치지 않습니다.)
+     */
+    @Override
+    public void onOrderTradeUpdate(String emailPk, BinanceOrderUpdateDto update) {
+        if (!isTerminal(update.getOrderStatus())) {
+            return;
+        }
+        accountMailboxManager.submit(emailPk, Mono.fromRunnable(() -> applyOrderUpdate(emailPk, update))
+                        .subscribeOn(dbScheduler)
+                        .then())
+                .subscribe(null, error -> logger.error("❌ 주문 이벤트 처리 실패: orderId={}, {}", update.getOrderId(), error.getMessage(), error));
+    }
+
+    private void applyOrderUpdate(String emailPk, BinanceOrderUpdateDto update) {
+        BigInteger orderId = update.getOrderId();
+        UserTradeProcessDto userTradeProcessDto = userTradeProcessMapper.selectUserTradeProcessByOrderId(emailPk, orderId);
+
+        if (userTradeProcessDto == null) {
+            // 주문 응답보다 체결 이벤트가 먼저 도착한 경우, 처리 테이블 등록 후 다시 처리합니다.
+            purgeExpiredOrderUpdates();
+            pendingOrderUpdates.put(orderId, new PendingOrderUpdate(emailPk, update, System.currentTimeMillis()));
+            userTradeProcessDto = userTradeProcessMapper.selectUserTradeProcessByOrderId(emailPk, orderId);
+            if (userTradeProcessDto == null || pendingOrderUpdates.remove(orderId) == null) {
                 return;
             }
+        }
 
-            BigDecimal feeRate = new BigDecimal("0.02");
-            BigDecimal leverageValue = new BigDecimal(leverage);
-            BigInteger orderId = null;
-            BigDecimal quantity = BigDecimal.ZERO;
+        completeOrder(userTradeProcessDto, update.getOrderStatus(), update.getFilledQuantity());
+    }
 
-            if (isClose) {
-                // 호가에서 가격 추출 (최우선 매도 호가 사용)
-                logger.info("진입 주문 가격: {}", price);
+    /**
+     * 처리 테이블에 주문이 등록된 직후, 먼저 도착해 대기 중인 주문 이벤트가 있으면 처리합니다.
+     */
+    private void replayPendingOrderUpdate(BigInteger orderId) {
+        PendingOrderUpdate pending = pendingOrderUpdates.remove(orderId);
+        if (pending != null) {
+            applyOrderUpdate(pending.emailPk(), pending.update());
+        }
+    }
+
+    private void purgeExpiredOrderUpdates() {
+        long expiredBefore = System.currentTimeMillis() - PENDING_ORDER_UPDATE_TTL_MS;
+        pendingOrderUpdates.values().removeIf(pending -> pending.receivedAt() < expiredBefore);
+    }
 
-                // 포지션 진입 주문
-                quantity = previousPosition.getQuantity();
-                orderId = binanceService.closeOrder(symbol, quantity, price, previousPosition.getPosition(), accesskey, secretKey);
+    /**
+     * 종료된 주문을 정리합니다.
+     * <p>
+     * 체결 수량이 있으면 포지션 이력을 저장하고 (EXIT이면 사용자 금액 갱신), 처리 테이블에서 주문을 삭제합니다.
+     * 스트림 이벤트와 폴링이 같은 주문을 동시에 처리하지 않도록 is_process를 조건부로 변경(선점)한 쪽만 진행합니다.
+     * 정리 후 포지션이 최신 신호와 다르면 같은 신호를 다시 처리하도록 합니다. ({@link #reopenIfUnfinished})
+     *
+     * @param status         주문 최종 상태 (FILLED, CANCELED, EXPIRED)
+     * @param filledQuantity 누적 체결 수량 (모르면 null, FILLED가 아니면 체결 없음으로 처리)
+     */
+    public void completeOrder(UserTradeProcessDto userTradeProcessDto, String status, BigDecimal filledQuantity) {
+        Integer id = userTradeProcessDto.getId();
+        if (userTradeProcessMapper.updateUserTradeProcessIfState(id, PROCESS_OPEN, PROCESS_CLAIMED) == 0) {
+            logger.info("이미 처리 중이거나 처리된 주문입니다: orderId={}", userTradeProcessDto.getOrderId());
+            return;
+        }
+
+        try {
+            // 주문 수량은 전량 체결(FILLED)일 때만 사용하고, 취소/만료 주문의 체결 수량을 모르면 체결 없음으로 봅니다.
+            BigDecimal quantity = "FILLED".equals(status)
+                    ? userTradeProcessDto.getQuantity()
+                    : filledQuantity != null ? filledQuantity : BigDecimal.ZERO;
+
+            boolean filled = quantity != null && quantity.signum() > 0 && !"NEW".equals(status);
+            if (filled) {
+                logger.info("주문 체결 완료: orderId={}, status={}, quantity={}", userTradeProcessDto.getOrderId(), status, quantity);
+                savePositionHistory(userTradeProcessDto, quantity);
             } else {
-                // 수수료율, 레버리지, 포지션 크기, 잔고 등은 이미 계산되어 있다고 가정합니다.
-                BigDecimal positionSize = amount.multiply(leverageValue); // 포지션 크기 계산
-                BigDecimal fee = positionSize.multiply(feeRate);
-                BigDecimal size = positionSize.subtract(fee);
-
-                // 주문 가격(price)와 pricePrecision은 이미 계산되어 있다고 가정합니다.
-                // 주문 수량을 계산 (포지션 크기 / 가격)
-                quantity = size.divide(price, stepSize, BigDecimal.ROUND_DOWN);
-                orderId = binanceService.openOrder(symbol, quantity, price, orderPosition, accesskey, secretKey);
+                logger.info("미체결 주문 종료: orderId={}, status={}", userTradeProcessDto.getOrderId(), status);
             }
 
-            logger.info("포지션 주문 요청 중: 심볼={}, 수량={}, 가격={}, 포지션 타입={}", symbol, quantity, price, orderPosition);
+            userTradeProcessMapper.deleteUserTradeProcessById(id);
+            orderDeadlineManager.cancel(userTradeProcessDto.getOrderId());
+            reopenIfUnfinished(userTradeProcessDto, filled);
+        } catch (RuntimeException e) {
+            // 다음 이벤트 또는 폴링에서 다시 처리할 수 있도록 선점을 해제합니다.
+            userTradeProcessMapper.updateUserTradeProcessIfState(id, PROCESS_CLAIMED, PROCESS_OPEN);
+            throw e;
+        }
+    }
 
-            logger.info("=== Trade 종료 ===");
+    /**
+     * 끝난 주문의 결과 포지션이 최신 신호와 다르면 사용자의 신호 커서를 지우고 심볼을 다시 처리합니다.
+     * <ul>
+     *     <li>반대 신호로 기존 포지션만 종료(EXIT)된 경우: 이어서 신호 방향으로 진입합니다.</li>
+     *     <li>체결 없이 취소/만료된 경우: 현재 호가로 다시 주문합니다. (신호가 그대로면 주문 제한 시간마다 반복)</li>
+     * </ul>
+     * 일부 체결은 신호 방향의 포지션이 생긴 것으로 보고 다시 처리하지 않습니다.
+     */
+    private void reopenIfUnfinished(UserTradeProcessDto userTradeProcessDto, boolean filled) {
+        String emailPk = userTradeProcessDto.getEmailPk();
+        String symbol = userTradeProcessDto.getSymbol();
+        TradeSignalDto tradeSignal = tradeSignalCacheManager.getTradeSignal(symbol);
+        if (tradeSignal == null || TradePosition.WAIT.equals(tradeSignal.getPosition())) {
+            return;
+        }
+        if (filled && tradeSignal.getPosition().equals(userTradeProcessDto.getPosition())) {
+            return;
+        }
+        if (!filled) {
+            unfilledAttempts.asMap().merge(emailPk + ":" + symbol, 1, Integer::sum);
+        }
+        logger.info("주문 결과가 신호와 달라 신호를 다시 처리합니다: symbol={}, user={}, order={}, filled={}, signal={}",
+                symbol, emailPk, userTradeProcessDto.getPosition(), filled, tradeSignal.getPosition());
+        tradeSignalCacheManager.reopen(emailPk, symbol);
+    }
 
-            if (orderId == null) {
-                return;
-            }
+    private void savePositionHistory(UserTradeProcessDto userTradeProcessDto, BigDecimal quantity) {
+        String emailPk = userTradeProcessDto.getEmailPk();
+        String symbol = userTradeProcessDto.getSymbol();
+        BigInteger leverage = userTradeProcessDto.getLeverage();
+        TradePosition position = userTradeProcessDto.getPosition();
 
-            UserTradeProcessDto dto = new UserTradeProcessDto();
-            dto.setSymbol(symbol);
-            dto.setOrderId(orderId);
-            dto.setOrderState(OrderState.NEW);
-            dto.setEntryPrice(price);
-            dto.setQuantity(quantity);
-            dto.setPosition(orderPosition);
-            dto.setLeverage(leverage);
-            dto.setEmailPk(emailPk);
-
-            userTradeProcessMapper.insertUserTradeProcess(dto);
-
-        } catch (
-                BinanceApiException e) {
-            throw new BinanceApiException(e.getMessage());
-        } catch (
-                Exception e) {
-            logger.error("TRADE  도중 예외 발생");
-            throw new RuntimeException(e);
+        UserPositionHistoryDto positionDto = new UserPositionHistoryDto();
+        positionDto.setEmailPk(emailPk);
+        positionDto.setSymbol(symbol);
+        positionDto.setLeverage(leverage);
+        positionDto.setQuantity(quantity);
+        positionDto.setEntryPrice(userTradeProcessDto.getEntryPrice());
+        positionDto.setPosition(position);
+
+        if (position.equals(TradePosition.EXIT)) {
+            BigDecimal realBalance = calculateExitBalance(quantity, positionDto.getEntryPrice(), leverage);
+            userTradeCacheManager.updateUserAmountSetting(emailPk, symbol, realBalance);
         }
-    }
 
+        userTradeCacheManager.insertUserPositionHistory(positionDto);
+    }
 
-    public void checkOrderStatus(
+    /**
+     * 주문 상태를 REST로 확인합니다. (User Data Stream 이벤트를 놓친 경우를 위한 느린 보정 경로)
+     * <p>
+     * 주문 후 일정 시간이 지난 미처리 주문만 대상으로 하며,
+     * 아직 미체결(NEW, PARTIALLY_FILLED)이면 주문을 취소한 뒤 최종 체결 수량으로 정리합니다.
+     * 오류가 발생하면 처리 테이블을 그대로 두어 다음 주기에 다시 확인합니다.
+     *
+     * @return 주문이 종료 상태로 정리되었는지 여부 (취소되지 않았으면 false)
+     */
+    public boolean checkOrderStatus(
             UserTradeProcessDto userTradeProcessDto,
             VendorApiKeyDto vendorApiKeyDto
     ) {
-        BigDecimal feeRate = new BigDecimal("0.02");
         String accesskey = vendorApiKeyDto.getAccessKey();
         String secretKey = vendorApiKeyDto.getSecretKey();
-        String emailPk = userTradeProcessDto.getEmailPk();
         BigInteger orderId = userTradeProcessDto.getOrderId();
         String symbol = userTradeProcessDto.getSymbol();
-        BigInteger leverage = userTradeProcessDto.getLeverage();
-        BigDecimal quantity = userTradeProcessDto.getQuantity();
-        BigDecimal price = userTradeProcessDto.getEntryPrice();
-        TradePosition position = userTradeProcessDto.getPosition();
-        Integer id = userTradeProcessDto.getId();
-        // 처리 여부 (0:미처리, 1:처리, 2:진행중)
-        userTradeProcessMapper.updateUserTradeProcess(id, 1);
 
-        try {
-            logger.info("포지션 주문 응답: orderId={}", orderId);
+        logger.info("주문 상태 조회 요청 중: 심볼={}, orderId={}", symbol, orderId);
+        BinanceOrderDto order = binanceService.getOrder(symbol, orderId, accesskey, secretKey).block();
+        logger.info("주문 상태 응답: {}", order.getStatus());
 
-            int maxRetries = 5;
-            int retryCount = 0;
+        // 주문 체결되지 않은 경우 주문 취소 시도
+        if (!isTerminal(order.getStatus())) {
+            order = cancelTimedOutOrder(userTradeProcessDto, accesskey, secretKey);
+            if (order == null) {
+                return false;
+            }
+        }
 
-            while (retryCount < maxRetries) {
-                try {
+        completeOrder(userTradeProcessDto, order.getStatus(), order.getExecutedQty());
+        return true;
+    }
 
-                    // 2초 대기 (주문 체결 대기)
-                    logger.info("주문 체결 대기: 60초 대기");
-                    Thread.sleep(60000);
+    /**
+     * 주문 마감 작업을 등록합니다.
+     */
+    private void scheduleOrderDeadline(String emailPk, BigInteger orderId, VendorApiKeyDto vendorApiKeyDto, long delayMs) {
+        orderDeadlineManager.schedule(orderId, delayMs, () -> onOrderDeadline(emailPk, orderId, vendorApiKeyDto));
+    }
 
-                    // 주문 상태 확인
-                    logger.info("주문 상태 조회 요청 중: 심볼={}, orderId={}", symbol, orderId);
-                    String status = binanceService.orderStatus(symbol, orderId, accesskey, secretKey);
-                    logger.info("주문 상태 응답: {}", status);
+    /**
+     * 마감 시간이 지난 주문의 상태를 확인하고, 미체결이면 취소 후 정리합니다.
+     * (마감 타이머 스레드에서 호출되므로 계정 메일박스를 거쳐 dbScheduler에서 실행합니다.)
+     * 확인/취소에 실패하면 trade.order-deadline.retry-delay-ms 후 다시 확인합니다.
+     */
+    private void onOrderDeadline(String emailPk, BigInteger orderId, VendorApiKeyDto vendorApiKeyDto) {
+        accountMailboxManager.submit(emailPk, Mono.fromCallable(() -> {
+                            UserTradeProcessDto userTradeProcessDto = userTradeProcessMapper.selectUserTradeProcessByOrderId(emailPk, orderId);
+                            // 이미 정리된 주문이면 완료로 봅니다.
+                            return userTradeProcessDto == null || checkOrderStatus(userTradeProcessDto, vendorApiKeyDto);
+                        })
+                        .subscribeOn(dbScheduler))
+                .subscribe(completed -> {
+                    if (!completed) {
+                        scheduleOrderDeadline(emailPk, orderId, vendorApiKeyDto, deadlineRetryDelayMs);
+                    }
+                }, error -> {
+                    logger.error("❌ 주문 마감 처리 실패 ({}ms 후 재시도): orderId={}, {}", deadlineRetryDelayMs, orderId, error.getMessage());
+                    scheduleOrderDeadline(emailPk, orderId, vendorApiKeyDto, deadlineRetryDelayMs);
+                });
+    }
 
-                    // 주문 체결되지 않은 경우 주문 취소 시도
-                    if ("NEW".equals(status)) {
-                        logger.info("주문 미체결 상태, 주문 취소 요청 진행: 심볼={}, orderId={}", symbol, orderId);
-                        String cancel = binanceService.orderCancel(symbol, orderId, accesskey, secretKey);
-                        logger.info("주문 취소 응답: {}", cancel);
+    /**
+     * 계정 단위로 미처리 주문을 한 번에 보정합니다.
+     * <p>
+     * 주문마다 상태를 조회하지 않고 계정의 미체결 주문 목록(openOrders)을 한 번 조회하여
+     * - 목록에 있는 주문: 제한 시간이 지났으므로 취소 후 취소 응답의 체결 수량으로 정리
+     * - 목록에 없는 주문: 이미 종료된 주문이므로 심볼별 allOrders(가장 오래된 주문 번호부터) 한 번으로 최종 상태를 확인하여 정리
+     * 합니다. 서명 요청 수가 주문 수가 아닌 계정 수(+ 종료 주문이 있는 심볼 수)에 비례합니다.
+     *
+     * @param userTradeProcessDtos 같은 계정의 미처리 주문 목록
+     */
+    public void reconcileOrders(VendorApiKeyDto vendorApiKeyDto, List<UserTradeProcessDto> userTradeProcessDtos) {
+        String accesskey = vendorApiKeyDto.getAccessKey();
+        String secretKey = vendorApiKeyDto.getSecretKey();
 
-                        if ("CANCELED".equals(cancel)) {
-                            logger.info("주문 취소 완료");
-                        } else {
-                            logger.warn("주문 취소 실패 또는 다른 상태: {}", cancel);
-                        }
+        Map<String, List<UserTradeProcessDto>> ordersBySymbol = new HashMap<>();
+        for (UserTradeProcessDto dto : userTradeProcessDtos) {
+            ordersBySymbol.computeIfAbsent(dto.getSymbol(), key -> new ArrayList<>()).add(dto);
+        }
 
-                    } else {
-                        logger.info("주문 체결 완료 - 추가 작업 없음");
-                        UserPositionHistoryDto positionDto = new UserPositionHistoryDto();
-                        positionDto.setEmailPk(emailPk);
-                        positionDto.setSymbol(symbol);
-                        positionDto.setLeverage(leverage);
-                        positionDto.setQuantity(quantity);
-                        positionDto.setEntryPrice(price);
-                        positionDto.setPosition(position);
-
-                        if (position.equals(TradePosition.EXIT)) {
-                            String previousLeverageString = leverage.toString();
-                            BigDecimal previousLeverage = new BigDecimal(previousLeverageString);
-                            BigDecimal entryPrice = positionDto.getEntryPrice();
-
-                            BigDecimal realBalance = quantity
-                                    .multiply(BigDecimal.ONE.subtract(feeRate.multiply(BigDecimal.TWO)))
-                                    .multiply(entryPrice)
-                                    .divide(previousLeverage, 10, RoundingMode.HALF_DOWN);
-
-                            userSettingMapper.updateUserAmountSetting(emailPk, symbol, realBalance);
+        // 심볼이 하나면 심볼 지정 조회(weight 1), 여러 개면 전체 심볼 조회(weight 40) 한 번으로 처리합니다.
+        String openOrdersSymbol = ordersBySymbol.size() == 1 ? ordersBySymbol.keySet().iterator().next() : null;
+        List<BinanceOrderDto> openOrders = binanceService.getOpenOrders(openOrdersSymbol, accesskey, secretKey).block();
+        Set<BigInteger> openOrderIds = new HashSet<>();
+        for (BinanceOrderDto order : openOrders) {
+            openOrderIds.add(order.getOrderId());
+        }
+        logger.info("계정 주문 보정 [{}]: 미처리 {}건, 미체결 {}건", vendorApiKeyDto.getEmailPk(), userTradeProcessDtos.size(), openOrderIds.size());
+
+        for (Map.Entry<String, List<UserTradeProcessDto>> entry : ordersBySymbol.entrySet()) {
+            String symbol = entry.getKey();
+            List<UserTradeProcessDto> closed = new ArrayList<>();
+            BigInteger fromOrderId = null;
+
+            for (UserTradeProcessDto dto : entry.getValue()) {
+                if (openOrderIds.contains(dto.getOrderId())) {
+                    try {
+                        BinanceOrderDto canceled = cancelTimedOutOrder(dto, accesskey, secretKey);
+                        if (canceled != null) {
+                            completeOrder(dto, canceled.getStatus(), canceled.getExecutedQty());
                         }
+                    } catch (RuntimeException e) {
+                        logger.error("주문 보정 실패: orderId={}, {}", dto.getOrderId(), e.getMessage());
+                    }
+                } else {
+                    closed.add(dto);
+                    fromOrderId = fromOrderId == null ? dto.getOrderId() : fromOrderId.min(dto.getOrderId());
+                }
+            }
 
-                        userPositionHistoryMapper.insertUserPositionHistory(positionDto);
+            if (closed.isEmpty()) {
+                continue;
+            }
 
-                        userTradeProcessMapper.deleteUserTradeProcessById(id);
-                    }
-                    break;
-                } catch (BinanceApiException e) {
-                    retryCount++;
-                    logger.warn("BinanceApiException 발생, 재시도 {}/{} 진행", retryCount, maxRetries, e);
-                    if (retryCount >= maxRetries) {
-                        // 최대 재시도 횟수를 초과한 경우 BinanceApiException 던짐
-                        throw e;
-                    }
-                } catch (Exception e) {
-                    retryCount++;
-                    logger.warn("일반 Exception 발생, 재시도 {}/{} 진행", retryCount, maxRetries, e);
-                    if (retryCount >= maxRetries) {
-                        // 최대 재시도 횟수를 초과한 경우 RuntimeException 던짐
-                        throw new RuntimeException(e);
-                    }
+            Map<BigInteger, BinanceOrderDto> ordersById = new HashMap<>();
+            for (BinanceOrderDto order : binanceService.getAllOrders(symbol, fromOrderId, ALL_ORDERS_LIMIT, accesskey, secretKey).block()) {
+                ordersById.put(order.getOrderId(), order);
+            }
+            for (UserTradeProcessDto dto : closed) {
+                BinanceOrderDto order = ordersById.get(dto.getOrderId());
+                if (order == null || !isTerminal(order.getStatus())) {
+                    logger.warn("주문 내역에서 종료 상태를 확인할 수 없습니다: orderId={}, status={}",
+                            dto.getOrderId(), order != null ? order.getStatus() : null);
+                    continue;
                 }
+                completeOrder(dto, order.getStatus(), order.getExecutedQty());
             }
-        } catch (BinanceApiException e) {
-            throw new BinanceApiException(e.getMessage());
-        } catch (Exception e) {
-            throw new RuntimeException(e);
         }
     }
-}
 
+    /**
+     * 제한 시간 내에 체결되지 않은 주문을 취소합니다.
+     *
+     * @return 취소된 주문 정보, 취소되지 않았으면 null (다음 보정 주기에 다시 확인)
+     */
+    private BinanceOrderDto cancelTimedOutOrder(UserTradeProcessDto userTradeProcessDto, String accesskey, String secretKey) {
+        String symbol = userTradeProcessDto.getSymbol();
+        BigInteger orderId = userTradeProcessDto.getOrderId();
+
+        logger.info("주문 미체결 상태, 주문 취소 요청 진행: 심볼={}, orderId={}", symbol, orderId);
+        BinanceOrderDto canceled = binanceService.orderCancelAsync(symbol, orderId, accesskey, secretKey).block();
+        logger.info("주문 취소 응답: {}", canceled.getStatus());
+
+        if (!isTerminal(canceled.getStatus())) {
+            logger.warn("주문 취소 실패 또는 다른 상태: {}", canceled.getStatus());
+            return null;
+        }
+        return canceled;
+    }
 
+    private boolean isTerminal(String status) {
+        return "FILLED".equals(status) || "CANCELED".equals(status) || "EXPIRED".equals(status);
+    }
 
+    private record PendingOrderUpdate(String emailPk, BinanceOrderUpdateDto update, long receivedAt) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.autotradebot.util;
+
+import javax.crypto.Mac;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 바이낸스 요청용 쿼리 스트링 빌더
+ * <p>
+ * 파라미터는 추가한 순서대로 직렬화되므로 서명 대상 문자열과 실제 전송 문자열의 순서가 항상 같습니다.
+ * 서명 시에는 중간 String을 만들지 않고 내부 버퍼를 ASCII 바이트로 옮겨 Mac에 바로 전달합니다.
+ * <p>
+ * {@link #acquire()}로 빌린 인스턴스는 문자/바이트 버퍼를 재사용하며, 사용이 끝나면 {@link #release()}로 반납합니다.
+ * (새로 만드는 것은 최종 쿼리 문자열뿐입니다.) 풀은 스레드에 묶이지 않은 공용 큐이므로 가상 스레드에서도
+ * 인스턴스가 스레드 수만큼 늘어나지 않습니다. 빌린 인스턴스는 반납 전까지 한 요청에서만 사용합니다.
+ */
+public final class BinanceQueryBuilder {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int MAX_POOLED_CAPACITY = 4096; // 이보다 커진 버퍼는 풀에 보관하지 않습니다.
+    private static final ArrayBlockingQueue<BinanceQueryBuilder> POOL = new ArrayBlockingQueue<>(256);
+
+    private final StringBuilder buffer;
+    private byte[] bytes;
+
+    public BinanceQueryBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BinanceQueryBuilder(int capacity) {
+        this.buffer = new StringBuilder(capacity);
+    }
+
+    /**
+     * 풀에서 비어 있는 빌더를 빌립니다. (풀이 비어 있으면 새로 만듭니다.)
+     */
+    public static BinanceQueryBuilder acquire() {
+        BinanceQueryBuilder builder = POOL.poll();
+        return builder != null ? builder : new BinanceQueryBuilder();
+    }
+
+    /**
+     * 버퍼를 비우고 풀에 반납합니다. 반납한 뒤에는 이 인스턴스를 사용하지 않습니다.
+     */
+    public void release() {
+        if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        buffer.setLength(0);
+        POOL.offer(this);
+    }
+
+    /**
+     * key=value 파라미터를 추가합니다. value가 null이면 추가하지 않습니다.
+     * BigDecimal은 지수 표기(1E-7) 없이 toPlainString() 형태로 직렬화합니다.
+     */
+    public BinanceQueryBuilder add(String key, Object value) {
+        if (value == null) {
+            return this;
+        }
+        if (buffer.length() > 0) {
+            buffer.append('&');
+        }
+        buffer.append(key).append('=');
+        if (value instanceof Long longValue) {
+            buffer.append(longValue.longValue());
+        } else if (value instanceof Integer intValue) {
+            buffer.append(intValue.intValue());
+        } else if (value instanceof BigDecimal decimal) {
+            buffer.append(decimal.toPlainString());
+        } else {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return buffer.length() == 0;
+    }
+
+    /**
+     * 현재까지 추가된 파라미터를 HMAC에 입력합니다.
+     * 쿼리 파라미터는 ASCII 문자로만 구성되므로 문자를 바이트로 직접 옮기고,
+     * ASCII가 아닌 문자가 있으면 UTF-8 인코딩으로 처리합니다.
+     */
+    public void updateMac(Mac mac) {
+        int length = buffer.length();
+        if (bytes == null || bytes.length < length) {
+            bytes = new byte[Math.max(length, DEFAULT_CAPACITY)];
+        }
+        for (int i = 0; i < length; i++) {
+            char c = buffer.charAt(i);
+            if (c > 0x7F) {
+                mac.update(buffer.toString().getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            bytes[i] = (byte) c;
+        }
+        mac.update(bytes, 0, length);
+    }
+
+    public String toQueryString() {
+        return buffer.toString();
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.autotradebot.util;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 실행 수를 제한하는 가상 스레드 실행기
+ * <p>
+ * 작업마다 가상 스레드를 만들고, 세마포어로 동시에 실행되는 작업 수를 maxConcurrency로 제한합니다.
+ * 한도를 넘은 작업은 가상 스레드 상태로 대기하며(캐리어 스레드를 점유하지 않음), 대기 작업이 maxQueued를 넘으면 거절합니다.
+ */
+public class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final int maxQueued;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param threadNamePrefix 가상 스레드 이름 접두사
+     * @param maxConcurrency   동시에 실행할 최대 작업 수
+     * @param maxQueued        실행 대기 최대 작업 수 (초과 시 RejectedExecutionException)
+     */
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int maxQueued) {
+        this.delegate = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("가상 스레드 실행 대기열 초과 (maxQueued=" + maxQueued + ")");
+        }
+        try {
+            delegate.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            queued.decrementAndGet();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * @return 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    /**
+     * @return 동시 실행 한도로 대기 중인 작업 수
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
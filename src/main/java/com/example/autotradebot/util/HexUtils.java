@@ -0,0 +1,31 @@
+package com.example.autotradebot.util;
+
+/**
+ * 테이블 기반 16진수 인코더
+ * <p>
+ * java.util.Formatter("%02x")는 바이트마다 포맷 파싱과 문자열 생성을 반복하므로,
+ * 서명처럼 자주 호출되는 경로에서는 미리 만든 문자 테이블로 직접 변환합니다.
+ */
+public final class HexUtils {
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private HexUtils() {
+    }
+
+    /**
+     * 바이트 배열을 소문자 16진수 문자열로 변환합니다.
+     *
+     * @param bytes 변환할 바이트 배열
+     * @return 16진수 문자열 (예: {0x0f, 0xa0} → "0fa0")
+     */
+    public static String toHex(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        for (int i = 0, j = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            out[j++] = HEX_CHARS[value >>> 4];
+            out[j++] = HEX_CHARS[value & 0x0F];
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.config.EnvConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.java_websocket.WebSocket;
+import org.java_websocket.drafts.Draft;
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.handshake.ServerHandshakeBuilder;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마켓 스트림 연결 중 추가된 스트림 구독 테스트
+ */
+class BinanceMarketStreamManagerTest {
+
+    private static final BinanceStreamListener NO_OP = new BinanceStreamListener() {
+        @Override
+        public void onMessage(String stream, JsonNode data) {
+        }
+
+        @Override
+        public void onDisconnect(String stream) {
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<String> resourceDescriptors = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private final CountDownLatch handshakeReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseHandshake = new CountDownLatch(1);
+
+    private WebSocketServer server;
+    private BinanceMarketStreamManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        server = new WebSocketServer(new InetSocketAddress("127.0.0.1", 0)) {
+            @Override
+            public ServerHandshakeBuilder onWebsocketHandshakeReceivedAsServer(WebSocket conn, Draft draft,
+                                                                               ClientHandshake request) throws InvalidDataException {
+                // 연결 완료 전에 스트림이 추가되도록 핸드셰이크 응답을 잠시 보류합니다.
+                handshakeReceived.countDown();
+                try {
+                    releaseHandshake.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.onWebsocketHandshakeReceivedAsServer(conn, draft, request);
+            }
+
+            @Override
+            public void onOpen(WebSocket conn, ClientHandshake handshake) {
+                resourceDescriptors.add(handshake.getResourceDescriptor());
+            }
+
+            @Override
+            public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+            }
+
+            @Override
+            public void onMessage(WebSocket conn, String message) {
+                messages.add(message);
+            }
+
+            @Override
+            public void onError(WebSocket conn, Exception ex) {
+            }
+
+            @Override
+            public void onStart() {
+                started.countDown();
+            }
+        };
+        server.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        EnvConfig envConfig = mock(EnvConfig.class);
+        when(envConfig.getBinanceWsEndpoint()).thenReturn("ws://127.0.0.1:" + server.getPort());
+        BinanceConfig binanceConfig = mock(BinanceConfig.class);
+        when(binanceConfig.getBinanceObjectMapper()).thenReturn(objectMapper);
+
+        manager = new BinanceMarketStreamManager(envConfig, binanceConfig, new SimpleMeterRegistry());
+        manager.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        releaseHandshake.countDown();
+        manager.destroy();
+        server.stop(1000);
+    }
+
+    @Test
+    void subscribesStreamsAddedWhileConnecting() throws Exception {
+        manager.subscribe("!markPrice@arr@1s", NO_OP);
+        assertThat(handshakeReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 연결 URL을 만든 뒤, 연결이 열리기 전에 추가된 스트림
+        manager.subscribe("btcusdt@depth@100ms", NO_OP);
+        manager.subscribe("ethusdt@depth@100ms", NO_OP);
+        assertThat(manager.isConnected("btcusdt@depth@100ms")).isFalse();
+        releaseHandshake.countDown();
+
+        String resourceDescriptor = resourceDescriptors.poll(5, TimeUnit.SECONDS);
+        assertThat(resourceDescriptor).contains("!markPrice@arr@1s").doesNotContain("btcusdt@depth@100ms");
+
+        String message = messages.poll(5, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        JsonNode command = objectMapper.readTree(message);
+        assertThat(command.path("method").asText()).isEqualTo("SUBSCRIBE");
+        assertThat(command.path("params").toString())
+                .contains("btcusdt@depth@100ms")
+                .contains("ethusdt@depth@100ms")
+                .doesNotContain("!markPrice@arr@1s");
+        assertThat(manager.isConnected("btcusdt@depth@100ms")).isTrue();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.autotradebot.manager;
+
+import com.example.autotradebot.dto.BinanceOrderBookDto;
+import com.example.autotradebot.service.BinanceService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 호가 동기화(스냅샷 lastUpdateId와 diff 이벤트 U/u/pu 연결) 단위 테스트
+ */
+class BinanceOrderBookManagerTest {
+
+    private static final String SYMBOL = "BTCUSDT";
+    private static final String STREAM = "btcusdt@depth@100ms";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * 스냅샷 요청마다 응답을 직접 보낼 수 있는 sink (요청 순서대로)
+     */
+    private final List<Sinks.One<BinanceOrderBookDto>> snapshotRequests = new ArrayList<>();
+
+    private BinanceOrderBookManager manager;
+    private BinanceOrderBookManager.LocalOrderBook book;
+
+    @BeforeEach
+    void setUp() {
+        BinanceService binanceService = mock(BinanceService.class);
+        when(binanceService.getOrderBookAsync(eq(SYMBOL), anyInt())).thenAnswer(invocation -> {
+            Sinks.One<BinanceOrderBookDto> sink = Sinks.one();
+            snapshotRequests.add(sink);
+            return sink.asMono();
+        });
+        manager = new BinanceOrderBookManager(binanceService, mock(BinanceMarketStreamManager.class),
+                new SimpleMeterRegistry(), 1000, 20);
+        book = manager.track(SYMBOL);
+    }
+
+    @Test
+    void dropsEventsOlderThanSnapshotAndAppliesStraddlingEvent() {
+        book.onMessage(STREAM, event(80, 90, 79, "[[\"100.0\",\"9\"]]", "[]"));
+        book.onMessage(STREAM, event(91, 105, 90, "[[\"99.0\",\"3\"]]", "[]"));
+        assertThat(snapshotRequests).hasSize(1);
+
+        respondSnapshot(0, 100);
+
+        BinanceOrderBookDto local = manager.getLocalOrderBook(SYMBOL);
+        assertThat(local).isNotNull();
+        assertThat(local.getLastUpdateId()).isEqualTo(105);
+        // u(90) < lastUpdateId(100) 인 이벤트는 버려지므로 100.0 수량은 스냅샷 값 그대로입니다.
+        assertThat(quantityAt(local, "100.0")).isEqualByComparingTo("1");
+        assertThat(quantityAt(local, "99.0")).isEqualByComparingTo("3");
+    }
+
+    @Test
+    void resyncsWhenFirstEventDoesNotStraddleSnapshot() {
+        book.onMessage(STREAM, event(110, 120, 109, "[]", "[]"));
+
+        respondSnapshot(0, 100);
+
+        // 첫 이벤트가 U <= lastUpdateId <= u 를 만족하지 않으면 (U=110 > 100) 스냅샷을 다시 받습니다.
+        assertThat(manager.getLocalOrderBook(SYMBOL)).isNull();
+        assertThat(snapshotRequests).hasSize(2);
+
+        respondSnapshot(1, 115);
+
+        BinanceOrderBookDto local = manager.getLocalOrderBook(SYMBOL);
+        assertThat(local).isNotNull();
+        assertThat(local.getLastUpdateId()).isEqualTo(120);
+    }
+
+    @Test
+    void resyncsWhenPreviousUpdateIdDoesNotMatch() {
+        book.onMessage(STREAM, event(95, 105, 94, "[]", "[]"));
+        respondSnapshot(0, 100);
+        book.onMessage(STREAM, event(106, 110, 105, "[]", "[]"));
+        assertThat(manager.getLocalOrderBook(SYMBOL).getLastUpdateId()).isEqualTo(110);
+
+        // pu(115)가 직전 이벤트의 u(110)와 다르면 유실로 보고 다시 동기화합니다.
+        book.onMessage(STREAM, event(116, 120, 115, "[[\"100.0\",\"7\"]]", "[]"));
+
+        assertThat(manager.getLocalOrderBook(SYMBOL)).isNull();
+        assertThat(snapshotRequests).hasSize(2);
+
+        respondSnapshot(1, 118);
+
+        BinanceOrderBookDto local = manager.getLocalOrderBook(SYMBOL);
+        assertThat(local).isNotNull();
+        assertThat(local.getLastUpdateId()).isEqualTo(120);
+        assertThat(quantityAt(local, "100.0")).isEqualByComparingTo("7");
+    }
+
+    @Test
+    void removesLevelsWithZeroQuantity() {
+        book.onMessage(STREAM, event(95, 105, 94, "[]", "[]"));
+        respondSnapshot(0, 100);
+
+        book.onMessage(STREAM, event(106, 110, 105, "[[\"100.0\",\"0\"]]", "[[\"101.0\",\"0.000\"]]"));
+
+        BinanceOrderBookDto local = manager.getLocalOrderBook(SYMBOL);
+        assertThat(local.bidPrice(0)).isEqualByComparingTo("99.5");
+        assertThat(local.askPrice(0)).isEqualByComparingTo("101.5");
+        assertThat(quantityAt(local, "100.0")).isNull();
+    }
+
+    /**
+     * 스냅샷: 매수 100.0(1), 99.5(2) / 매도 101.0(1), 101.5(2)
+     */
+    private void respondSnapshot(int request, long lastUpdateId) {
+        BinanceOrderBookDto snapshot = new BinanceOrderBookDto(lastUpdateId, 0L,
+                decimals("100.0", "99.5"), decimals("1", "2"),
+                decimals("101.0", "101.5"), decimals("1", "2"));
+        snapshotRequests.get(request).tryEmitValue(snapshot);
+    }
+
+    private JsonNode event(long firstId, long finalId, long previousFinalId, String bids, String asks) {
+        try {
+            return objectMapper.readTree("{\"e\":\"depthUpdate\",\"T\":0,\"s\":\"" + SYMBOL + "\""
+                    + ",\"U\":" + firstId + ",\"u\":" + finalId + ",\"pu\":" + previousFinalId
+                    + ",\"b\":" + bids + ",\"a\":" + asks + "}");
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static BigDecimal quantityAt(BinanceOrderBookDto book, String price) {
+        BigDecimal target = new BigDecimal(price);
+        for (int i = 0; i < book.bidCount(); i++) {
+            if (book.getBidPrices()[i].compareTo(target) == 0) {
+                return book.getBidQuantities()[i];
+            }
+        }
+        return null;
+    }
+
+    private static BigDecimal[] decimals(String... values) {
+        BigDecimal[] decimals = new BigDecimal[values.length];
+        for (int i = 0; i < values.length; i++) {
+            decimals[i] = new BigDecimal(values[i]);
+        }
+        return decimals;
+    }
+}
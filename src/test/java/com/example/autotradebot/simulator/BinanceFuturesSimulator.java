@@ -0,0 +1,729 @@
+package com.example.autotradebot.simulator;
+
+import com.example.autotradebot.simulator.SimulatedExchange.Account;
+import com.example.autotradebot.simulator.SimulatorOptions.SymbolSpec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오프라인 부하/지연 측정용 바이낸스 USDⓈ-M 선물 시뮬레이터 (HTTP + WebSocket, 프로세스 내장)
+ * <p>
+ * 봇이 사용하는 REST 엔드포인트(time, exchangeInfo, depth, premiumIndex, account, leverage, order, openOrders,
+ * allOrders, listenKey)와 WebSocket(/stream 결합 스트림의 depth@100ms, !markPrice@arr@1s, /ws/{listenKey} User Data Stream)을
+ * 바이낸스와 같은 형식으로 제공합니다.
+ * <ul>
+ *     <li>응답 지연(기본 + 편차), 5xx 오류, 무응답(타임아웃) 요청을 설정한 비율로 주입합니다.</li>
+ *     <li>IP weight(1분)와 계정 주문 수(10초, 1분)를 집계하여 X-MBX-USED-WEIGHT-1M, X-MBX-ORDER-COUNT-* 헤더를 내려주고,
+ *     한도를 넘으면 429와 Retry-After를 반환합니다.</li>
+ *     <li>서명 요청은 timestamp/recvWindow(-1021)를 검사하며, secretKey와 함께 등록한 계정은 signature(-1022)도 검증합니다.
+ *     등록되지 않은 API Key는 초기 잔고로 계정이 자동 생성됩니다.</li>
+ * </ul>
+ * 봇 전체를 시뮬레이터에 연결하려면 {@link #main(String[])}로 실행한 뒤
+ * BINANCE_API_ENDPOINT=http://127.0.0.1:18080, BINANCE_WS_ENDPOINT=ws://127.0.0.1:18080 으로 봇을 실행합니다. (./gradlew runSimulator)
+ */
+public final class BinanceFuturesSimulator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinanceFuturesSimulator.class);
+
+    private static final long ONE_MINUTE_MS = 60_000L;
+    private static final long TEN_SECONDS_MS = 10_000L;
+    private static final long MARK_PRICE_INTERVAL_MS = 1000L;
+
+    private final SimulatorOptions options;
+    private final SimulatedExchange exchange;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DisposableServer server;
+    private final ScheduledExecutorService marketScheduler;
+
+    private final Set<StreamSession> marketSessions = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<StreamSession>> userSessions = new ConcurrentHashMap<>();   // apiKey → 세션
+    private final Map<String, String> apiKeysByListenKey = new ConcurrentHashMap<>();
+    private final Map<String, String> listenKeysByApiKey = new ConcurrentHashMap<>();
+
+    private final FixedWindow weightWindow = new FixedWindow(ONE_MINUTE_MS);
+    private final Map<String, FixedWindow[]> orderWindows = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+
+    private BinanceFuturesSimulator(SimulatorOptions options) {
+        this.options = options;
+        this.exchange = new SimulatedExchange(options, new UserEventPublisher());
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(options.getPort())
+                .handle(this::handle)
+                .bindNow();
+
+        this.marketScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulator-market");
+            thread.setDaemon(true);
+            return thread;
+        });
+        marketScheduler.scheduleAtFixedRate(this::publishDepth, options.getTickIntervalMs(), options.getTickIntervalMs(), TimeUnit.MILLISECONDS);
+        marketScheduler.scheduleAtFixedRate(this::publishMarkPrices, MARK_PRICE_INTERVAL_MS, MARK_PRICE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    public static BinanceFuturesSimulator start(SimulatorOptions options) {
+        BinanceFuturesSimulator simulator = new BinanceFuturesSimulator(options);
+        logger.info("✅ 바이낸스 선물 시뮬레이터 시작: {}", simulator.httpEndpoint());
+        return simulator;
+    }
+
+    /**
+     * 시뮬레이터를 단독 실행합니다. 설정은 system property("simulator.*")로 지정합니다.
+     */
+    public static void main(String[] args) {
+        SimulatorOptions options = SimulatorOptions.fromSystemProperties();
+        if (options.getPort() == 0) {
+            options.port(18080);
+        }
+        BinanceFuturesSimulator simulator = start(options);
+        logger.info("BINANCE_API_ENDPOINT={} BINANCE_WS_ENDPOINT={}", simulator.httpEndpoint(), simulator.wsEndpoint());
+        simulator.server.onDispose().block();
+    }
+
+    public String httpEndpoint() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    public String wsEndpoint() {
+        return "ws://127.0.0.1:" + server.port();
+    }
+
+    /**
+     * 서명 검증을 하는 계정을 등록합니다.
+     */
+    public void registerAccount(String apiKey, String secretKey, BigDecimal balance) {
+        exchange.registerAccount(apiKey, secretKey, balance);
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    public long getFillCount() {
+        return exchange.fills();
+    }
+
+    @Override
+    public void close() {
+        marketScheduler.shutdownNow();
+        marketSessions.forEach(StreamSession::close);
+        userSessions.values().forEach(sessions -> sessions.forEach(StreamSession::close));
+        server.disposeNow(Duration.ofSeconds(5));
+    }
+
+    // ==================== HTTP ====================
+
+    private Publisher<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        String path = request.fullPath();
+        if ("/stream".equals(path)) {
+            return marketStream(request, response);
+        }
+        if (path.startsWith("/ws/")) {
+            return userStream(path.substring("/ws/".length()), response);
+        }
+
+        requestCount.incrementAndGet();
+        String rawQuery = rawQuery(request.uri());
+        String apiKey = request.requestHeaders().get("X-MBX-APIKEY");
+        HttpMethod method = request.method();
+
+        return request.receive().aggregate().asString().defaultIfEmpty("")
+                .flatMap(body -> {
+                    long latencyMs = latencyMs();
+                    if (ThreadLocalRandom.current().nextDouble() < options.getTimeoutRate()) {
+                        latencyMs = options.getTimeoutMs();
+                    }
+                    long halfLatencyMs = latencyMs / 2;
+                    // 요청 전달 지연 → 처리 → 응답 전달 지연
+                    return Mono.delay(Duration.ofMillis(halfLatencyMs))
+                            .then(Mono.fromCallable(() -> process(method, path, rawQuery, body, apiKey)))
+                            .delayElement(Duration.ofMillis(latencyMs - halfLatencyMs));
+                })
+                .flatMap(reply -> send(response, reply));
+    }
+
+    private Reply process(HttpMethod method, String path, String rawQuery, String body, String apiKey) {
+        Map<String, String> params = new LinkedHashMap<>();
+        new QueryStringDecoder(rawQuery, false).parameters().forEach((key, values) -> params.put(key, values.get(0)));
+        new QueryStringDecoder(body, false).parameters().forEach((key, values) -> params.putIfAbsent(key, values.get(0)));
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        try {
+            Cost cost = cost(method, path, params);
+            long nowMs = System.currentTimeMillis();
+            int usedWeight = weightWindow.add(nowMs, cost.weight(), options.getWeightPerMinute());
+            if (usedWeight < 0) {
+                rateLimitedCount.incrementAndGet();
+                headers.put("Retry-After", String.valueOf(secondsUntil(weightWindow.millisUntilReset(nowMs))));
+                headers.put("X-MBX-USED-WEIGHT-1M", String.valueOf(weightWindow.used(nowMs)));
+                return Reply.error(429, -1003, "Too many requests; current limit of IP is "
+                        + options.getWeightPerMinute() + " requests per minute.", headers);
+            }
+            headers.put("X-MBX-USED-WEIGHT-1M", String.valueOf(usedWeight));
+
+            if (cost.countsOrder() && apiKey != null) {
+                FixedWindow[] windows = orderWindows.computeIfAbsent(apiKey,
+                        key -> new FixedWindow[]{new FixedWindow(TEN_SECONDS_MS), new FixedWindow(ONE_MINUTE_MS)});
+                int count10s = windows[0].add(nowMs, 1, options.getOrdersPer10s());
+                int count1m = count10s < 0 ? -1 : windows[1].add(nowMs, 1, options.getOrdersPerMinute());
+                if (count10s < 0 || count1m < 0) {
+                    rateLimitedCount.incrementAndGet();
+                    FixedWindow exceeded = count10s < 0 ? windows[0] : windows[1];
+                    headers.put("Retry-After", String.valueOf(secondsUntil(exceeded.millisUntilReset(nowMs))));
+                    return Reply.error(429, -1015, "Too many new orders.", headers);
+                }
+                headers.put("X-MBX-ORDER-COUNT-10S", String.valueOf(count10s));
+                headers.put("X-MBX-ORDER-COUNT-1M", String.valueOf(count1m));
+            }
+
+            if (ThreadLocalRandom.current().nextDouble() < options.getErrorRate()) {
+                injectedErrorCount.incrementAndGet();
+                return Reply.error(503, -1001, "Internal error; unable to process your request. Please try again.", headers);
+            }
+            return new Reply(200, dispatch(method, path, params, rawQuery, body, apiKey), headers);
+        } catch (SimulatorException e) {
+            return Reply.error(e.getStatus(), e.getCode(), e.getMessage(), headers);
+        } catch (NumberFormatException e) {
+            return Reply.error(400, -1100, "Illegal characters found in a parameter.", headers);
+        }
+    }
+
+    private Object dispatch(HttpMethod method, String path, Map<String, String> params, String rawQuery, String body,
+                            String apiKey) {
+        String symbol = params.get("symbol");
+        String route = method.name() + " " + path;
+        switch (route) {
+            case "GET /fapi/v1/ping" -> {
+                return Map.of();
+            }
+            case "GET /fapi/v1/time" -> {
+                return Map.of("serverTime", System.currentTimeMillis());
+            }
+            case "GET /fapi/v1/exchangeInfo" -> {
+                return exchangeInfo();
+            }
+            case "GET /fapi/v1/depth" -> {
+                return exchange.depth(symbol, intParam(params, "limit", 500));
+            }
+            case "GET /fapi/v1/premiumIndex" -> {
+                if (symbol != null) {
+                    return premiumIndex(symbol);
+                }
+                List<Map<String, Object>> result = new ArrayList<>();
+                exchange.symbols().forEach(spec -> result.add(premiumIndex(spec.symbol())));
+                return result;
+            }
+            case "POST /fapi/v1/listenKey", "PUT /fapi/v1/listenKey", "DELETE /fapi/v1/listenKey" -> {
+                return listenKey(method, requireApiKey(apiKey));
+            }
+            default -> {
+                // 아래는 서명 요청
+            }
+        }
+
+        Account account = authenticate(apiKey, params, rawQuery, body);
+        return switch (route) {
+            case "GET /fapi/v2/account" -> exchange.accountInfo(account);
+            case "POST /fapi/v1/leverage" -> exchange.changeLeverage(account, symbol, intParam(params, "leverage", 0));
+            case "POST /fapi/v1/order" -> {
+                if (!"LIMIT".equals(params.get("type"))) {
+                    throw SimulatorException.badRequest(-1116, "Invalid orderType.");
+                }
+                yield exchange.placeOrder(account, symbol, params.get("side"), decimalParam(params, "price"),
+                        decimalParam(params, "quantity"), Boolean.parseBoolean(params.get("reduceOnly")),
+                        params.get("newClientOrderId"));
+            }
+            case "GET /fapi/v1/order" -> params.containsKey("origClientOrderId")
+                    ? exchange.getOrder(account, symbol, params.get("origClientOrderId"))
+                    : exchange.getOrder(account, symbol, longParam(params, "orderId"));
+            case "DELETE /fapi/v1/order" -> exchange.cancelOrder(account, symbol, longParam(params, "orderId"));
+            case "GET /fapi/v1/openOrders" -> exchange.openOrders(account, symbol);
+            case "GET /fapi/v1/allOrders" -> exchange.allOrders(account, symbol,
+                    params.containsKey("orderId") ? longParam(params, "orderId") : null,
+                    Math.min(intParam(params, "limit", 500), 1000));
+            default -> throw new SimulatorException(404, -1000, "Unknown endpoint: " + route);
+        };
+    }
+
+    private Mono<Void> send(HttpServerResponse response, Reply reply) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(reply.body());
+        } catch (JsonProcessingException e) {
+            return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR).send();
+        }
+        response.status(reply.status()).header("Content-Type", "application/json");
+        reply.headers().forEach(response::header);
+        return response.sendString(Mono.just(json)).then();
+    }
+
+    private Account authenticate(String apiKey, Map<String, String> params, String rawQuery, String body) {
+        requireApiKey(apiKey);
+        String timestamp = params.get("timestamp");
+        String signature = params.get("signature");
+        if (timestamp == null || signature == null) {
+            throw SimulatorException.badRequest(-1102, "Mandatory parameter 'timestamp' or 'signature' was not sent, was empty/null, or malformed.");
+        }
+        long nowMs = System.currentTimeMillis();
+        long requestTime = Long.parseLong(timestamp);
+        long recvWindow = params.containsKey("recvWindow") ? Long.parseLong(params.get("recvWindow")) : options.getRecvWindowMs();
+        if (requestTime >= nowMs + 1000 || nowMs - requestTime > recvWindow) {
+            throw SimulatorException.badRequest(-1021, "Timestamp for this request is outside of the recvWindow.");
+        }
+
+        Account account = exchange.account(apiKey);
+        if (account.secretKey != null) {
+            String payload = stripSignature(rawQuery) + body;
+            if (!hmacSha256(payload, account.secretKey).equalsIgnoreCase(signature)) {
+                throw SimulatorException.badRequest(-1022, "Signature for this request is not valid.");
+            }
+        }
+        return account;
+    }
+
+    private String requireApiKey(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new SimulatorException(401, -2014, "API-key format invalid.");
+        }
+        return apiKey;
+    }
+
+    private Map<String, Object> listenKey(HttpMethod method, String apiKey) {
+        if (HttpMethod.POST.equals(method)) {
+            String listenKey = listenKeysByApiKey.computeIfAbsent(apiKey, key -> UUID.randomUUID().toString().replace("-", ""));
+            apiKeysByListenKey.put(listenKey, apiKey);
+            return Map.of("listenKey", listenKey);
+        }
+        String listenKey = listenKeysByApiKey.get(apiKey);
+        if (listenKey == null) {
+            throw SimulatorException.badRequest(-1125, "This listenKey does not exist.");
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            listenKeysByApiKey.remove(apiKey);
+            apiKeysByListenKey.remove(listenKey);
+            Set<StreamSession> sessions = userSessions.remove(apiKey);
+            if (sessions != null) {
+                sessions.forEach(StreamSession::close);
+            }
+            return Map.of();
+        }
+        return Map.of("listenKey", listenKey);
+    }
+
+    private Map<String, Object> exchangeInfo() {
+        List<Map<String, Object>> symbols = new ArrayList<>();
+        for (SymbolSpec spec : exchange.symbols()) {
+            List<Map<String, Object>> filters = List.of(
+                    Map.of("filterType", "PRICE_FILTER", "minPrice", SimulatedExchange.plain(spec.tickSize()),
+                            "maxPrice", "10000000", "tickSize", SimulatedExchange.plain(spec.tickSize())),
+                    Map.of("filterType", "LOT_SIZE", "minQty", SimulatedExchange.plain(spec.minQty()),
+                            "maxQty", SimulatedExchange.plain(spec.maxQty()), "stepSize", SimulatedExchange.plain(spec.stepSize())),
+                    Map.of("filterType", "MARKET_LOT_SIZE", "minQty", SimulatedExchange.plain(spec.minQty()),
+                            "maxQty", SimulatedExchange.plain(spec.maxQty()), "stepSize", SimulatedExchange.plain(spec.stepSize())),
+                    Map.of("filterType", "MIN_NOTIONAL", "notional", SimulatedExchange.plain(spec.minNotional())));
+
+            Map<String, Object> symbol = new LinkedHashMap<>();
+            symbol.put("symbol", spec.symbol());
+            symbol.put("status", "TRADING");
+            symbol.put("contractType", "PERPETUAL");
+            symbol.put("quoteAsset", SimulatedExchange.QUOTE_ASSET);
+            symbol.put("pricePrecision", spec.pricePrecision());
+            symbol.put("quantityPrecision", spec.quantityPrecision());
+            symbol.put("filters", filters);
+            symbols.add(symbol);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timezone", "UTC");
+        result.put("serverTime", System.currentTimeMillis());
+        result.put("rateLimits", List.of());
+        result.put("symbols", symbols);
+        return result;
+    }
+
+    private Map<String, Object> premiumIndex(String symbol) {
+        long nowMs = System.currentTimeMillis();
+        String markPrice = SimulatedExchange.plain(exchange.markPrice(symbol));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("symbol", symbol);
+        result.put("markPrice", markPrice);
+        result.put("indexPrice", markPrice);
+        result.put("lastFundingRate", "0.0001");
+        result.put("nextFundingTime", nextFundingTime(nowMs));
+        result.put("time", nowMs);
+        return result;
+    }
+
+    // ==================== WebSocket ====================
+
+    /**
+     * 결합 스트림 (/stream?streams=a/b) — SUBSCRIBE / UNSUBSCRIBE / LIST_SUBSCRIPTIONS 명령을 지원합니다.
+     */
+    private Publisher<Void> marketStream(HttpServerRequest request, HttpServerResponse response) {
+        StreamSession session = new StreamSession();
+        List<String> streams = new QueryStringDecoder(request.uri()).parameters().get("streams");
+        if (streams != null && !streams.isEmpty() && !streams.get(0).isEmpty()) {
+            session.streams.addAll(List.of(streams.get(0).split("/")));
+        }
+        return response.sendWebsocket((inbound, outbound) -> {
+            marketSessions.add(session);
+            inbound.receive().asString()
+                    .doOnNext(command -> onCommand(session, command))
+                    .doFinally(signal -> {
+                        marketSessions.remove(session);
+                        session.close();
+                    })
+                    .subscribe();
+            return outbound.sendString(session.outbound());
+        });
+    }
+
+    /**
+     * User Data Stream (/ws/{listenKey})
+     */
+    private Publisher<Void> userStream(String listenKey, HttpServerResponse response) {
+        String apiKey = apiKeysByListenKey.get(listenKey);
+        if (apiKey == null) {
+            return response.status(HttpResponseStatus.BAD_REQUEST).send();
+        }
+        StreamSession session = new StreamSession();
+        return response.sendWebsocket((inbound, outbound) -> {
+            userSessions.computeIfAbsent(apiKey, key -> ConcurrentHashMap.newKeySet()).add(session);
+            inbound.receive().then()
+                    .doFinally(signal -> {
+                        Set<StreamSession> sessions = userSessions.get(apiKey);
+                        if (sessions != null) {
+                            sessions.remove(session);
+                        }
+                        session.close();
+                    })
+                    .subscribe();
+            return outbound.sendString(session.outbound());
+        });
+    }
+
+    private void onCommand(StreamSession session, String command) {
+        try {
+            JsonNode root = objectMapper.readTree(command);
+            String method = root.path("method").asText();
+            List<String> params = new ArrayList<>();
+            root.path("params").forEach(param -> params.add(param.asText()));
+            Object result = null;
+            switch (method) {
+                case "SUBSCRIBE" -> session.streams.addAll(params);
+                case "UNSUBSCRIBE" -> params.forEach(session.streams::remove);
+                case "LIST_SUBSCRIPTIONS" -> result = new ArrayList<>(session.streams);
+                default -> {
+                    session.send("{\"error\":{\"code\":2,\"msg\":\"Invalid request\"},\"id\":" + root.path("id") + "}");
+                    return;
+                }
+            }
+            Map<String, Object> reply = new LinkedHashMap<>();
+            reply.put("result", result);
+            reply.put("id", root.path("id").asLong());
+            session.send(objectMapper.writeValueAsString(reply));
+        } catch (JsonProcessingException e) {
+            session.send("{\"error\":{\"code\":3,\"msg\":\"Invalid JSON\"}}");
+        }
+    }
+
+    /**
+     * 가격을 움직이고 변경된 호가를 depth@100ms 스트림으로 발행합니다.
+     */
+    private void publishDepth() {
+        try {
+            exchange.tick();
+            for (SymbolSpec spec : exchange.symbols()) {
+                Map<String, Object> event = exchange.drainDepthUpdate(spec.symbol());
+                if (event != null) {
+                    String base = spec.symbol().toLowerCase();
+                    publishMarket(event, base + "@depth@100ms", base + "@depth");
+                }
+            }
+        } catch (Exception e) {
+            logger.error("시뮬레이터 depth 발행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishMarkPrices() {
+        try {
+            long nowMs = System.currentTimeMillis();
+            List<Map<String, Object>> events = new ArrayList<>();
+            for (SymbolSpec spec : exchange.symbols()) {
+                String markPrice = SimulatedExchange.plain(exchange.markPrice(spec.symbol()));
+                Map<String, Object> event = new LinkedHashMap<>();
+                event.put("e", "markPriceUpdate");
+                event.put("E", nowMs);
+                event.put("s", spec.symbol());
+                event.put("p", markPrice);
+                event.put("i", markPrice);
+                event.put("P", markPrice);
+                event.put("r", "0.0001");
+                event.put("T", nextFundingTime(nowMs));
+                events.add(event);
+            }
+            publishMarket(events, "!markPrice@arr@1s", "!markPrice@arr");
+        } catch (Exception e) {
+            logger.error("시뮬레이터 마크 가격 발행 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void publishMarket(Object data, String... streamNames) throws JsonProcessingException {
+        String json = null;
+        for (StreamSession session : marketSessions) {
+            for (String streamName : streamNames) {
+                if (session.streams.contains(streamName)) {
+                    if (json == null) {
+                        json = objectMapper.writeValueAsString(data);
+                    }
+                    session.send("{\"stream\":\"" + streamName + "\",\"data\":" + json + "}");
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * 주문/계정 이벤트를 해당 계정의 User Data Stream으로 발행합니다.
+     */
+    private final class UserEventPublisher implements SimulatedExchange.EventSink {
+
+        @Override
+        public void onOrderUpdate(Account account, Map<String, Object> orderEvent) {
+            publish(account, orderEvent);
+        }
+
+        @Override
+        public void onAccountUpdate(Account account, Map<String, Object> accountEvent) {
+            publish(account, accountEvent);
+        }
+
+        @Override
+        public void onLeverageUpdate(Account account, String symbol, int leverage) {
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("e", "ACCOUNT_CONFIG_UPDATE");
+            event.put("E", System.currentTimeMillis());
+            event.put("T", System.currentTimeMillis());
+            event.put("ac", Map.of("s", symbol, "l", leverage));
+            publish(account, event);
+        }
+
+        private void publish(Account account, Map<String, Object> event) {
+            Set<StreamSession> sessions = userSessions.get(account.apiKey);
+            if (sessions == null || sessions.isEmpty()) {
+                return;
+            }
+            try {
+                String json = objectMapper.writeValueAsString(event);
+                sessions.forEach(session -> session.send(json));
+            } catch (JsonProcessingException e) {
+                logger.error("시뮬레이터 사용자 이벤트 직렬화 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // ==================== 유틸 ====================
+
+    private long latencyMs() {
+        long jitter = options.getLatencyJitterMs() > 0 ? ThreadLocalRandom.current().nextLong(options.getLatencyJitterMs() + 1) : 0L;
+        return options.getLatencyMs() + jitter;
+    }
+
+    /**
+     * 봇의 요청 한도 관리자와 같은 엔드포인트별 weight
+     */
+    private Cost cost(HttpMethod method, String path, Map<String, String> params) {
+        return switch (path) {
+            case "/fapi/v1/order" -> HttpMethod.POST.equals(method) ? new Cost(0, true) : new Cost(1, false);
+            case "/fapi/v1/depth" -> {
+                int limit = intParam(params, "limit", 500);
+                yield new Cost(limit <= 50 ? 2 : limit <= 100 ? 5 : limit <= 500 ? 10 : 20, false);
+            }
+            case "/fapi/v2/account", "/fapi/v1/allOrders" -> new Cost(5, false);
+            case "/fapi/v1/openOrders" -> new Cost(params.containsKey("symbol") ? 1 : 40, false);
+            case "/fapi/v1/premiumIndex" -> new Cost(params.containsKey("symbol") ? 1 : 10, false);
+            default -> new Cost(1, false);
+        };
+    }
+
+    private static String rawQuery(String uri) {
+        int index = uri.indexOf('?');
+        return index < 0 ? "" : uri.substring(index + 1);
+    }
+
+    /**
+     * 서명 대상 문자열 (쿼리에서 signature 파라미터 제외)
+     */
+    private static String stripSignature(String rawQuery) {
+        StringBuilder payload = new StringBuilder(rawQuery.length());
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty() || pair.startsWith("signature=")) {
+                continue;
+            }
+            if (!payload.isEmpty()) {
+                payload.append('&');
+            }
+            payload.append(pair);
+        }
+        return payload.toString();
+    }
+
+    private static String hmacSha256(String payload, String secretKey) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long nextFundingTime(long nowMs) {
+        long interval = TimeUnit.HOURS.toMillis(8);
+        return (nowMs / interval + 1) * interval;
+    }
+
+    private static long secondsUntil(long millis) {
+        return Math.max(1L, (millis + 999) / 1000);
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        String value = params.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static long longParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw SimulatorException.badRequest(-1102, "Mandatory parameter '" + name + "' was not sent, was empty/null, or malformed.");
+        }
+        return Long.parseLong(value);
+    }
+
+    private static BigDecimal decimalParam(Map<String, String> params, String name) {
+        String value = params.get(name);
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    private record Cost(int weight, boolean countsOrder) {
+    }
+
+    private record Reply(int status, Object body, Map<String, String> headers) {
+
+        static Reply error(int status, int code, String message, Map<String, String> headers) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("code", code);
+            body.put("msg", message);
+            return new Reply(status, body, headers);
+        }
+    }
+
+    /**
+     * WebSocket 세션 하나 (여러 스레드에서 보내므로 전송은 직렬화합니다.)
+     */
+    private static final class StreamSession {
+
+        private final Set<String> streams = ConcurrentHashMap.newKeySet();
+        private final Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
+
+        synchronized void send(String message) {
+            sink.tryEmitNext(message);
+        }
+
+        synchronized void close() {
+            sink.tryEmitComplete();
+        }
+
+        reactor.core.publisher.Flux<String> outbound() {
+            return sink.asFlux();
+        }
+    }
+
+    /**
+     * 고정 구간 사용량 카운터 (바이낸스와 같이 분/10초 경계에서 초기화)
+     */
+    private static final class FixedWindow {
+
+        private final long windowMs;
+        private long windowStartMs;
+        private int used;
+
+        FixedWindow(long windowMs) {
+            this.windowMs = windowMs;
+        }
+
+        /**
+         * @return 더한 뒤 사용량, 한도를 넘으면 -1 (사용량은 늘리지 않음)
+         */
+        synchronized int add(long nowMs, int amount, int limit) {
+            roll(nowMs);
+            if (used + amount > limit) {
+                return -1;
+            }
+            used += amount;
+            return used;
+        }
+
+        synchronized int used(long nowMs) {
+            roll(nowMs);
+            return used;
+        }
+
+        synchronized long millisUntilReset(long nowMs) {
+            roll(nowMs);
+            return windowStartMs + windowMs - nowMs;
+        }
+
+        private void roll(long nowMs) {
+            long start = nowMs - (nowMs % windowMs);
+            if (start != windowStartMs) {
+                windowStartMs = start;
+                used = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.autotradebot.simulator;
+
+import com.example.autotradebot.config.BinanceConfig;
+import com.example.autotradebot.config.EnvConfig;
+import com.example.autotradebot.config.ExchangeHttpClientConfig;
+import com.example.autotradebot.dto.BinanceSymbolFilterDto;
+import com.example.autotradebot.enums.TradePosition;
+import com.example.autotradebot.manager.BinanceMarkPriceManager;
+import com.example.autotradebot.manager.BinanceMarketStreamManager;
+import com.example.autotradebot.manager.BinanceOrderBookManager;
+import com.example.autotradebot.manager.BinanceRateLimitManager;
+import com.example.autotradebot.manager.BinanceResilienceManager;
+import com.example.autotradebot.manager.BinanceSignerManager;
+import com.example.autotradebot.manager.BinanceSymbolRegistryManager;
+import com.example.autotradebot.manager.BinanceTimeSyncManager;
+import com.example.autotradebot.service.BinanceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 시뮬레이터를 대상으로 한 바이낸스 연동 부하 테스트
+ * <p>
+ * 실제 WebClient/요청 한도/재시도/서명/스트림 구성 그대로 가상 사용자 N명이
+ * 잔고 조회 → 레버리지 설정 → 호가 조회 → 지정가 주문 → 주문 조회 → 취소를 반복하고,
+ * 처리량과 사용자 흐름/주문 지연(p50, p99, p999)을 출력합니다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest -Dsimulator.users=5000 처럼 실행합니다.
+ */
+@Tag("load")
+class BinanceSimulatorLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BinanceSimulatorLoadTest.class);
+
+    private final int users = Integer.getInteger("simulator.users", 1000);
+    private final int concurrency = Integer.getInteger("simulator.concurrency", 200);
+    private final double maxErrorRatio = Double.parseDouble(System.getProperty("simulator.max-error-ratio", "0.01"));
+
+    private BinanceFuturesSimulator simulator;
+    private ConnectionProvider connectionProvider;
+    private BinanceTimeSyncManager binanceTimeSyncManager;
+    private BinanceMarketStreamManager binanceMarketStreamManager;
+    private BinanceSymbolRegistryManager binanceSymbolRegistryManager;
+    private BinanceOrderBookManager binanceOrderBookManager;
+    private BinanceService binanceService;
+
+    @BeforeEach
+    void setUp() {
+        SimulatorOptions options = SimulatorOptions.fromSystemProperties()
+                // 부하 테스트에서는 IP 한도를 시뮬레이터가 아닌 봇의 요청 한도 관리자가 조절합니다.
+                .weightPerMinute(Integer.getInteger("simulator.weight-per-minute", 1_000_000));
+        simulator = BinanceFuturesSimulator.start(options);
+
+        EnvConfig envConfig = mock(EnvConfig.class);
+        when(envConfig.getBinanceApiEndpoint()).thenReturn(simulator.httpEndpoint());
+        when(envConfig.getBinanceWsEndpoint()).thenReturn(simulator.wsEndpoint());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ExchangeHttpClientConfig httpClientConfig = new ExchangeHttpClientConfig();
+        connectionProvider = httpClientConfig.exchangeConnectionProvider(concurrency, 30000, 300000, 10000, 5000, users * 10);
+        HttpClient httpClient = httpClientConfig.exchangeHttpClient(connectionProvider, 3000, 10000, 10000, 10000);
+        ReactorClientHttpConnector connector = httpClientConfig.exchangeHttpConnector(httpClient);
+
+        BinanceRateLimitManager binanceRateLimitManager = new BinanceRateLimitManager(meterRegistry,
+                Integer.getInteger("simulator.weight-per-minute", 1_000_000), 1_000_000, 1_000_000, users * 10, 60000);
+        BinanceConfig binanceConfig = new BinanceConfig(envConfig, binanceRateLimitManager, 0);
+        WebClient webClient = binanceConfig.binanceApiClient(connector);
+
+        binanceTimeSyncManager = new BinanceTimeSyncManager(webClient, meterRegistry, 30000, 120000);
+        binanceTimeSyncManager.init();
+
+        binanceMarketStreamManager = new BinanceMarketStreamManager(envConfig, binanceConfig, meterRegistry);
+        binanceMarketStreamManager.init();
+        BinanceMarkPriceManager binanceMarkPriceManager = new BinanceMarkPriceManager(binanceMarketStreamManager, meterRegistry, 5000);
+        binanceMarkPriceManager.init();
+
+        BinanceResilienceManager binanceResilienceManager = new BinanceResilienceManager(meterRegistry, 3, 200, 5000, 20, 10, 50, 30000, 3);
+        binanceService = new BinanceService(webClient, binanceTimeSyncManager, new BinanceSignerManager(),
+                binanceMarkPriceManager, binanceResilienceManager);
+
+        binanceSymbolRegistryManager = new BinanceSymbolRegistryManager(binanceService, meterRegistry, 300000);
+        binanceSymbolRegistryManager.init();
+        binanceOrderBookManager = new BinanceOrderBookManager(binanceService, binanceMarketStreamManager, meterRegistry, 1000, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (binanceSymbolRegistryManager != null) {
+            binanceSymbolRegistryManager.destroy();
+        }
+        if (binanceMarketStreamManager != null) {
+            binanceMarketStreamManager.destroy();
+        }
+        if (binanceTimeSyncManager != null) {
+            binanceTimeSyncManager.shutdown();
+        }
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @Test
+    void simulatedUsersTradeThroughTheBinanceStack() {
+        List<String> symbols = List.of("BTCUSDT", "ETHUSDT", "XRPUSDT");
+        symbols.forEach(binanceOrderBookManager::track);
+
+        for (int i = 0; i < users; i++) {
+            simulator.registerAccount(apiKey(i), secretKey(i), new BigDecimal("100000"));
+        }
+
+        long[] flowLatencies = new long[users];
+        long[] orderLatencies = new long[users];
+        AtomicInteger failures = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        Flux.range(0, users)
+                .flatMap(i -> runUser(i, symbols.get(i % symbols.size()), flowLatencies, orderLatencies)
+                        .onErrorResume(e -> {
+                            if (failures.incrementAndGet() <= 10) {
+                                logger.warn("⚠ 가상 사용자 {} 실패: {}", i, e.getMessage());
+                            }
+                            return Mono.empty();
+                        }), concurrency)
+                .then()
+                .block(Duration.ofMinutes(10));
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        int completed = users - failures.get();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        logger.info("✅ 부하 테스트 완료: users={}, concurrency={}, 성공={}, 실패={}, 소요={}s, 처리량={} flow/s ({} req/s)",
+                users, concurrency, completed, failures.get(), String.format("%.2f", seconds),
+                String.format("%.1f", completed / seconds), String.format("%.1f", simulator.getRequestCount() / seconds));
+        logPercentiles("사용자 흐름", flowLatencies);
+        logPercentiles("주문", orderLatencies);
+        logger.info("시뮬레이터: 요청={}, 429={}, 주입 오류={}, 체결={}",
+                simulator.getRequestCount(), simulator.getRateLimitedCount(),
+                simulator.getInjectedErrorCount(), simulator.getFillCount());
+
+        assertThat(failures.get()).isLessThanOrEqualTo((int) Math.floor(users * maxErrorRatio));
+    }
+
+    /**
+     * 가상 사용자 한 명의 거래 흐름
+     * 매수 최우선 호가보다 5틱 아래에 최소 수량 지정가 주문을 내고 조회 후 취소합니다.
+     */
+    private Mono<Void> runUser(int index, String symbol, long[] flowLatencies, long[] orderLatencies) {
+        String apiKey = apiKey(index);
+        String secretKey = secretKey(index);
+        BinanceSymbolFilterDto filter = binanceSymbolRegistryManager.getFilter(symbol);
+
+        return Mono.defer(() -> {
+            long flowStartedAt = System.nanoTime();
+            return binanceService.getAccount(apiKey, secretKey)
+                    .then(binanceService.setLeverage(symbol, BigInteger.valueOf(10), apiKey, secretKey))
+                    .then(binanceOrderBookManager.getOrderBook(symbol, 5))
+                    .flatMap(orderBook -> {
+                        BigDecimal bestBid = orderBook.bidPrice(0);
+                        BigDecimal price = filter.roundPrice(bestBid.subtract(filter.getTickSize().multiply(BigDecimal.valueOf(5))), RoundingMode.FLOOR);
+                        BigDecimal quantity = filter.roundQuantity(filter.getMinNotional()
+                                .divide(price, filter.getQuantityScale(), RoundingMode.CEILING)
+                                .add(filter.getStepSize()));
+
+                        String rejectReason = binanceSymbolRegistryManager.validateOrder(symbol, price, quantity, false);
+                        if (rejectReason != null) {
+                            return Mono.error(new IllegalStateException("사전 검증 실패: " + rejectReason));
+                        }
+
+                        long orderStartedAt = System.nanoTime();
+                        return binanceService.openOrderAsync(symbol, quantity, price, TradePosition.LONG, apiKey, secretKey)
+                                .doOnNext(orderId -> orderLatencies[index] = System.nanoTime() - orderStartedAt);
+                    })
+                    .flatMap(orderId -> binanceService.getOrder(symbol, orderId, apiKey, secretKey)
+                            .then(binanceService.orderCancelAsync(symbol, orderId, apiKey, secretKey)))
+                    .doOnSuccess(ignored -> flowLatencies[index] = System.nanoTime() - flowStartedAt)
+                    .then();
+        });
+    }
+
+    private void logPercentiles(String name, long[] latencies) {
+        long[] sorted = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        if (sorted.length == 0) {
+            return;
+        }
+        logger.info("{} 지연: p50={}ms, p99={}ms, p999={}ms, max={}ms", name,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(percentile(sorted, 0.999)), millis(sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    private static String apiKey(int index) {
+        return "sim-api-key-" + index;
+    }
+
+    private static String secretKey(int index) {
+        return "sim-secret-key-" + index;
+    }
+}
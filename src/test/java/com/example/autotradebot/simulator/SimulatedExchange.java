@@ -0,0 +1,834 @@
+package com.example.autotradebot.simulator;
+
+import com.example.autotradebot.simulator.SimulatorOptions.SymbolSpec;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시뮬레이터 거래소 상태 (심볼별 호가/매칭 엔진, 계정 잔고/포지션/주문)
+ * <p>
+ * 호가는 가상의 시장 조성자가 mid 가격 위아래로 tickSize 간격의 단계마다 일정 수량을 제시하고,
+ * 사용자 지정가 주문은 가격-시간 우선으로 다른 사용자 주문 및 시장 조성자 호가와 체결된 뒤 남은 수량이 대기합니다.
+ * {@link #tick()}마다 mid 가격이 무작위로 움직이고 시장 조성자 수량이 다시 채워지며, 가격이 교차한 대기 주문은 그 시점에 체결됩니다.
+ * <p>
+ * 포지션은 단방향(BOTH) 모드만 지원하며, 잠금 순서는 항상 심볼 호가 → 계정입니다.
+ */
+final class SimulatedExchange {
+
+    static final String QUOTE_ASSET = "USDT";
+    private static final int DEFAULT_LEVERAGE = 20;
+
+    /**
+     * 주문/계정 변경 이벤트 수신 (User Data Stream 발행용)
+     * 호가 잠금을 잡은 상태에서 호출되므로 블로킹 작업을 하면 안 됩니다.
+     */
+    interface EventSink {
+        void onOrderUpdate(Account account, Map<String, Object> orderEvent);
+
+        void onAccountUpdate(Account account, Map<String, Object> accountEvent);
+
+        void onLeverageUpdate(Account account, String symbol, int leverage);
+    }
+
+    private final SimulatorOptions options;
+    private final EventSink sink;
+    private final Map<String, Book> books = new LinkedHashMap<>();
+    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final AtomicLong orderIds = new AtomicLong(1_000_000L);
+    private final AtomicLong fillCount = new AtomicLong();
+
+    SimulatedExchange(SimulatorOptions options, EventSink sink) {
+        this.options = options;
+        this.sink = sink;
+        for (SymbolSpec spec : options.getSymbols().values()) {
+            books.put(spec.symbol(), new Book(spec));
+        }
+    }
+
+    Collection<SymbolSpec> symbols() {
+        return options.getSymbols().values();
+    }
+
+    boolean hasSymbol(String symbol) {
+        return books.containsKey(symbol);
+    }
+
+    long fills() {
+        return fillCount.get();
+    }
+
+    /**
+     * 계정을 등록합니다. secretKey를 지정하면 서명 요청의 signature를 검증합니다.
+     */
+    Account registerAccount(String apiKey, String secretKey, BigDecimal balance) {
+        Account account = new Account(apiKey, secretKey, balance);
+        accounts.put(apiKey, account);
+        return account;
+    }
+
+    /**
+     * 등록되지 않은 API Key는 초기 잔고로 계정을 자동 생성합니다. (DB에 등록된 임의의 키로 봇을 실행할 수 있도록)
+     */
+    Account account(String apiKey) {
+        return accounts.computeIfAbsent(apiKey, key -> new Account(key, null, options.getInitialBalance()));
+    }
+
+    // ==================== 시세 ====================
+
+    BigDecimal markPrice(String symbol) {
+        Book book = book(symbol);
+        synchronized (book) {
+            return book.mid;
+        }
+    }
+
+    /**
+     * 호가 스냅샷 (GET /fapi/v1/depth)
+     */
+    Map<String, Object> depth(String symbol, int limit) {
+        Book book = book(symbol);
+        synchronized (book) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("lastUpdateId", book.updateId);
+            result.put("E", System.currentTimeMillis());
+            result.put("T", book.transactTime);
+            result.put("bids", book.levels(true, limit));
+            result.put("asks", book.levels(false, limit));
+            return result;
+        }
+    }
+
+    /**
+     * 마지막 발행 이후 변경된 호가 단계를 depthUpdate 이벤트로 만듭니다. 변경이 없으면 null
+     */
+    Map<String, Object> drainDepthUpdate(String symbol) {
+        Book book = book(symbol);
+        synchronized (book) {
+            if (book.updateId == book.publishedId) {
+                return null;
+            }
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("e", "depthUpdate");
+            event.put("E", System.currentTimeMillis());
+            event.put("T", book.transactTime);
+            event.put("s", symbol);
+            event.put("U", book.publishedId + 1);
+            event.put("u", book.updateId);
+            event.put("pu", book.publishedId);
+            event.put("b", book.dirtyLevels(true));
+            event.put("a", book.dirtyLevels(false));
+            book.publishedId = book.updateId;
+            book.dirtyBids.clear();
+            book.dirtyAsks.clear();
+            return event;
+        }
+    }
+
+    /**
+     * 모든 심볼의 mid 가격을 움직이고 시장 조성자 수량을 다시 채운 뒤, 교차한 대기 주문을 체결합니다.
+     */
+    void tick() {
+        for (Book book : books.values()) {
+            synchronized (book) {
+                book.move(ThreadLocalRandom.current().nextInt(-options.getVolatilityTicks(), options.getVolatilityTicks() + 1));
+                book.matchResting();
+            }
+        }
+    }
+
+    // ==================== 주문 ====================
+
+    /**
+     * 지정가(GTC) 주문을 접수합니다.
+     *
+     * @throws SimulatorException 필터 위반, 증거금 부족, reduceOnly 위반 등
+     */
+    Map<String, Object> placeOrder(Account account, String symbol, String side, BigDecimal price, BigDecimal quantity,
+                                   boolean reduceOnly, String clientOrderId) {
+        Book book = book(symbol);
+        SymbolSpec spec = book.spec;
+        if (!"BUY".equals(side) && !"SELL".equals(side)) {
+            throw SimulatorException.badRequest(-1117, "Invalid side.");
+        }
+        if (price == null || quantity == null) {
+            throw SimulatorException.badRequest(-1102, "Mandatory parameter 'price' or 'quantity' was not sent, was empty/null, or malformed.");
+        }
+        if (price.scale() > spec.pricePrecision() || quantity.stripTrailingZeros().scale() > spec.quantityPrecision()) {
+            throw SimulatorException.badRequest(-1111, "Precision is over the maximum defined for this asset.");
+        }
+        if (price.signum() <= 0 || price.remainder(spec.tickSize()).signum() != 0) {
+            throw SimulatorException.badRequest(-4014, "Price not increased by tick size.");
+        }
+        if (quantity.remainder(spec.stepSize()).signum() != 0) {
+            throw SimulatorException.badRequest(-1111, "Precision is over the maximum defined for this asset.");
+        }
+        if (quantity.compareTo(spec.minQty()) < 0) {
+            throw SimulatorException.badRequest(-4003, "Quantity less than or equal to zero.");
+        }
+        if (quantity.compareTo(spec.maxQty()) > 0) {
+            throw SimulatorException.badRequest(-4005, "Quantity greater than max quantity.");
+        }
+        if (!reduceOnly && price.multiply(quantity).compareTo(spec.minNotional()) < 0) {
+            throw SimulatorException.badRequest(-4164, "Order's notional must be no smaller than "
+                    + spec.minNotional().toPlainString() + " (unless you choose reduce only).");
+        }
+
+        synchronized (book) {
+            Order order;
+            synchronized (account) {
+                if (reduceOnly) {
+                    BigDecimal amount = account.position(symbol).amount;
+                    boolean reduces = "BUY".equals(side) ? amount.signum() < 0 : amount.signum() > 0;
+                    if (!reduces) {
+                        throw SimulatorException.badRequest(-2022, "ReduceOnly Order is rejected.");
+                    }
+                } else {
+                    BigDecimal required = price.multiply(quantity)
+                            .divide(BigDecimal.valueOf(account.leverage(symbol)), 8, RoundingMode.UP);
+                    if (required.compareTo(account.availableBalance()) > 0) {
+                        throw SimulatorException.badRequest(-2019, "Margin is insufficient.");
+                    }
+                }
+                long orderId = orderIds.incrementAndGet();
+                order = new Order(orderId, symbol, clientOrderId != null ? clientOrderId : "sim-" + orderId,
+                        side, price, quantity, reduceOnly, account);
+                account.openOrders.put(orderId, order);
+                account.history.add(order);
+            }
+            orders.put(order.orderId, order);
+            sink.onOrderUpdate(account, orderEvent(order, "NEW", BigDecimal.ZERO, BigDecimal.ZERO));
+
+            book.match(order);
+            if (order.remaining().signum() > 0) {
+                book.rest(order);
+            }
+            return orderJson(order);
+        }
+    }
+
+    Map<String, Object> getOrder(Account account, String symbol, long orderId) {
+        Order order = findOrder(account, symbol, orderId);
+        synchronized (book(symbol)) {
+            return orderJson(order);
+        }
+    }
+
+    /**
+     * 클라이언트 주문 ID로 주문을 조회합니다. (같은 ID가 여러 번 쓰였으면 가장 최근 주문)
+     */
+    Map<String, Object> getOrder(Account account, String symbol, String clientOrderId) {
+        Book book = book(symbol);
+        Order found = null;
+        synchronized (account) {
+            for (Order order : account.history) {
+                if (order.symbol.equals(symbol) && order.clientOrderId.equals(clientOrderId)) {
+                    found = order;
+                }
+            }
+        }
+        if (found == null) {
+            throw SimulatorException.badRequest(-2013, "Order does not exist.");
+        }
+        synchronized (book) {
+            return orderJson(found);
+        }
+    }
+
+    Map<String, Object> cancelOrder(Account account, String symbol, long orderId) {
+        Order order = findOrder(account, symbol, orderId);
+        Book book = book(symbol);
+        synchronized (book) {
+            if (order.isClosed()) {
+                throw SimulatorException.badRequest(-2011, "Unknown order sent.");
+            }
+            book.remove(order);
+            order.status = "CANCELED";
+            order.updateTime = System.currentTimeMillis();
+            synchronized (account) {
+                account.openOrders.remove(order.orderId);
+            }
+            sink.onOrderUpdate(account, orderEvent(order, "CANCELED", BigDecimal.ZERO, BigDecimal.ZERO));
+            return orderJson(order);
+        }
+    }
+
+    List<Map<String, Object>> openOrders(Account account, String symbol) {
+        List<Order> open;
+        synchronized (account) {
+            open = new ArrayList<>(account.openOrders.values());
+        }
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Order order : open) {
+            if (symbol == null || symbol.equals(order.symbol)) {
+                synchronized (book(order.symbol)) {
+                    result.add(orderJson(order));
+                }
+            }
+        }
+        return result;
+    }
+
+    List<Map<String, Object>> allOrders(Account account, String symbol, Long fromOrderId, int limit) {
+        List<Order> history;
+        synchronized (account) {
+            history = new ArrayList<>(account.history);
+        }
+        List<Map<String, Object>> result = new ArrayList<>();
+        synchronized (book(symbol)) {
+            for (Order order : history) {
+                if (symbol.equals(order.symbol) && (fromOrderId == null || order.orderId >= fromOrderId)) {
+                    result.add(orderJson(order));
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    // ==================== 계정 ====================
+
+    Map<String, Object> changeLeverage(Account account, String symbol, int leverage) {
+        book(symbol);
+        if (leverage < 1 || leverage > 125) {
+            throw SimulatorException.badRequest(-4028, "Leverage " + leverage + " is not valid");
+        }
+        synchronized (account) {
+            account.leverages.put(symbol, leverage);
+        }
+        sink.onLeverageUpdate(account, symbol, leverage);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("leverage", leverage);
+        result.put("maxNotionalValue", "1000000");
+        result.put("symbol", symbol);
+        return result;
+    }
+
+    /**
+     * 계정 정보 (GET /fapi/v2/account)
+     */
+    Map<String, Object> accountInfo(Account account) {
+        synchronized (account) {
+            Map<String, Object> asset = new LinkedHashMap<>();
+            asset.put("asset", QUOTE_ASSET);
+            asset.put("walletBalance", plain(account.walletBalance));
+            asset.put("availableBalance", plain(account.availableBalance()));
+            asset.put("unrealizedProfit", "0");
+
+            List<Map<String, Object>> positions = new ArrayList<>();
+            for (String symbol : books.keySet()) {
+                Position position = account.position(symbol);
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("symbol", symbol);
+                item.put("positionAmt", plain(position.amount));
+                item.put("entryPrice", plain(position.entryPrice));
+                item.put("leverage", String.valueOf(account.leverage(symbol)));
+                item.put("positionSide", "BOTH");
+                item.put("unrealizedProfit", "0");
+                positions.add(item);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("totalWalletBalance", plain(account.walletBalance));
+            result.put("availableBalance", plain(account.availableBalance()));
+            result.put("assets", List.of(asset));
+            result.put("positions", positions);
+            return result;
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private Book book(String symbol) {
+        Book book = symbol != null ? books.get(symbol) : null;
+        if (book == null) {
+            throw SimulatorException.badRequest(-1121, "Invalid symbol.");
+        }
+        return book;
+    }
+
+    private Order findOrder(Account account, String symbol, long orderId) {
+        book(symbol);
+        Order order = orders.get(orderId);
+        if (order == null || order.account != account || !order.symbol.equals(symbol)) {
+            throw SimulatorException.badRequest(-2013, "Order does not exist.");
+        }
+        return order;
+    }
+
+    /**
+     * 체결을 반영합니다. (호가 잠금 안에서 호출)
+     */
+    private void fill(Order order, BigDecimal quantity, BigDecimal price) {
+        order.executedQty = order.executedQty.add(quantity);
+        order.cumQuote = order.cumQuote.add(quantity.multiply(price));
+        order.status = order.remaining().signum() == 0 ? "FILLED" : "PARTIALLY_FILLED";
+        order.updateTime = System.currentTimeMillis();
+        fillCount.incrementAndGet();
+
+        Account account = order.account;
+        Map<String, Object> accountEvent;
+        synchronized (account) {
+            account.applyFill(order.symbol, order.isBuy(), quantity, price, options.getFeeRate());
+            if (order.isClosed()) {
+                account.openOrders.remove(order.orderId);
+            }
+            accountEvent = accountEvent(account, order.symbol);
+        }
+        sink.onOrderUpdate(account, orderEvent(order, "TRADE", quantity, price));
+        sink.onAccountUpdate(account, accountEvent);
+    }
+
+    private Map<String, Object> orderJson(Order order) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("orderId", order.orderId);
+        result.put("symbol", order.symbol);
+        result.put("status", order.status);
+        result.put("clientOrderId", order.clientOrderId);
+        result.put("price", plain(order.price));
+        result.put("avgPrice", plain(order.avgPrice()));
+        result.put("origQty", plain(order.origQty));
+        result.put("executedQty", plain(order.executedQty));
+        result.put("cumQuote", plain(order.cumQuote));
+        result.put("timeInForce", "GTC");
+        result.put("type", "LIMIT");
+        result.put("reduceOnly", order.reduceOnly);
+        result.put("side", order.side);
+        result.put("positionSide", "BOTH");
+        result.put("time", order.time);
+        result.put("updateTime", order.updateTime);
+        return result;
+    }
+
+    private Map<String, Object> orderEvent(Order order, String executionType, BigDecimal lastQty, BigDecimal lastPrice) {
+        Map<String, Object> o = new LinkedHashMap<>();
+        o.put("s", order.symbol);
+        o.put("c", order.clientOrderId);
+        o.put("S", order.side);
+        o.put("o", "LIMIT");
+        o.put("f", "GTC");
+        o.put("q", plain(order.origQty));
+        o.put("p", plain(order.price));
+        o.put("ap", plain(order.avgPrice()));
+        o.put("x", executionType);
+        o.put("X", order.status);
+        o.put("i", order.orderId);
+        o.put("l", plain(lastQty));
+        o.put("z", plain(order.executedQty));
+        o.put("L", plain(lastPrice));
+        o.put("T", order.updateTime);
+        o.put("R", order.reduceOnly);
+        o.put("ps", "BOTH");
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("e", "ORDER_TRADE_UPDATE");
+        event.put("E", System.currentTimeMillis());
+        event.put("T", order.updateTime);
+        event.put("o", o);
+        return event;
+    }
+
+    private Map<String, Object> accountEvent(Account account, String symbol) {
+        Position position = account.position(symbol);
+        Map<String, Object> balance = new LinkedHashMap<>();
+        balance.put("a", QUOTE_ASSET);
+        balance.put("wb", plain(account.walletBalance));
+        balance.put("cw", plain(account.walletBalance));
+        balance.put("bc", "0");
+        Map<String, Object> positionItem = new LinkedHashMap<>();
+        positionItem.put("s", symbol);
+        positionItem.put("pa", plain(position.amount));
+        positionItem.put("ep", plain(position.entryPrice));
+        positionItem.put("up", "0");
+        positionItem.put("ps", "BOTH");
+
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("m", "ORDER");
+        a.put("B", List.of(balance));
+        a.put("P", List.of(positionItem));
+
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("e", "ACCOUNT_UPDATE");
+        event.put("E", System.currentTimeMillis());
+        event.put("T", System.currentTimeMillis());
+        event.put("a", a);
+        return event;
+    }
+
+    static String plain(BigDecimal value) {
+        return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * 심볼 하나의 호가와 매칭 엔진
+     */
+    private final class Book {
+
+        private final SymbolSpec spec;
+        private final TreeMap<BigDecimal, ArrayDeque<Order>> bids = new TreeMap<>(Comparator.reverseOrder());
+        private final TreeMap<BigDecimal, ArrayDeque<Order>> asks = new TreeMap<>();
+        private final Map<BigDecimal, BigDecimal> marketMakerConsumed = new HashMap<>();
+        private final Set<BigDecimal> dirtyBids = new HashSet<>();
+        private final Set<BigDecimal> dirtyAsks = new HashSet<>();
+
+        private BigDecimal mid;
+        private long updateId = 1L;
+        private long publishedId = 1L;
+        private long transactTime = System.currentTimeMillis();
+
+        Book(SymbolSpec spec) {
+            this.spec = spec;
+            this.mid = spec.initialPrice().divide(spec.tickSize(), 0, RoundingMode.HALF_UP).multiply(spec.tickSize());
+        }
+
+        /**
+         * mid 가격을 ticks만큼 움직이고 시장 조성자 수량을 다시 채웁니다.
+         */
+        void move(int ticks) {
+            marketMakerConsumed.keySet().forEach(price -> markDirty(price, price.compareTo(mid) < 0));
+            marketMakerConsumed.clear();
+            if (ticks == 0) {
+                return;
+            }
+            BigDecimal floor = spec.tickSize().multiply(BigDecimal.valueOf(options.getMarketMakerLevels() + 1L));
+            BigDecimal next = mid.add(spec.tickSize().multiply(BigDecimal.valueOf(ticks)));
+            if (next.compareTo(floor) <= 0) {
+                return;
+            }
+            markMarketMakerLevels();
+            mid = next;
+            markMarketMakerLevels();
+        }
+
+        /**
+         * 가격 이동으로 시장 조성자 호가와 교차한 대기 주문을 대기 주문 가격으로 체결합니다.
+         */
+        void matchResting() {
+            while (!bids.isEmpty()) {
+                BigDecimal bestAsk = marketMakerBest(false);
+                BigDecimal bidPrice = bids.firstKey();
+                if (bestAsk == null || bidPrice.compareTo(bestAsk) < 0) {
+                    break;
+                }
+                fillRestingAgainstMarketMaker(bids, bidPrice, bestAsk, false);
+            }
+            while (!asks.isEmpty()) {
+                BigDecimal bestBid = marketMakerBest(true);
+                BigDecimal askPrice = asks.firstKey();
+                if (bestBid == null || askPrice.compareTo(bestBid) > 0) {
+                    break;
+                }
+                fillRestingAgainstMarketMaker(asks, askPrice, bestBid, true);
+            }
+        }
+
+        private void fillRestingAgainstMarketMaker(TreeMap<BigDecimal, ArrayDeque<Order>> side, BigDecimal price,
+                                                   BigDecimal marketMakerPrice, boolean marketMakerBid) {
+            ArrayDeque<Order> queue = side.get(price);
+            Order maker = queue.peekFirst();
+            BigDecimal quantity = maker.remaining().min(marketMakerRemaining(marketMakerPrice, marketMakerBid));
+            consumeMarketMaker(marketMakerPrice, quantity, marketMakerBid);
+            fill(maker, quantity, price);
+            if (maker.isClosed()) {
+                queue.pollFirst();
+                if (queue.isEmpty()) {
+                    side.remove(price);
+                }
+            }
+            markDirty(price, maker.isBuy());
+        }
+
+        /**
+         * 신규 주문을 반대편 사용자 주문(가격-시간 우선)과 시장 조성자 호가에 체결합니다.
+         */
+        void match(Order taker) {
+            boolean buy = taker.isBuy();
+            TreeMap<BigDecimal, ArrayDeque<Order>> opposite = buy ? asks : bids;
+            while (taker.remaining().signum() > 0) {
+                BigDecimal userBest = opposite.isEmpty() ? null : opposite.firstKey();
+                BigDecimal marketMakerBest = marketMakerBest(!buy);
+                BigDecimal best = better(userBest, marketMakerBest, buy);
+                if (best == null || (buy ? best.compareTo(taker.price) > 0 : best.compareTo(taker.price) < 0)) {
+                    return;
+                }
+
+                if (best.equals(userBest)) {
+                    ArrayDeque<Order> queue = opposite.get(best);
+                    Order maker = queue.peekFirst();
+                    BigDecimal quantity = taker.remaining().min(maker.remaining());
+                    fill(maker, quantity, best);
+                    fill(taker, quantity, best);
+                    if (maker.isClosed()) {
+                        queue.pollFirst();
+                        if (queue.isEmpty()) {
+                            opposite.remove(best);
+                        }
+                    }
+                } else {
+                    BigDecimal quantity = taker.remaining().min(marketMakerRemaining(best, !buy));
+                    consumeMarketMaker(best, quantity, !buy);
+                    fill(taker, quantity, best);
+                }
+                markDirty(best, !buy);
+            }
+        }
+
+        void rest(Order order) {
+            (order.isBuy() ? bids : asks).computeIfAbsent(order.price, price -> new ArrayDeque<>()).addLast(order);
+            markDirty(order.price, order.isBuy());
+        }
+
+        void remove(Order order) {
+            TreeMap<BigDecimal, ArrayDeque<Order>> side = order.isBuy() ? bids : asks;
+            ArrayDeque<Order> queue = side.get(order.price);
+            if (queue != null) {
+                queue.remove(order);
+                if (queue.isEmpty()) {
+                    side.remove(order.price);
+                }
+            }
+            markDirty(order.price, order.isBuy());
+        }
+
+        /**
+         * @return 사용자 주문과 시장 조성자 수량을 합친 상위 호가 ([[가격, 수량], ...])
+         */
+        List<List<String>> levels(boolean bid, int limit) {
+            TreeSet<BigDecimal> prices = new TreeSet<>(bid ? Comparator.reverseOrder() : Comparator.naturalOrder());
+            prices.addAll((bid ? bids : asks).keySet());
+            for (int level = 1; level <= options.getMarketMakerLevels(); level++) {
+                BigDecimal price = marketMakerPrice(level, bid);
+                if (marketMakerRemaining(price, bid).signum() > 0) {
+                    prices.add(price);
+                }
+            }
+            List<List<String>> result = new ArrayList<>();
+            Iterator<BigDecimal> iterator = prices.iterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                BigDecimal price = iterator.next();
+                result.add(List.of(plain(price), plain(quantityAt(price, bid))));
+            }
+            return result;
+        }
+
+        List<List<String>> dirtyLevels(boolean bid) {
+            List<List<String>> result = new ArrayList<>();
+            for (BigDecimal price : bid ? dirtyBids : dirtyAsks) {
+                result.add(List.of(plain(price), plain(quantityAt(price, bid))));
+            }
+            return result;
+        }
+
+        private BigDecimal quantityAt(BigDecimal price, boolean bid) {
+            BigDecimal quantity = marketMakerRemaining(price, bid);
+            ArrayDeque<Order> queue = (bid ? bids : asks).get(price);
+            if (queue != null) {
+                for (Order order : queue) {
+                    quantity = quantity.add(order.remaining());
+                }
+            }
+            return quantity;
+        }
+
+        private BigDecimal marketMakerPrice(int level, boolean bid) {
+            BigDecimal offset = spec.tickSize().multiply(BigDecimal.valueOf(level));
+            return bid ? mid.subtract(offset) : mid.add(offset);
+        }
+
+        private BigDecimal marketMakerBest(boolean bid) {
+            for (int level = 1; level <= options.getMarketMakerLevels(); level++) {
+                BigDecimal price = marketMakerPrice(level, bid);
+                if (marketMakerRemaining(price, bid).signum() > 0) {
+                    return price;
+                }
+            }
+            return null;
+        }
+
+        private BigDecimal marketMakerRemaining(BigDecimal price, boolean bid) {
+            int level = price.subtract(mid).divide(spec.tickSize(), 0, RoundingMode.UNNECESSARY).intValue();
+            if (bid) {
+                level = -level;
+            }
+            if (level < 1 || level > options.getMarketMakerLevels()) {
+                return BigDecimal.ZERO;
+            }
+            return options.getMarketMakerQty().subtract(marketMakerConsumed.getOrDefault(price, BigDecimal.ZERO)).max(BigDecimal.ZERO);
+        }
+
+        private void consumeMarketMaker(BigDecimal price, BigDecimal quantity, boolean bid) {
+            marketMakerConsumed.merge(price, quantity, BigDecimal::add);
+            markDirty(price, bid);
+        }
+
+        private void markMarketMakerLevels() {
+            for (int level = 1; level <= options.getMarketMakerLevels(); level++) {
+                markDirty(marketMakerPrice(level, true), true);
+                markDirty(marketMakerPrice(level, false), false);
+            }
+        }
+
+        private void markDirty(BigDecimal price, boolean bid) {
+            (bid ? dirtyBids : dirtyAsks).add(price);
+            updateId++;
+            transactTime = System.currentTimeMillis();
+        }
+
+        private BigDecimal better(BigDecimal user, BigDecimal marketMaker, boolean buy) {
+            if (user == null || marketMaker == null) {
+                return user != null ? user : marketMaker;
+            }
+            int compare = user.compareTo(marketMaker);
+            // 같은 가격이면 사용자 주문을 먼저 체결합니다.
+            return (buy ? compare <= 0 : compare >= 0) ? user : marketMaker;
+        }
+    }
+
+    /**
+     * 시뮬레이터 계정 (잠금: synchronized(account))
+     */
+    static final class Account {
+
+        final String apiKey;
+        final String secretKey;   // null이면 signature를 검증하지 않습니다.
+        BigDecimal walletBalance;
+        final Map<String, Position> positions = new HashMap<>();
+        final Map<String, Integer> leverages = new HashMap<>();
+        final Map<Long, Order> openOrders = new LinkedHashMap<>();
+        final List<Order> history = new ArrayList<>();
+
+        Account(String apiKey, String secretKey, BigDecimal walletBalance) {
+            this.apiKey = apiKey;
+            this.secretKey = secretKey;
+            this.walletBalance = walletBalance;
+        }
+
+        Position position(String symbol) {
+            return positions.computeIfAbsent(symbol, key -> new Position());
+        }
+
+        int leverage(String symbol) {
+            return leverages.getOrDefault(symbol, DEFAULT_LEVERAGE);
+        }
+
+        /**
+         * 지갑 잔고 - 포지션 증거금 - 미체결 주문 증거금 (미실현 손익은 반영하지 않습니다.)
+         */
+        BigDecimal availableBalance() {
+            BigDecimal used = BigDecimal.ZERO;
+            for (Map.Entry<String, Position> entry : positions.entrySet()) {
+                Position position = entry.getValue();
+                used = used.add(position.amount.abs().multiply(position.entryPrice)
+                        .divide(BigDecimal.valueOf(leverage(entry.getKey())), 8, RoundingMode.UP));
+            }
+            for (Order order : openOrders.values()) {
+                if (!order.reduceOnly) {
+                    used = used.add(order.remaining().multiply(order.price)
+                            .divide(BigDecimal.valueOf(leverage(order.symbol)), 8, RoundingMode.UP));
+                }
+            }
+            return walletBalance.subtract(used).max(BigDecimal.ZERO);
+        }
+
+        void applyFill(String symbol, boolean buy, BigDecimal quantity, BigDecimal price, BigDecimal feeRate) {
+            Position position = position(symbol);
+            BigDecimal delta = buy ? quantity : quantity.negate();
+            BigDecimal amount = position.amount;
+
+            if (amount.signum() == 0 || amount.signum() == delta.signum()) {
+                BigDecimal total = amount.abs().add(quantity);
+                position.entryPrice = amount.abs().multiply(position.entryPrice).add(quantity.multiply(price))
+                        .divide(total, 8, RoundingMode.HALF_UP);
+            } else {
+                BigDecimal closed = quantity.min(amount.abs());
+                BigDecimal pnl = price.subtract(position.entryPrice).multiply(closed)
+                        .multiply(BigDecimal.valueOf(amount.signum()));
+                walletBalance = walletBalance.add(pnl);
+                if (quantity.compareTo(amount.abs()) > 0) {
+                    position.entryPrice = price; // 반대 방향으로 전환
+                }
+            }
+            position.amount = amount.add(delta);
+            if (position.amount.signum() == 0) {
+                position.entryPrice = BigDecimal.ZERO;
+            }
+            walletBalance = walletBalance.subtract(quantity.multiply(price).multiply(feeRate));
+        }
+    }
+
+    static final class Position {
+        BigDecimal amount = BigDecimal.ZERO;
+        BigDecimal entryPrice = BigDecimal.ZERO;
+    }
+
+    /**
+     * 시뮬레이터 주문 (변경은 해당 심볼 호가 잠금 안에서만 일어납니다.)
+     */
+    static final class Order {
+
+        final long orderId;
+        final String symbol;
+        final String clientOrderId;
+        final String side;
+        final BigDecimal price;
+        final BigDecimal origQty;
+        final boolean reduceOnly;
+        final long time;
+        final Account account;
+
+        volatile BigDecimal executedQty = BigDecimal.ZERO;
+        volatile BigDecimal cumQuote = BigDecimal.ZERO;
+        volatile String status = "NEW";
+        volatile long updateTime;
+
+        Order(long orderId, String symbol, String clientOrderId, String side, BigDecimal price, BigDecimal origQty,
+              boolean reduceOnly, Account account) {
+            this.orderId = orderId;
+            this.symbol = symbol;
+            this.clientOrderId = clientOrderId;
+            this.side = side;
+            this.price = price;
+            this.origQty = origQty;
+            this.reduceOnly = reduceOnly;
+            this.account = account;
+            this.time = System.currentTimeMillis();
+            this.updateTime = time;
+        }
+
+        boolean isBuy() {
+            return "BUY".equals(side);
+        }
+
+        boolean isClosed() {
+            return "FILLED".equals(status) || "CANCELED".equals(status) || "EXPIRED".equals(status);
+        }
+
+        BigDecimal remaining() {
+            return origQty.subtract(executedQty);
+        }
+
+        BigDecimal avgPrice() {
+            return executedQty.signum() == 0 ? BigDecimal.ZERO : cumQuote.divide(executedQty, 8, RoundingMode.HALF_UP);
+        }
+    }
+}
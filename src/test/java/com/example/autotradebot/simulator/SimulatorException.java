@@ -0,0 +1,28 @@
+package com.example.autotradebot.simulator;
+
+/**
+ * 시뮬레이터 오류 응답 (바이낸스 오류 형식 {"code": ..., "msg": ...}으로 변환됩니다.)
+ */
+class SimulatorException extends RuntimeException {
+
+    private final int status;
+    private final int code;
+
+    SimulatorException(int status, int code, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+    }
+
+    static SimulatorException badRequest(int code, String message) {
+        return new SimulatorException(400, code, message);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    int getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.autotradebot.simulator;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 바이낸스 선물 시뮬레이터 설정
+ * <p>
+ * 모든 값은 system property("simulator.*")로 덮어쓸 수 있습니다. (예: -Dsimulator.latency-ms=20)
+ */
+public class SimulatorOptions {
+
+    private int port = 0;                          // 0이면 임의 포트
+    private long latencyMs = 5L;                   // 응답 기본 지연
+    private long latencyJitterMs = 5L;             // 응답 지연 편차 (0 ~ jitter 무작위 추가)
+    private double errorRate = 0.0;                // 5xx(-1001) 응답 비율
+    private double timeoutRate = 0.0;              // 응답하지 않는(타임아웃 유도) 요청 비율
+    private long timeoutMs = 30_000L;              // 타임아웃 유도 요청의 응답 지연
+    private int weightPerMinute = 2400;            // IP 기준 1분 weight 한도 (초과 시 429)
+    private int ordersPer10s = 300;                // 계정 기준 10초 주문 한도
+    private int ordersPerMinute = 1200;            // 계정 기준 1분 주문 한도
+    private long recvWindowMs = 5000L;             // 서명 요청 timestamp 허용 범위
+    private BigDecimal initialBalance = new BigDecimal("10000");  // 자동 생성 계정의 초기 USDT 잔고
+    private BigDecimal feeRate = new BigDecimal("0.0004");        // 체결 수수료율
+    private long tickIntervalMs = 100L;            // 가격 이동 및 depth 이벤트 발행 주기
+    private int volatilityTicks = 2;               // tick마다 mid 가격이 움직이는 최대 tickSize 배수
+    private int marketMakerLevels = 20;            // 시장 조성자 호가 단계 수 (매수/매도 각각)
+    private BigDecimal marketMakerQty = new BigDecimal("5");      // 시장 조성자 호가 단계별 수량
+
+    /**
+     * 심볼별 기준 가격 (key: symbol)
+     */
+    private final Map<String, SymbolSpec> symbols = new LinkedHashMap<>();
+
+    public SimulatorOptions() {
+        symbol(new SymbolSpec("BTCUSDT", "0.10", "0.001", "0.001", "1000", "100", 2, 3, "60000"));
+        symbol(new SymbolSpec("ETHUSDT", "0.01", "0.001", "0.001", "10000", "20", 2, 3, "3000"));
+        symbol(new SymbolSpec("XRPUSDT", "0.0001", "0.1", "0.1", "10000000", "5", 4, 1, "0.5"));
+    }
+
+    /**
+     * system property("simulator.*")를 반영한 설정을 반환합니다.
+     */
+    public static SimulatorOptions fromSystemProperties() {
+        SimulatorOptions options = new SimulatorOptions();
+        options.port = Integer.getInteger("simulator.port", options.port);
+        options.latencyMs = Long.getLong("simulator.latency-ms", options.latencyMs);
+        options.latencyJitterMs = Long.getLong("simulator.latency-jitter-ms", options.latencyJitterMs);
+        options.errorRate = Double.parseDouble(System.getProperty("simulator.error-rate", String.valueOf(options.errorRate)));
+        options.timeoutRate = Double.parseDouble(System.getProperty("simulator.timeout-rate", String.valueOf(options.timeoutRate)));
+        options.timeoutMs = Long.getLong("simulator.timeout-ms", options.timeoutMs);
+        options.weightPerMinute = Integer.getInteger("simulator.weight-per-minute", options.weightPerMinute);
+        options.ordersPer10s = Integer.getInteger("simulator.orders-per-10s", options.ordersPer10s);
+        options.ordersPerMinute = Integer.getInteger("simulator.orders-per-minute", options.ordersPerMinute);
+        options.tickIntervalMs = Long.getLong("simulator.tick-interval-ms", options.tickIntervalMs);
+        String balance = System.getProperty("simulator.initial-balance");
+        if (balance != null) {
+            options.initialBalance = new BigDecimal(balance);
+        }
+        return options;
+    }
+
+    public SimulatorOptions symbol(SymbolSpec spec) {
+        symbols.put(spec.symbol(), spec);
+        return this;
+    }
+
+    public SimulatorOptions port(int port) {
+        this.port = port;
+        return this;
+    }
+
+    public SimulatorOptions latency(long latencyMs, long latencyJitterMs) {
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        return this;
+    }
+
+    public SimulatorOptions errorRate(double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public SimulatorOptions timeoutRate(double timeoutRate, long timeoutMs) {
+        this.timeoutRate = timeoutRate;
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
+    public SimulatorOptions weightPerMinute(int weightPerMinute) {
+        this.weightPerMinute = weightPerMinute;
+        return this;
+    }
+
+    public SimulatorOptions orderLimits(int ordersPer10s, int ordersPerMinute) {
+        this.ordersPer10s = ordersPer10s;
+        this.ordersPerMinute = ordersPerMinute;
+        return this;
+    }
+
+    public SimulatorOptions initialBalance(BigDecimal initialBalance) {
+        this.initialBalance = initialBalance;
+        return this;
+    }
+
+    public SimulatorOptions tickIntervalMs(long tickIntervalMs) {
+        this.tickIntervalMs = tickIntervalMs;
+        return this;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public long getLatencyJitterMs() {
+        return latencyJitterMs;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public int getWeightPerMinute() {
+        return weightPerMinute;
+    }
+
+    public int getOrdersPer10s() {
+        return ordersPer10s;
+    }
+
+    public int getOrdersPerMinute() {
+        return ordersPerMinute;
+    }
+
+    public long getRecvWindowMs() {
+        return recvWindowMs;
+    }
+
+    public BigDecimal getInitialBalance() {
+        return initialBalance;
+    }
+
+    public BigDecimal getFeeRate() {
+        return feeRate;
+    }
+
+    public long getTickIntervalMs() {
+        return tickIntervalMs;
+    }
+
+    public int getVolatilityTicks() {
+        return volatilityTicks;
+    }
+
+    public int getMarketMakerLevels() {
+        return marketMakerLevels;
+    }
+
+    public BigDecimal getMarketMakerQty() {
+        return marketMakerQty;
+    }
+
+    public Map<String, SymbolSpec> getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * 심볼 필터와 시작 가격
+     */
+    public record SymbolSpec(String symbol, BigDecimal tickSize, BigDecimal stepSize, BigDecimal minQty,
+                             BigDecimal maxQty, BigDecimal minNotional, int pricePrecision, int quantityPrecision,
+                             BigDecimal initialPrice) {
+
+        public SymbolSpec(String symbol, String tickSize, String stepSize, String minQty, String maxQty,
+                          String minNotional, int pricePrecision, int quantityPrecision, String initialPrice) {
+            this(symbol, new BigDecimal(tickSize), new BigDecimal(stepSize), new BigDecimal(minQty),
+                    new BigDecimal(maxQty), new BigDecimal(minNotional), pricePrecision, quantityPrecision,
+                    new BigDecimal(initialPrice));
+        }
+    }
+}